@@ -4,15 +4,30 @@ import java.util.ArrayList;
 import java.util.Map;
 import java.util.HashMap;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.File;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
+import model.Catalog;
+import model.CatalogSnapshot;
 import model.Recipe;
 import model.NutritionCalculator;
+import model.NutritionDatabase;
+import model.NutritionCache;
+import model.NutritionPrewarmer;
+import model.Log;
+import model.ResolutionReport;
 import model.JSONParser;
 import gui.UserInfoGUI;
 import gui.RecipeGUI;
 
 public class Main {
+  private static final String SNAPSHOT_FILE = "catalog-%08x.snapshot";
+  private static final String RESOLUTION_REPORT_FILE = "nutrition-resolution.txt";
   private static List<Recipe> recipes;
   private static UserInfoGUI userInfoGUI;
   private static RecipeGUI recipeGUI;
@@ -37,11 +52,75 @@ public class Main {
   }
 
   private static void initializeComponents() throws IOException {
-    // Initialize nutrition calculator
-    nutritionCalculator = new NutritionCalculator();
+    try {
+      // Load the whole catalog, from the binary snapshot when it is up to date
+      Path dataDir = findDataDirectory();
+      CatalogSnapshot.Loaded loaded = CatalogSnapshot.load(dataDir, snapshotFile(dataDir));
+      Catalog catalog = loaded.getCatalog();
+      catalog.install();
+
+      nutritionCalculator = new NutritionCalculator(catalog.getNutritionDatabase());
+      recipes = new ArrayList<>(catalog.getRecipes());
+      Log.info("Loaded catalog with " + recipes.size() + " recipes from: " + dataDir);
+      if (loaded.isRebuilt()) {
+        // The source files changed, so their ingredient names may no longer resolve
+        writeResolutionReportInBackground(Paths.get(System.getProperty("java.io.tmpdir"), RESOLUTION_REPORT_FILE));
+      }
+    } catch (IOException e) {
+      Log.warn("Error loading catalog, falling back to JSON files: " + e.getMessage());
+
+      // Initialize nutrition calculator
+      nutritionCalculator = new NutritionCalculator();
+
+      // Load recipes
+      loadRecipes();
+    }
+    // Recipe nutrition is calculated on first use; warm it up off the startup path
+    NutritionPrewarmer.getShared().prewarm(recipes);
+    Log.info("Nutrition data loads: " + NutritionDatabase.getLoadCount());
+    Log.debug(() -> NutritionCache.getShared().toString());
+  }
+
+  /**
+   * Places the snapshot in the temporary directory rather than next to the sources,
+   * named after the data directory so separate checkouts keep separate snapshots.
+   */
+  private static Path snapshotFile(Path dataDir) {
+    String name = String.format(SNAPSHOT_FILE, dataDir.toAbsolutePath().normalize().hashCode());
+    return Paths.get(System.getProperty("java.io.tmpdir"), name);
+  }
 
-    // Load recipes
-    loadRecipes();
+  private static void writeResolutionReportInBackground(Path reportFile) {
+    NutritionCalculator calculator = nutritionCalculator;
+    List<Recipe> catalogRecipes = List.copyOf(recipes);
+    Thread thread = new Thread(() -> {
+      ResolutionReport report = calculator.buildResolutionReport(catalogRecipes);
+      try {
+        report.writeTo(reportFile);
+        Log.info(() -> String.format("Nutrition resolution: %d unresolved, %d ambiguous ingredient names (see %s)",
+            report.getUnresolvedNames().size(), report.getAmbiguousNames().size(), reportFile));
+      } catch (IOException e) {
+        Log.warn("Error writing nutrition resolution report: " + e.getMessage());
+      }
+    }, "nutrition-resolution-report");
+    thread.setDaemon(true);
+    thread.setPriority(Thread.MIN_PRIORITY);
+    thread.start();
+  }
+
+  private static Path findDataDirectory() throws IOException {
+    // Try both possible paths due to nested folder structure
+    Path[] possiblePaths = {
+        Paths.get("src", "ingredientsSource"),
+        Paths.get("FinalProject_5004", "src", "ingredientsSource")
+    };
+
+    for (Path path : possiblePaths) {
+      if (Files.isDirectory(path)) {
+        return path.toAbsolutePath();
+      }
+    }
+    throw new IOException("Could not find the ingredientsSource directory");
   }
 
   private static void loadRecipes() throws IOException {
@@ -50,7 +129,7 @@ public class Main {
     // Get the current directory
     File currentDir = new File(".");
     String currentPath = currentDir.getAbsolutePath();
-    System.out.println("Starting directory for recipes: " + currentPath);
+    Log.debug(() -> "Starting directory for recipes: " + currentPath);
     
     // Try both possible paths due to nested folder structure
     String[] possiblePaths = {
@@ -65,27 +144,29 @@ public class Main {
     
     for (String path : possiblePaths) {
         File recipeFile = new File(path);
-        System.out.println("Trying to load recipes from: " + recipeFile.getAbsolutePath());
+        Log.debug(() -> "Trying to load recipes from: " + recipeFile.getAbsolutePath());
         
         if (recipeFile.exists()) {
-            try {
-                recipes = JSONParser.readRecipesFromFile(recipeFile.getAbsolutePath());
-                System.out.println("Successfully loaded " + recipes.size() + " recipes from: " + recipeFile.getAbsolutePath());
-                for (Recipe recipe : recipes) {
-                    System.out.println("Loaded recipe: " + recipe.getName() + 
+            // Recipes are built one at a time as the file is streamed
+            try (Stream<Recipe> stream = JSONParser.streamRecipesFromFile(recipeFile.getAbsolutePath())) {
+                recipes = stream
+                    .peek(recipe -> Log.debug(() -> "Loaded recipe: " + recipe.getName() + 
                                      " (Cuisine: " + recipe.getCuisine() + 
                                      ", Calories: " + recipe.getCalories() + 
-                                     ", Prep Time: " + recipe.getPrepTime() + " min)");
-                }
+                                     ", Prep Time: " + recipe.getPrepTime() + " min)"))
+                    .collect(Collectors.toList());
+                Log.info("Successfully loaded " + recipes.size() + " recipes from: " + recipeFile.getAbsolutePath());
                 fileFound = true;
                 break;
             } catch (IOException e) {
                 lastException = e;
-                System.err.println("Error reading file: " + e.getMessage());
-                e.printStackTrace();
+                Log.error("Error reading file: " + e.getMessage(), e);
+            } catch (UncheckedIOException e) {
+                lastException = e.getCause();
+                Log.error("Error reading file: " + e.getCause().getMessage(), e);
             }
         } else {
-            System.out.println("File not found at: " + recipeFile.getAbsolutePath());
+            Log.debug(() -> "File not found at: " + recipeFile.getAbsolutePath());
         }
     }
     
@@ -93,13 +174,13 @@ public class Main {
         String errorMsg = "Could not find or read recipes.json in any of the expected locations";
         if (lastException != null) {
             errorMsg += ": " + lastException.getMessage();
-            lastException.printStackTrace();
+            Log.error(errorMsg, lastException);
         }
         throw new IOException(errorMsg);
     }
 
     if (recipes.isEmpty()) {
-        System.out.println("Warning: No recipes were loaded from the file!");
+        Log.warn("Warning: No recipes were loaded from the file!");
     }
   }
 
@@ -109,11 +190,10 @@ public class Main {
     // Ensure we have recipes
     if (recipes == null || recipes.isEmpty()) {
         try {
-            System.out.println("Attempting to reload recipes...");
+            Log.info("Attempting to reload recipes...");
             loadRecipes();
         } catch (IOException e) {
-            System.err.println("Error loading recipes: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("Error loading recipes: " + e.getMessage(), e);
             JOptionPane.showMessageDialog(null,
                 "Error loading recipes: " + e.getMessage(),
                 "Error",
@@ -122,7 +202,7 @@ public class Main {
         }
     }
 
-    System.out.println("Showing Recipe GUI with " + recipes.size() + " recipes");
+    Log.info("Showing Recipe GUI with " + recipes.size() + " recipes");
     
     SwingUtilities.invokeLater(() -> {
       recipeGUI = new RecipeGUI(recipes, userData);
@@ -1,5 +1,7 @@
 package filters;
 
+import java.util.function.Predicate;
+
 import model.Recipe;
 
 /**
@@ -15,6 +17,9 @@ import model.Recipe;
  *   <li>"901+": Recipes with 901 or more calories</li>
  * </ul>
  * 
+ * <p>Any other bounds are accepted too, for example "250-480 kcal" or "&lt;= 400".
+ * See {@link IntRange}.
+ * 
  * <p>If the range is null, empty, or "All", the filter will match all recipes.
  * In case of any parsing errors, the filter will also match all recipes to ensure
  * no valid recipes are accidentally filtered out.
@@ -34,23 +39,26 @@ public class CalorieRangeFilter implements IRecipeFilter {
             return true;
         }
 
-        int calories = recipe.getCalories();
-        
-        try {
-            switch (range) {
-                case "0-300":
-                    return calories >= 0 && calories <= 300;
-                case "301-600":
-                    return calories >= 301 && calories <= 600;
-                case "601-900":
-                    return calories >= 601 && calories <= 900;
-                case "901+":
-                    return calories >= 901;
-                default:
-                    return true;
-            }
-        } catch (Exception e) {
-            return true; // In case of any parsing errors, don't filter out the recipe
+        return IntRange.parseOrAll(range).contains(recipe.getCalories());
+    }
+
+    /**
+     * Compiles the query's calorie range, so each recipe is checked with two comparisons.
+     *
+     * @param query The query
+     * @return Predicate for matching recipes, or null if the range is unrestricted
+     */
+    @Override
+    public Predicate<Recipe> compile(RecipeQuery query) {
+        IntRange range = query.getCalories();
+        if (range.isAll()) {
+            return null;
         }
+        int min = range.getMin();
+        int max = range.getMax();
+        return recipe -> {
+            int calories = recipe.getCalories();
+            return calories >= min && calories <= max;
+        };
     }
-} 
\ No newline at end of file
+}
@@ -1,17 +1,19 @@
 package filters;
 
+import java.util.function.Predicate;
+
 import model.Recipe;
 
 /**
  * A filter implementation that matches recipes based on their cuisine type.
- * This filter performs case-insensitive matching and supports partial matches
- * between the recipe's cuisine and the selected cuisine.
+ * This filter performs case-insensitive matching of the whole cuisine name,
+ * the same rule the query engine's cuisine facet uses.
  * 
- * <p>The filter is designed to be lenient in its matching:
+ * <p>Matching works as follows:
  * <ul>
  *   <li>It converts both the recipe's cuisine and the selected cuisine to lowercase</li>
  *   <li>It trims whitespace from both strings</li>
- *   <li>It considers a match if either string contains the other</li>
+ *   <li>It considers a match only if the two strings are equal</li>
  * </ul>
  * 
  * <p>If the cuisine is null, empty, or "All" (case-insensitive), the filter will
@@ -32,11 +34,22 @@ public class CuisineFilter implements IRecipeFilter {
             return true;
         }
 
-        String recipeCuisine = recipe.getCuisine().toLowerCase().trim();
+        return recipe.getCuisine().toLowerCase().trim().equals(cuisine.toLowerCase().trim());
+    }
+
+    /**
+     * Compiles the query's cuisine, lower-casing the selection once.
+     *
+     * @param query The query
+     * @return Predicate for matching recipes, or null if no cuisine is selected
+     */
+    @Override
+    public Predicate<Recipe> compile(RecipeQuery query) {
+        String cuisine = query.getCuisine();
+        if (cuisine == null || cuisine.isEmpty() || "All".equalsIgnoreCase(cuisine)) {
+            return null;
+        }
         String selectedCuisine = cuisine.toLowerCase().trim();
-        
-        // More lenient comparison - check if either contains the other
-        return recipeCuisine.contains(selectedCuisine) || 
-               selectedCuisine.contains(recipeCuisine);
+        return recipe -> recipe.getCuisine().toLowerCase().trim().equals(selectedCuisine);
     }
-} 
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package filters;
 
+import java.util.function.Predicate;
+
 import model.Recipe;
 
 /**
@@ -15,4 +17,19 @@ public interface IRecipeFilter {
      * @return true if the recipe matches the filter criteria, false otherwise
      */
     boolean matches(Recipe recipe, String filterValue);
+
+    /**
+     * Compiles this filter's criterion in a query into a predicate. Any parsing of
+     * the criterion happens here, once per query, rather than once per recipe.
+     *
+     * <p>A {@link RecipeQuery} only holds the criteria of the built-in filters, so by
+     * default a filter has nothing to read from it and does not restrict the query;
+     * such a filter is still applied through {@link #matches(Recipe, String)}.
+     *
+     * @param query The query to compile
+     * @return Predicate for matching recipes, or null if the query does not restrict this filter
+     */
+    default Predicate<Recipe> compile(RecipeQuery query) {
+        return null;
+    }
 } 
\ No newline at end of file
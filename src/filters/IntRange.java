@@ -0,0 +1,220 @@
+package filters;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An inclusive range of whole numbers, such as calories or minutes of preparation
+ * time, used as a typed filter criterion. Ranges are parsed once per query, so
+ * checking a recipe is two integer comparisons. Besides the fixed dropdown
+ * buckets ("301-600", "46+ min") any bounds can be given, for example
+ * "250-480 kcal", "&lt;= 20 min" or "&le; 20". Instances are immutable.
+ */
+public final class IntRange {
+    private static final IntRange ALL = new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    private static final Pattern UNIT = Pattern.compile("\\s*(min|mins|minutes|kcal|cal|calories)$");
+    private static final Pattern BETWEEN = Pattern.compile("(\\d+)\\s*(?:-|\\u2013|to)\\s*(\\d+)");
+    private static final Pattern OR_MORE = Pattern.compile("(\\d+)\\s*\\+");
+    private static final Pattern COMPARISON = Pattern.compile("(<=|>=|<|>|\\u2264|\\u2265)\\s*(\\d+)");
+    private static final Pattern EXACT = Pattern.compile("\\d+");
+
+    private final int min;
+    private final int max;
+
+    private IntRange(int min, int max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Gets the range that contains every value.
+     *
+     * @return Unbounded range
+     */
+    public static IntRange all() {
+        return ALL;
+    }
+
+    /**
+     * Creates a range between two bounds.
+     *
+     * @param min Lowest value, inclusive
+     * @param max Highest value, inclusive
+     * @return The range
+     * @throws IllegalArgumentException If min is greater than max
+     */
+    public static IntRange of(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Range minimum " + min + " is greater than maximum " + max);
+        }
+        return min == Integer.MIN_VALUE && max == Integer.MAX_VALUE ? ALL : new IntRange(min, max);
+    }
+
+    /**
+     * Creates a range with only a lower bound.
+     *
+     * @param min Lowest value, inclusive
+     * @return The range
+     */
+    public static IntRange atLeast(int min) {
+        return of(min, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a range with only an upper bound. Calories and preparation times are
+     * never negative, so the range starts at zero.
+     *
+     * @param max Highest value, inclusive
+     * @return The range
+     * @throws IllegalArgumentException If max is negative
+     */
+    public static IntRange atMost(int max) {
+        return of(0, max);
+    }
+
+    /**
+     * Parses a range such as "301-600", "16-30 min", "901+", "&lt;= 20 min" or "45".
+     * A trailing unit (min, minutes, kcal, cal, calories) is ignored, and reversed
+     * bounds such as "600-301" are swapped.
+     *
+     * @param text Range text; null, empty or "All" means every value
+     * @return The range
+     * @throws IllegalArgumentException If the text is not a range
+     */
+    public static IntRange parse(String text) {
+        if (text == null) {
+            return ALL;
+        }
+        String range = UNIT.matcher(text.trim().toLowerCase()).replaceFirst("").trim();
+        if (range.isEmpty() || "all".equals(range)) {
+            return ALL;
+        }
+        try {
+            Matcher matcher = BETWEEN.matcher(range);
+            if (matcher.matches()) {
+                // Bounds may be typed either way round, e.g. "480-250"
+                int first = Integer.parseInt(matcher.group(1));
+                int second = Integer.parseInt(matcher.group(2));
+                return of(Math.min(first, second), Math.max(first, second));
+            }
+            matcher = OR_MORE.matcher(range);
+            if (matcher.matches()) {
+                return atLeast(Integer.parseInt(matcher.group(1)));
+            }
+            matcher = COMPARISON.matcher(range);
+            if (matcher.matches()) {
+                int bound = Integer.parseInt(matcher.group(2));
+                switch (matcher.group(1)) {
+                    case "<":
+                        if (bound == 0) {
+                            throw new IllegalArgumentException("No values are below 0: " + text);
+                        }
+                        return atMost(bound - 1);
+                    case ">":
+                        if (bound == Integer.MAX_VALUE) {
+                            throw new IllegalArgumentException("No values are above " + bound + ": " + text);
+                        }
+                        return atLeast(bound + 1);
+                    case ">=":
+                    case "\u2265":
+                        return atLeast(bound);
+                    default:
+                        return atMost(bound);
+                }
+            }
+            if (EXACT.matcher(range).matches()) {
+                int value = Integer.parseInt(range);
+                return of(value, value);
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the error below
+        }
+        throw new IllegalArgumentException("Invalid range: " + text);
+    }
+
+    /**
+     * Parses a range, treating anything that is not a range as every value, so
+     * no recipes are filtered out by a criterion that cannot be understood.
+     *
+     * @param text Range text
+     * @return The range, or {@link #all()} if the text is not a range
+     */
+    public static IntRange parseOrAll(String text) {
+        try {
+            return parse(text);
+        } catch (IllegalArgumentException e) {
+            return ALL;
+        }
+    }
+
+    /**
+     * Gets the lower bound.
+     *
+     * @return Lowest value, inclusive
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Gets the upper bound.
+     *
+     * @return Highest value, inclusive
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Checks whether a value lies within the range.
+     *
+     * @param value The value
+     * @return True if min &lt;= value &lt;= max
+     */
+    public boolean contains(int value) {
+        return value >= min && value <= max;
+    }
+
+    /**
+     * Checks whether the range contains every value.
+     *
+     * @return True if the range has no bounds
+     */
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntRange)) {
+            return false;
+        }
+        IntRange other = (IntRange) o;
+        return min == other.min && max == other.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * min + max;
+    }
+
+    /**
+     * Returns the range in the form {@link #parse(String)} accepts.
+     *
+     * @return Text such as "250-480", "901+" or "All"
+     */
+    @Override
+    public String toString() {
+        if (isAll()) {
+            return "All";
+        }
+        if (max == Integer.MAX_VALUE) {
+            return min + "+";
+        }
+        return min + "-" + max;
+    }
+}
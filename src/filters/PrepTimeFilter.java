@@ -1,5 +1,7 @@
 package filters;
 
+import java.util.function.Predicate;
+
 import model.Recipe;
 
 /**
@@ -15,6 +17,9 @@ import model.Recipe;
  *   <li>"46+ min": Recipes that take 46 or more minutes to prepare</li>
  * </ul>
  * 
+ * <p>Any other bounds are accepted too, for example "10-20 min" or "&lt;= 20 min".
+ * See {@link IntRange}.
+ * 
  * <p>If the range is null, empty, or "All", the filter will match all recipes.
  * In case of any parsing errors, the filter will also match all recipes to ensure
  * no valid recipes are accidentally filtered out.
@@ -34,23 +39,26 @@ public class PrepTimeFilter implements IRecipeFilter {
             return true;
         }
 
-        int prepTime = recipe.getPrepTime();
-        
-        try {
-            switch (range) {
-                case "0-15 min":
-                    return prepTime >= 0 && prepTime <= 15;
-                case "16-30 min":
-                    return prepTime >= 16 && prepTime <= 30;
-                case "31-45 min":
-                    return prepTime >= 31 && prepTime <= 45;
-                case "46+ min":
-                    return prepTime >= 46;
-                default:
-                    return true;
-            }
-        } catch (Exception e) {
-            return true; // In case of any parsing errors, don't filter out the recipe
+        return IntRange.parseOrAll(range).contains(recipe.getPrepTime());
+    }
+
+    /**
+     * Compiles the query's preparation time range, so each recipe is checked with two comparisons.
+     *
+     * @param query The query
+     * @return Predicate for matching recipes, or null if the range is unrestricted
+     */
+    @Override
+    public Predicate<Recipe> compile(RecipeQuery query) {
+        IntRange range = query.getPrepTime();
+        if (range.isAll()) {
+            return null;
         }
+        int min = range.getMin();
+        int max = range.getMax();
+        return recipe -> {
+            int prepTime = recipe.getPrepTime();
+            return prepTime >= min && prepTime <= max;
+        };
     }
-} 
\ No newline at end of file
+}
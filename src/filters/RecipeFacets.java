@@ -0,0 +1,366 @@
+package filters;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import model.Recipe;
+
+/**
+ * Faceted filtering over recipes with one bitmap per facet value: cuisine, calorie
+ * bucket, preparation time bucket and flavor tag. A query selects values per facet;
+ * values of one facet are combined with OR and facets with AND, so a query is a few
+ * word-wise ORs and ANDs over {@code (N + 63) / 64} longs.
+ *
+ * <p>Each result also counts, for every value of every facet, how many recipes the
+ * query would return with that facet's own selection replaced by that value. These
+ * are the counts to show next to each choice, for example "Italian (1,243)".
+ *
+ * <p>Recipe ids are those of the {@link RecipeRangeIndex} the facets are built from.
+ * Cuisine and tag values are lower-cased and trimmed. Instances are immutable.
+ */
+public final class RecipeFacets {
+    /**
+     * The calorie buckets offered in the recipe browser.
+     */
+    public static final List<IntRange> CALORIE_BUCKETS = List.of(
+        IntRange.of(0, 300), IntRange.of(301, 600), IntRange.of(601, 900), IntRange.atLeast(901));
+
+    /**
+     * The preparation time buckets offered in the recipe browser, in minutes.
+     */
+    public static final List<IntRange> PREP_TIME_BUCKETS = List.of(
+        IntRange.of(0, 15), IntRange.of(16, 30), IntRange.of(31, 45), IntRange.atLeast(46));
+
+    /**
+     * The facets recipes are grouped by.
+     */
+    public enum Facet {
+        CUISINE, CALORIES, PREP_TIME, FLAVOR_TAG
+    }
+
+    private final RecipeRangeIndex index;
+    private final int size;
+    private final int wordCount;
+    private final long[] allWords;
+    private final AtomicReferenceArray<Map<String, long[]>> bitmaps =
+        new AtomicReferenceArray<>(Facet.values().length);
+
+    private RecipeFacets(RecipeRangeIndex index) {
+        this.index = index;
+        this.size = index.size();
+        this.wordCount = (size + 63) >>> 6;
+        this.allWords = new long[wordCount];
+        Arrays.fill(allWords, -1L);
+        if ((size & 63) != 0) {
+            allWords[wordCount - 1] = (1L << (size & 63)) - 1;
+        }
+    }
+
+    /**
+     * Creates facets over the recipes of a range index. Each facet's bitmaps are
+     * built on its first use; bucket bitmaps come straight from the index's sorted
+     * calorie and preparation time arrays, so selecting a cuisine does not
+     * calculate every recipe's calories.
+     *
+     * @param index Range index over the recipes
+     * @return Facets over the same recipe ids
+     * @throws IllegalArgumentException If index is null
+     */
+    public static RecipeFacets of(RecipeRangeIndex index) {
+        if (index == null) {
+            throw new IllegalArgumentException("Range index cannot be null");
+        }
+        return new RecipeFacets(index);
+    }
+
+    /**
+     * Gets the number of recipes.
+     *
+     * @return Number of recipes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the values of a facet. Calorie and preparation time buckets are named as
+     * their {@link IntRange}, for example "301-600" or "46+".
+     *
+     * @param facet The facet
+     * @return Values in sorted order for cuisines and tags, bucket order for ranges
+     */
+    public List<String> getValues(Facet facet) {
+        return List.copyOf(bitmaps(facet).keySet());
+    }
+
+    /**
+     * Gets the recipes with a facet value.
+     *
+     * @param facet The facet
+     * @param value The value
+     * @return Set bits for matching recipe ids; empty if the value is unknown
+     */
+    public BitSet get(Facet facet, String value) {
+        long[] words = bitmaps(facet).get(keyOf(facet, value));
+        return words != null ? BitSet.valueOf(words) : new BitSet();
+    }
+
+    /**
+     * Runs a query over every recipe.
+     *
+     * @param selections Selected values per facet; facets without values are not restricted
+     * @return Matches and facet counts
+     */
+    public Result query(Map<Facet, ? extends Collection<String>> selections) {
+        return query(selections, null);
+    }
+
+    /**
+     * Runs a query over some of the recipes, for example those matching a text search.
+     *
+     * @param selections Selected values per facet; facets without values are not restricted
+     * @param within Recipe ids to consider, or null for every recipe
+     * @return Matches and facet counts
+     */
+    public Result query(Map<Facet, ? extends Collection<String>> selections, BitSet within) {
+        Map<Facet, long[]> selected = new EnumMap<>(Facet.class);
+        for (Map.Entry<Facet, ? extends Collection<String>> entry : selections.entrySet()) {
+            if (entry.getValue() == null || entry.getValue().isEmpty()) {
+                continue;
+            }
+            Map<String, long[]> values = bitmaps(entry.getKey());
+            long[] union = new long[wordCount];
+            for (String value : entry.getValue()) {
+                long[] words = values.get(keyOf(entry.getKey(), value));
+                if (words != null) {
+                    for (int i = 0; i < wordCount; i++) {
+                        union[i] |= words[i];
+                    }
+                }
+            }
+            selected.put(entry.getKey(), union);
+        }
+        return query(selected, base(within));
+    }
+
+    /**
+     * Runs a query whose selections are given as recipe ids, for example a calorie
+     * range that is not one of the buckets. Counts are still per facet value.
+     *
+     * @param selected Recipe ids selected per facet; facets without an entry are not restricted
+     * @param within Recipe ids to consider, or null for every recipe
+     * @return Matches and facet counts
+     */
+    public Result queryIds(Map<Facet, BitSet> selected, BitSet within) {
+        Map<Facet, long[]> words = new EnumMap<>(Facet.class);
+        for (Map.Entry<Facet, BitSet> entry : selected.entrySet()) {
+            if (entry.getValue() != null) {
+                long[] ids = allWords.clone();
+                and(ids, entry.getValue());
+                words.put(entry.getKey(), ids);
+            }
+        }
+        return query(words, base(within));
+    }
+
+    private Result query(Map<Facet, long[]> selected, long[] base) {
+        long[] matches = base.clone();
+        for (long[] union : selected.values()) {
+            and(matches, union);
+        }
+
+        Map<Facet, Map<String, Integer>> counts = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            // Count against every selection but this facet's own
+            long[] others = matches;
+            if (selected.containsKey(facet)) {
+                others = base.clone();
+                for (Map.Entry<Facet, long[]> entry : selected.entrySet()) {
+                    if (entry.getKey() != facet) {
+                        and(others, entry.getValue());
+                    }
+                }
+            }
+            counts.put(facet, countValues(facet, others));
+        }
+        return new Result(BitSet.valueOf(matches), counts);
+    }
+
+    /**
+     * Counts how many of some recipes have each value of a facet.
+     *
+     * @param facet The facet
+     * @param within Recipe ids to count, or null for every recipe
+     * @return Unmodifiable map of value to count, in {@link #getValues(Facet)} order
+     */
+    public Map<String, Integer> count(Facet facet, BitSet within) {
+        return countValues(facet, within != null ? base(within) : allWords);
+    }
+
+    /**
+     * Gets the key a value is stored and counted under: the {@link IntRange} text for
+     * buckets, so "16-30 min" finds "16-30", and the lower-cased, trimmed value otherwise.
+     *
+     * @param facet The facet
+     * @param value A value as shown to users
+     * @return Key as used by {@link #getValues(Facet)} and the counts
+     */
+    public static String keyOf(Facet facet, String value) {
+        if (facet == Facet.CALORIES || facet == Facet.PREP_TIME) {
+            return IntRange.parseOrAll(value).toString();
+        }
+        return normalize(value);
+    }
+
+    private long[] base(BitSet within) {
+        long[] base = allWords.clone();
+        if (within != null) {
+            and(base, within);
+        }
+        return base;
+    }
+
+    /**
+     * Gets a facet's bitmaps, building them on first use.
+     */
+    private Map<String, long[]> bitmaps(Facet facet) {
+        Map<String, long[]> values = bitmaps.get(facet.ordinal());
+        if (values == null) {
+            values = toWords(build(facet));
+            if (!bitmaps.compareAndSet(facet.ordinal(), null, values)) {
+                values = bitmaps.get(facet.ordinal()); // Built concurrently; both are equal
+            }
+        }
+        return values;
+    }
+
+    private Map<String, BitSet> build(Facet facet) {
+        switch (facet) {
+            case CALORIES:
+                return buckets(RecipeRangeIndex.Attribute.CALORIES, CALORIE_BUCKETS);
+            case PREP_TIME:
+                return buckets(RecipeRangeIndex.Attribute.PREP_TIME, PREP_TIME_BUCKETS);
+            default:
+                Map<String, BitSet> values = new TreeMap<>();
+                for (int id = 0; id < size; id++) {
+                    Recipe recipe = index.get(id);
+                    if (facet == Facet.CUISINE) {
+                        add(values, recipe.getCuisine(), id);
+                    } else {
+                        for (String tag : recipe.getFlavorTags()) {
+                            add(values, tag, id);
+                        }
+                    }
+                }
+                return values;
+        }
+    }
+
+    private void add(Map<String, BitSet> values, String value, int id) {
+        if (value != null) {
+            values.computeIfAbsent(normalize(value), key -> new BitSet(size)).set(id);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase().trim();
+    }
+
+    private Map<String, BitSet> buckets(RecipeRangeIndex.Attribute attribute, List<IntRange> ranges) {
+        Map<String, BitSet> buckets = new LinkedHashMap<>();
+        for (IntRange range : ranges) {
+            buckets.put(range.toString(), index.matching(attribute, range));
+        }
+        return buckets;
+    }
+
+    private Map<String, long[]> toWords(Map<String, BitSet> bitSets) {
+        Map<String, long[]> words = new LinkedHashMap<>();
+        for (Map.Entry<String, BitSet> entry : bitSets.entrySet()) {
+            long[] padded = new long[wordCount];
+            long[] raw = entry.getValue().toLongArray();
+            System.arraycopy(raw, 0, padded, 0, raw.length);
+            words.put(entry.getKey(), padded);
+        }
+        return Collections.unmodifiableMap(words);
+    }
+
+    private Map<String, Integer> countValues(Facet facet, long[] base) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> value : bitmaps(facet).entrySet()) {
+            counts.put(value.getKey(), andCardinality(base, value.getValue()));
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private static void and(long[] target, BitSet other) {
+        long[] words = other.toLongArray();
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= i < words.length ? words[i] : 0L;
+        }
+    }
+
+    private static void and(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= other[i];
+        }
+    }
+
+    private static int andCardinality(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    /**
+     * The recipes matching a facet query, with counts for every facet value.
+     */
+    public static final class Result {
+        private final BitSet matches;
+        private final Map<Facet, Map<String, Integer>> counts;
+
+        Result(BitSet matches, Map<Facet, Map<String, Integer>> counts) {
+            this.matches = matches;
+            this.counts = counts;
+        }
+
+        /**
+         * Gets the matching recipe ids.
+         *
+         * @return Set bits for matching recipe ids; a copy
+         */
+        public BitSet getMatches() {
+            return (BitSet) matches.clone();
+        }
+
+        /**
+         * Gets the number of matching recipes.
+         *
+         * @return Number of matches
+         */
+        public int getCount() {
+            return matches.cardinality();
+        }
+
+        /**
+         * Gets how many recipes each value of a facet would give, with the other
+         * facets' selections applied.
+         *
+         * @param facet The facet
+         * @return Unmodifiable map of value to count, in {@link RecipeFacets#getValues(Facet)} order
+         */
+        public Map<String, Integer> getCounts(Facet facet) {
+            return counts.get(facet);
+        }
+    }
+}
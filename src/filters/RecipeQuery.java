@@ -0,0 +1,97 @@
+package filters;
+
+/**
+ * All the criteria of one recipe search: the search text and the selected cuisine,
+ * calorie range and preparation time range. Each {@link IRecipeFilter} reads its own
+ * criterion from the query when it is compiled, so a query is parsed once and then
+ * checked against every recipe in a single pass. Ranges are held as typed
+ * {@link IntRange IntRanges} with any bounds. Null, empty or "All" criteria do not
+ * restrict the results. Instances are immutable.
+ */
+public final class RecipeQuery {
+    private static final RecipeQuery ALL = new RecipeQuery(null, null, IntRange.all(), IntRange.all());
+
+    private final String searchText;
+    private final String cuisine;
+    private final IntRange calories;
+    private final IntRange prepTime;
+
+    /**
+     * Creates a query from range text, as selected or typed in the recipe browser.
+     * Range text that cannot be parsed does not restrict the results.
+     *
+     * @param searchText Text to search for, or null
+     * @param cuisine Cuisine to match (e.g., "italian"), or null
+     * @param calorieRange Calorie range (e.g., "301-600" or "250-480 kcal"), or null
+     * @param prepTimeRange Preparation time range (e.g., "16-30 min" or "&lt;= 20 min"), or null
+     */
+    public RecipeQuery(String searchText, String cuisine, String calorieRange, String prepTimeRange) {
+        this(searchText, cuisine, IntRange.parseOrAll(calorieRange), IntRange.parseOrAll(prepTimeRange));
+    }
+
+    /**
+     * Creates a query with typed ranges.
+     *
+     * @param searchText Text to search for, or null
+     * @param cuisine Cuisine to match (e.g., "italian"), or null
+     * @param calories Calorie range, or null for any
+     * @param prepTime Preparation time range in minutes, or null for any
+     */
+    public RecipeQuery(String searchText, String cuisine, IntRange calories, IntRange prepTime) {
+        this.searchText = searchText;
+        this.cuisine = cuisine;
+        this.calories = calories != null ? calories : IntRange.all();
+        this.prepTime = prepTime != null ? prepTime : IntRange.all();
+    }
+
+    /**
+     * Gets the query that matches every recipe.
+     *
+     * @return Query without criteria
+     */
+    public static RecipeQuery all() {
+        return ALL;
+    }
+
+    /**
+     * Gets the search text.
+     *
+     * @return Search text, or null
+     */
+    public String getSearchText() {
+        return searchText;
+    }
+
+    /**
+     * Gets the selected cuisine.
+     *
+     * @return Cuisine, or null
+     */
+    public String getCuisine() {
+        return cuisine;
+    }
+
+    /**
+     * Gets the calorie range.
+     *
+     * @return Calorie range; {@link IntRange#all()} if unrestricted
+     */
+    public IntRange getCalories() {
+        return calories;
+    }
+
+    /**
+     * Gets the preparation time range.
+     *
+     * @return Preparation time range in minutes; {@link IntRange#all()} if unrestricted
+     */
+    public IntRange getPrepTime() {
+        return prepTime;
+    }
+
+    @Override
+    public String toString() {
+        return "RecipeQuery[text=" + searchText + ", cuisine=" + cuisine
+            + ", calories=" + calories + ", prepTime=" + prepTime + "]";
+    }
+}
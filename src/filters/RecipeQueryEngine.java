@@ -0,0 +1,257 @@
+package filters;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import model.Recipe;
+
+/**
+ * Runs {@link RecipeQuery RecipeQueries} over a fixed list of recipes. Each query is
+ * compiled once: the search text is resolved through a {@link RecipeTextIndex} to
+ * the candidate recipes, the cuisine through the {@link RecipeFacets} cuisine
+ * bitmaps, the calorie and preparation time ranges through a
+ * {@link RecipeRangeIndex}, and any further filters are compiled to predicates,
+ * skipping any the query does not restrict. The candidates are then checked
+ * against every predicate in a single pass, without intermediate lists.
+ * Results keep the order of the recipe list.
+ *
+ * <p>A cuisine matches recipes whose cuisine is the same, ignoring case and
+ * surrounding spaces, so results agree with the cuisine facet counts.
+ *
+ * <p>The indexes other than the text index are built on first use rather than
+ * when the engine is created.
+ */
+public final class RecipeQueryEngine {
+    private final List<Recipe> recipes;
+    private final RecipeTextIndex textIndex;
+    private final List<IRecipeFilter> filters;
+    private volatile RecipeRangeIndex rangeIndex;
+    private volatile RecipeFacets facets;
+
+    /**
+     * Creates an engine over recipes.
+     *
+     * @param recipes Recipes to search
+     */
+    public RecipeQueryEngine(List<Recipe> recipes) {
+        this(recipes, List.of());
+    }
+
+    /**
+     * Creates an engine over recipes with the given filters in addition to the
+     * text search, the cuisine and the calorie and preparation time ranges.
+     *
+     * @param recipes Recipes to search
+     * @param filters Filters applied after the indexed criteria, in order
+     */
+    public RecipeQueryEngine(List<Recipe> recipes, List<IRecipeFilter> filters) {
+        if (recipes == null || filters == null) {
+            throw new IllegalArgumentException("Recipes and filters cannot be null");
+        }
+        this.recipes = new ArrayList<>(recipes);
+        this.textIndex = RecipeTextIndex.of(this.recipes);
+        this.filters = Collections.unmodifiableList(new ArrayList<>(filters));
+    }
+
+    /**
+     * Compiles filters against a query into one predicate that checks them in order.
+     * Filters the query does not restrict are left out.
+     *
+     * @param filters Filters to compile
+     * @param query The query
+     * @return Predicate accepting recipes that pass every filter
+     */
+    public static Predicate<Recipe> compile(List<IRecipeFilter> filters, RecipeQuery query) {
+        List<Predicate<Recipe>> compiled = new ArrayList<>();
+        for (IRecipeFilter filter : filters) {
+            Predicate<Recipe> predicate = filter.compile(query);
+            if (predicate != null) {
+                compiled.add(predicate);
+            }
+        }
+        if (compiled.isEmpty()) {
+            return recipe -> true;
+        }
+        if (compiled.size() == 1) {
+            return compiled.get(0);
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Predicate<Recipe>[] checks = compiled.toArray(new Predicate[0]);
+        return recipe -> {
+            for (Predicate<Recipe> check : checks) {
+                if (!check.test(recipe)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Finds the recipes matching every criterion of a query.
+     *
+     * @param query The query
+     * @return Matching recipes, in recipe list order
+     */
+    public List<Recipe> run(RecipeQuery query) {
+        List<Recipe> result = new ArrayList<>();
+        forEachMatch(query, id -> result.add(textIndex.get(id)));
+        return result;
+    }
+
+    /**
+     * Finds the ids of the recipes matching every criterion of a query, for
+     * combining with {@link RecipeFacets}.
+     *
+     * @param query The query
+     * @return Set bits for matching recipe ids
+     */
+    public BitSet matching(RecipeQuery query) {
+        BitSet result = new BitSet(textIndex.size());
+        forEachMatch(query, result::set);
+        return result;
+    }
+
+    /**
+     * Counts the recipes per value of the cuisine, calorie, preparation time and
+     * flavor tag facets. Each facet is counted with every criterion of the query
+     * except its own, so the counts show what choosing another value would give.
+     * The text search and any further filters narrow the recipes counted, and the
+     * facets are counted together in one pass over their bitmaps.
+     *
+     * @param query The query
+     * @return Counts per facet, each in {@link RecipeFacets#getValues} order
+     */
+    public Map<RecipeFacets.Facet, Map<String, Integer>> facetCounts(RecipeQuery query) {
+        RecipeFacets.Result result = getFacets().queryIds(selections(query), candidates(query));
+        Map<RecipeFacets.Facet, Map<String, Integer>> counts = new EnumMap<>(RecipeFacets.Facet.class);
+        for (RecipeFacets.Facet facet : RecipeFacets.Facet.values()) {
+            counts.put(facet, result.getCounts(facet));
+        }
+        return counts;
+    }
+
+    private void forEachMatch(RecipeQuery query, IntConsumer action) {
+        Predicate<Recipe> predicate = compile(filters, query);
+        BitSet selected = null;
+        for (BitSet ids : selections(query).values()) {
+            if (selected == null) {
+                selected = ids;
+            } else {
+                selected.and(ids);
+            }
+        }
+        String searchText = query.getSearchText();
+        if (selected != null && (searchText == null || searchText.trim().isEmpty())) {
+            // Only the indexed criteria narrow the search, so walk their matches in id order
+            for (int id = selected.nextSetBit(0); id >= 0; id = selected.nextSetBit(id + 1)) {
+                if (predicate.test(textIndex.get(id))) {
+                    action.accept(id);
+                }
+            }
+            return;
+        }
+        for (int id : textIndex.search(searchText)) {
+            if ((selected == null || selected.get(id)) && predicate.test(textIndex.get(id))) {
+                action.accept(id);
+            }
+        }
+    }
+
+    /**
+     * Finds the recipes matching the search text and any further filters, which
+     * facet counts are taken within.
+     *
+     * @return Set bits for matching recipe ids, or null if neither restricts the query
+     */
+    private BitSet candidates(RecipeQuery query) {
+        Predicate<Recipe> predicate = filters.isEmpty() ? null : compile(filters, query);
+        String searchText = query.getSearchText();
+        if (predicate == null && (searchText == null || searchText.trim().isEmpty())) {
+            return null;
+        }
+        BitSet result = new BitSet(textIndex.size());
+        for (int id : textIndex.search(searchText)) {
+            if (predicate == null || predicate.test(textIndex.get(id))) {
+                result.set(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds, for each facet the query restricts, the recipes with its cuisine or
+     * within its calorie or preparation time range.
+     *
+     * @return Set bits for matching recipe ids, by facet
+     */
+    private Map<RecipeFacets.Facet, BitSet> selections(RecipeQuery query) {
+        Map<RecipeFacets.Facet, BitSet> selected = new EnumMap<>(RecipeFacets.Facet.class);
+        String cuisine = query.getCuisine();
+        if (cuisine != null && !cuisine.trim().isEmpty() && !"All".equalsIgnoreCase(cuisine.trim())) {
+            selected.put(RecipeFacets.Facet.CUISINE, getFacets().get(RecipeFacets.Facet.CUISINE, cuisine));
+        }
+        if (!query.getCalories().isAll()) {
+            selected.put(RecipeFacets.Facet.CALORIES,
+                getRangeIndex().matching(RecipeRangeIndex.Attribute.CALORIES, query.getCalories()));
+        }
+        if (!query.getPrepTime().isAll()) {
+            selected.put(RecipeFacets.Facet.PREP_TIME,
+                getRangeIndex().matching(RecipeRangeIndex.Attribute.PREP_TIME, query.getPrepTime()));
+        }
+        return selected;
+    }
+
+    /**
+     * Gets the range index, building it on first use.
+     *
+     * @return Range index over the same recipe ids as the text index
+     */
+    public RecipeRangeIndex getRangeIndex() {
+        RecipeRangeIndex index = rangeIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = rangeIndex;
+                if (index == null) {
+                    index = RecipeRangeIndex.of(recipes);
+                    rangeIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the facet bitmaps, building them, and the range index, on first use.
+     *
+     * @return Facets over the same recipe ids as the text index
+     */
+    public RecipeFacets getFacets() {
+        RecipeFacets result = facets;
+        if (result == null) {
+            synchronized (this) {
+                result = facets;
+                if (result == null) {
+                    result = RecipeFacets.of(getRangeIndex());
+                    facets = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of recipes searched.
+     *
+     * @return Number of recipes
+     */
+    public int size() {
+        return textIndex.size();
+    }
+}
@@ -0,0 +1,439 @@
+package filters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import model.NutritionInfo;
+import model.Recipe;
+
+/**
+ * Sorted indexes over the numeric attributes of recipes: calories, preparation
+ * time, total price and grams of each macronutrient. For every attribute the
+ * recipes are kept as two parallel primitive arrays, values in ascending order
+ * and the matching recipe ids, so a range query is two binary searches followed
+ * by a copy of the ids in between, O(log N + k). A recipe's id is its position in
+ * the indexed list, as in {@link RecipeTextIndex}.
+ *
+ * <p>Each attribute's arrays are built on its first query, so creating an index
+ * reads nothing and attributes that are never queried, such as price, are never
+ * calculated.
+ * {@link #withAdded(List)} and {@link #without(Collection)} derive a new index by
+ * merging or dropping entries in the arrays already built, so a catalog change
+ * does not re-read or re-sort the recipes that stay. Instances are immutable.
+ */
+public final class RecipeRangeIndex {
+    /**
+     * The indexed attributes.
+     */
+    public enum Attribute {
+        CALORIES(Recipe::getCalories),
+        PREP_TIME(Recipe::getPrepTime),
+        PRICE(Recipe::getTotalPrice),
+        PROTEIN(recipe -> nutritionOf(recipe).getProtein()),
+        FAT(recipe -> nutritionOf(recipe).getFat()),
+        CARBOHYDRATES(recipe -> nutritionOf(recipe).getCarbohydrates()),
+        FIBER(recipe -> nutritionOf(recipe).getFiber()),
+        SUGAR(recipe -> nutritionOf(recipe).getSugar()),
+        SODIUM(recipe -> nutritionOf(recipe).getSodium());
+
+        private final ToDoubleFunction<Recipe> reader;
+
+        Attribute(ToDoubleFunction<Recipe> reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Reads this attribute from a recipe, as the index stores it.
+         *
+         * @param recipe The recipe
+         * @return The value
+         */
+        public double valueOf(Recipe recipe) {
+            return reader.applyAsDouble(recipe);
+        }
+    }
+
+    private static final RecipeRangeIndex EMPTY = new RecipeRangeIndex(Collections.emptyList(), emptyColumns());
+
+    private final List<Recipe> recipes;
+    private final Map<Recipe, Integer> ids = new IdentityHashMap<>();
+    private final Column[] columns; // By attribute ordinal
+
+    private RecipeRangeIndex(List<Recipe> recipes, Column[] columns) {
+        this.recipes = recipes;
+        this.columns = columns;
+        for (int id = 0; id < recipes.size(); id++) {
+            ids.putIfAbsent(recipes.get(id), id);
+        }
+    }
+
+    /**
+     * Builds an index over recipes. Each attribute is read and sorted on its first
+     * query.
+     *
+     * @param recipes Recipes, identified by their position in the list
+     * @return Index over the recipes
+     * @throws IllegalArgumentException If recipes is null
+     */
+    public static RecipeRangeIndex of(List<Recipe> recipes) {
+        return EMPTY.withAdded(recipes);
+    }
+
+    /**
+     * Derives an index with more recipes, which get the ids after the current ones.
+     * For attributes already built in this index, only the new recipes are read and
+     * sorted, and then merged into the existing arrays; other attributes are built
+     * from scratch on their first query.
+     *
+     * @param added Recipes to add
+     * @return New index; this one is unchanged
+     * @throws IllegalArgumentException If added is null
+     */
+    public RecipeRangeIndex withAdded(List<Recipe> added) {
+        if (added == null) {
+            throw new IllegalArgumentException("Recipes cannot be null");
+        }
+        if (added.isEmpty()) {
+            return this;
+        }
+        int base = recipes.size();
+        List<Recipe> all = new ArrayList<>(recipes);
+        all.addAll(added);
+        List<Recipe> newRecipes = List.copyOf(added);
+        List<Recipe> allRecipes = Collections.unmodifiableList(all);
+
+        Column[] derived = new Column[columns.length];
+        for (Attribute attribute : Attribute.values()) {
+            Column built = columns[attribute.ordinal()].ifBuilt();
+            derived[attribute.ordinal()] = built != null
+                ? new Column(() -> built.merge(attribute, newRecipes, base))
+                : new Column(() -> Column.sort(attribute, allRecipes));
+        }
+        return new RecipeRangeIndex(allRecipes, derived);
+    }
+
+    /**
+     * Derives an index without some recipes. The remaining recipes keep their
+     * order and are renumbered from zero; attributes already built in this index
+     * are not read or sorted again.
+     *
+     * @param removed Recipes to remove; recipes not in this index are ignored
+     * @return New index; this one is unchanged
+     * @throws IllegalArgumentException If removed is null
+     */
+    public RecipeRangeIndex without(Collection<Recipe> removed) {
+        if (removed == null) {
+            throw new IllegalArgumentException("Recipes cannot be null");
+        }
+        Map<Recipe, Boolean> gone = new IdentityHashMap<>();
+        for (Recipe recipe : removed) {
+            gone.put(recipe, Boolean.TRUE);
+        }
+        int[] remap = new int[recipes.size()];
+        List<Recipe> kept = new ArrayList<>(recipes.size());
+        for (int id = 0; id < remap.length; id++) {
+            Recipe recipe = recipes.get(id);
+            remap[id] = gone.containsKey(recipe) ? -1 : kept.size();
+            if (remap[id] >= 0) {
+                kept.add(recipe);
+            }
+        }
+        if (kept.size() == recipes.size()) {
+            return this;
+        }
+        List<Recipe> keptRecipes = Collections.unmodifiableList(kept);
+
+        Column[] derived = new Column[columns.length];
+        for (Attribute attribute : Attribute.values()) {
+            Column built = columns[attribute.ordinal()].ifBuilt();
+            derived[attribute.ordinal()] = built != null
+                ? new Column(() -> built.keep(remap, keptRecipes.size()))
+                : new Column(() -> Column.sort(attribute, keptRecipes));
+        }
+        return new RecipeRangeIndex(keptRecipes, derived);
+    }
+
+    /**
+     * Gets the number of indexed recipes.
+     *
+     * @return Number of recipes
+     */
+    public int size() {
+        return recipes.size();
+    }
+
+    /**
+     * Gets a recipe by id.
+     *
+     * @param id Recipe id
+     * @return The recipe at that position
+     */
+    public Recipe get(int id) {
+        return recipes.get(id);
+    }
+
+    /**
+     * Gets the id of an indexed recipe.
+     *
+     * @param recipe The recipe
+     * @return Its id, or -1 if the recipe is not in this index
+     */
+    public int idOf(Recipe recipe) {
+        Integer id = ids.get(recipe);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Counts the recipes with an attribute within a range, without listing them.
+     *
+     * @param attribute The attribute
+     * @param min Lowest accepted value, inclusive
+     * @param max Highest accepted value, inclusive
+     * @return Number of matching recipes
+     */
+    public int count(Attribute attribute, double min, double max) {
+        double[] sorted = column(attribute).values;
+        return Math.max(0, upperBound(sorted, max) - lowerBound(sorted, min));
+    }
+
+    /**
+     * Finds the recipes with an attribute within a range.
+     *
+     * @param attribute The attribute
+     * @param min Lowest accepted value, inclusive
+     * @param max Highest accepted value, inclusive
+     * @return Matching recipe ids, in ascending order of the attribute
+     */
+    public int[] idsInRange(Attribute attribute, double min, double max) {
+        Column column = column(attribute);
+        int from = lowerBound(column.values, min);
+        int to = upperBound(column.values, max);
+        return from < to ? Arrays.copyOfRange(column.ids, from, to) : new int[0];
+    }
+
+    /**
+     * Finds the recipes with an attribute within a range, as a set of ids that can
+     * be combined with other criteria.
+     *
+     * @param attribute The attribute
+     * @param min Lowest accepted value, inclusive
+     * @param max Highest accepted value, inclusive
+     * @return Set bits for matching recipe ids
+     */
+    public BitSet matching(Attribute attribute, double min, double max) {
+        Column column = column(attribute);
+        BitSet result = new BitSet(recipes.size());
+        for (int rank = lowerBound(column.values, min), to = upperBound(column.values, max); rank < to; rank++) {
+            result.set(column.ids[rank]);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the recipes with an integer attribute, such as calories or preparation
+     * time, within a range.
+     *
+     * @param attribute The attribute
+     * @param range The range
+     * @return Set bits for matching recipe ids
+     */
+    public BitSet matching(Attribute attribute, IntRange range) {
+        return matching(attribute, range.getMin(), range.getMax());
+    }
+
+    /**
+     * Finds the recipes with an attribute within a range.
+     *
+     * @param attribute The attribute
+     * @param min Lowest accepted value, inclusive
+     * @param max Highest accepted value, inclusive
+     * @return Matching recipes, in ascending order of the attribute
+     */
+    public List<Recipe> inRange(Attribute attribute, double min, double max) {
+        int[] matches = idsInRange(attribute, min, max);
+        List<Recipe> result = new ArrayList<>(matches.length);
+        for (int id : matches) {
+            result.add(recipes.get(id));
+        }
+        return result;
+    }
+
+    private Column column(Attribute attribute) {
+        return columns[attribute.ordinal()].get();
+    }
+
+    private static Column[] emptyColumns() {
+        Column[] empty = new Column[Attribute.values().length];
+        Arrays.fill(empty, Column.EMPTY);
+        return empty;
+    }
+
+    private static NutritionInfo nutritionOf(Recipe recipe) {
+        NutritionInfo nutrition = recipe.getNutritionInfo();
+        return nutrition != null ? nutrition : new NutritionInfo(0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Finds the first rank whose value is at least min.
+     */
+    private static int lowerBound(double[] sorted, double min) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < min) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first rank whose value is above max.
+     */
+    private static int upperBound(double[] sorted, double max) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= max) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    /**
+     * One attribute's values in ascending order with the matching recipe ids, built
+     * on first use from the recipes or from a built column of the index it was
+     * derived from.
+     */
+    private static final class Column {
+        static final Column EMPTY = new Column(new double[0], new int[0]);
+
+        private volatile Supplier<Column> builder; // Null once built
+        private volatile Column built;
+        private final double[] values;
+        private final int[] ids;
+
+        Column(Supplier<Column> builder) {
+            this.builder = builder;
+            this.values = null;
+            this.ids = null;
+        }
+
+        Column(double[] values, int[] ids) {
+            this.values = values;
+            this.ids = ids;
+            this.built = this;
+        }
+
+        Column get() {
+            Column result = built;
+            if (result == null) {
+                synchronized (this) {
+                    result = built;
+                    if (result == null) {
+                        result = builder.get();
+                        built = result;
+                        builder = null; // Release the arrays it was derived from
+                    }
+                }
+            }
+            return result;
+        }
+
+        Column ifBuilt() {
+            return built;
+        }
+
+        static Column sort(Attribute attribute, List<Recipe> recipes) {
+            return EMPTY.merge(attribute, recipes, 0);
+        }
+
+        /**
+         * Reads and sorts added recipes and merges them into this built column.
+         */
+        Column merge(Attribute attribute, List<Recipe> added, int base) {
+            double[] newValues = new double[added.size()];
+            for (int i = 0; i < newValues.length; i++) {
+                newValues[i] = attribute.valueOf(added.get(i));
+            }
+            int[] order = sortedOrder(newValues);
+
+            double[] merged = new double[values.length + newValues.length];
+            int[] mergedIds = new int[merged.length];
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < merged.length; k++) {
+                // Existing ids are lower, so on equal values they stay first
+                if (j == order.length || (i < values.length && values[i] <= newValues[order[j]])) {
+                    merged[k] = values[i];
+                    mergedIds[k] = ids[i++];
+                } else {
+                    merged[k] = newValues[order[j]];
+                    mergedIds[k] = base + order[j++];
+                }
+            }
+            return new Column(merged, mergedIds);
+        }
+
+        /**
+         * Orders positions by ascending value, as Double.compare does, keeping equal
+         * values in position order. A bottom-up merge sort over primitive keys.
+         */
+        private static int[] sortedOrder(double[] values) {
+            long[] keys = new long[values.length];
+            int[] order = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                long bits = Double.doubleToLongBits(values[i]);
+                keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE); // Signed order matches Double.compare
+                order[i] = i;
+            }
+            int[] buffer = new int[values.length];
+            for (int width = 1; width < order.length; width *= 2) {
+                for (int from = 0; from < order.length; from += 2 * width) {
+                    int mid = Math.min(from + width, order.length);
+                    int to = Math.min(from + 2 * width, order.length);
+                    int i = from;
+                    int j = mid;
+                    for (int k = from; k < to; k++) {
+                        buffer[k] = j == to || (i < mid && keys[order[i]] <= keys[order[j]]) ? order[i++] : order[j++];
+                    }
+                }
+                int[] swap = order;
+                order = buffer;
+                buffer = swap;
+            }
+            return order;
+        }
+
+        /**
+         * Keeps the entries of this built column whose ids map to a new id.
+         */
+        Column keep(int[] remap, int keptCount) {
+            double[] keptValues = new double[keptCount];
+            int[] keptIds = new int[keptCount];
+            int k = 0;
+            for (int rank = 0; rank < ids.length; rank++) {
+                int id = remap[ids[rank]];
+                if (id >= 0) {
+                    keptValues[k] = values[rank];
+                    keptIds[k++] = id;
+                }
+            }
+            return new Column(keptValues, keptIds);
+        }
+    }
+}
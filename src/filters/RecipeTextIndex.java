@@ -0,0 +1,240 @@
+package filters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.Ingredient;
+import model.Recipe;
+
+/**
+ * An inverted index over the text fields searched by {@link TextSearchFilter}:
+ * recipe name, flavor, flavor tags, cuisine and ingredient names. Every substring
+ * of up to three characters of every lower-cased field maps to a posting list of
+ * recipe ids, where a recipe's id is its position in the indexed list.
+ *
+ * <p>A query of up to three characters is answered by a single posting lookup.
+ * A longer query intersects the posting lists of its three-character substrings,
+ * shortest first, and then confirms each remaining candidate against its
+ * lower-cased fields, so results are exactly those of a full scan.
+ *
+ * <p>The index is built once for a list of recipes and is immutable.
+ */
+public final class RecipeTextIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int[] NO_IDS = new int[0];
+
+    private final List<Recipe> recipes;
+    private final Map<Recipe, Integer> ids = new IdentityHashMap<>();
+    private final String[][] fields; // Lower-cased searchable text, by recipe id
+    private final Map<String, int[]> postings;
+
+    private RecipeTextIndex(List<Recipe> recipes) {
+        this.recipes = Collections.unmodifiableList(new ArrayList<>(recipes));
+        this.fields = new String[this.recipes.size()][];
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        for (int id = 0; id < fields.length; id++) {
+            Recipe recipe = this.recipes.get(id);
+            ids.putIfAbsent(recipe, id);
+            fields[id] = fieldsOf(recipe);
+            for (String field : fields[id]) {
+                addGrams(builders, field, id);
+            }
+        }
+        this.postings = new HashMap<>(builders.size() * 2);
+        for (Map.Entry<String, PostingBuilder> entry : builders.entrySet()) {
+            postings.put(entry.getKey(), entry.getValue().toArray());
+        }
+    }
+
+    /**
+     * Builds an index over recipes.
+     *
+     * @param recipes Recipes, identified by their position in the list
+     * @return Index over the recipes
+     * @throws IllegalArgumentException If recipes is null
+     */
+    public static RecipeTextIndex of(List<Recipe> recipes) {
+        if (recipes == null) {
+            throw new IllegalArgumentException("Recipes cannot be null");
+        }
+        return new RecipeTextIndex(recipes);
+    }
+
+    /**
+     * Gets the number of indexed recipes.
+     *
+     * @return Number of recipes
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * Gets a recipe by id.
+     *
+     * @param id Recipe id
+     * @return The recipe at that position
+     */
+    public Recipe get(int id) {
+        return recipes.get(id);
+    }
+
+    /**
+     * Gets the id of an indexed recipe.
+     *
+     * @param recipe The recipe
+     * @return Its id, or -1 if the recipe is not in this index
+     */
+    public int idOf(Recipe recipe) {
+        Integer id = ids.get(recipe);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Finds the recipes with the search text in any searched field, as
+     * {@link TextSearchFilter#matches(Recipe, String)} would.
+     *
+     * @param searchText Text to search for, case-insensitive
+     * @return Matching recipe ids in ascending order; every id for blank text
+     */
+    public int[] search(String searchText) {
+        if (searchText == null || searchText.trim().isEmpty()) {
+            int[] all = new int[fields.length];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        String query = searchText.toLowerCase().trim();
+        if (query.length() <= GRAM_LENGTH) {
+            int[] exact = postings.get(query);
+            return exact != null ? exact.clone() : NO_IDS;
+        }
+
+        int gramCount = query.length() - GRAM_LENGTH + 1;
+        int[][] lists = new int[gramCount][];
+        for (int i = 0; i < gramCount; i++) {
+            lists[i] = postings.get(query.substring(i, i + GRAM_LENGTH));
+            if (lists[i] == null) {
+                return NO_IDS;
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] candidates = lists[0].clone();
+        int count = candidates.length;
+        for (int i = 1; i < lists.length && count > 0; i++) {
+            if (lists[i] != lists[i - 1]) {
+                count = intersect(candidates, count, lists[i]);
+            }
+        }
+
+        // Grams can come from different places in a field, so confirm the whole text
+        int matched = 0;
+        for (int i = 0; i < count; i++) {
+            if (containsInAnyField(candidates[i], query)) {
+                candidates[matched++] = candidates[i];
+            }
+        }
+        return Arrays.copyOf(candidates, matched);
+    }
+
+    /**
+     * Finds the recipes with the search text in any searched field.
+     *
+     * @param searchText Text to search for, case-insensitive
+     * @return Matching recipes in index order; every recipe for blank text
+     */
+    public List<Recipe> filter(String searchText) {
+        int[] matches = search(searchText);
+        List<Recipe> result = new ArrayList<>(matches.length);
+        for (int id : matches) {
+            result.add(recipes.get(id));
+        }
+        return result;
+    }
+
+    private boolean containsInAnyField(int id, String query) {
+        for (String field : fields[id]) {
+            if (field.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keeps the first count ids that also appear in other, in place.
+     *
+     * @return Number of ids kept
+     */
+    private static int intersect(int[] ids, int count, int[] other) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < count && from < other.length; i++) {
+            int found = Arrays.binarySearch(other, from, other.length, ids[i]);
+            if (found >= 0) {
+                ids[kept++] = ids[i];
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    private static String[] fieldsOf(Recipe recipe) {
+        List<String> text = new ArrayList<>();
+        addField(text, recipe.getName());
+        addField(text, recipe.getFlavor());
+        for (String tag : recipe.getFlavorTags()) {
+            addField(text, tag);
+        }
+        addField(text, recipe.getCuisine());
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            if (ingredient != null) {
+                addField(text, ingredient.getName());
+            }
+        }
+        return text.toArray(new String[0]);
+    }
+
+    private static void addField(List<String> text, String field) {
+        if (field != null && !field.isEmpty()) {
+            text.add(field.toLowerCase());
+        }
+    }
+
+    private static void addGrams(Map<String, PostingBuilder> builders, String field, int id) {
+        for (int start = 0; start < field.length(); start++) {
+            int maxEnd = Math.min(field.length(), start + GRAM_LENGTH);
+            for (int end = start + 1; end <= maxEnd; end++) {
+                builders.computeIfAbsent(field.substring(start, end), gram -> new PostingBuilder()).add(id);
+            }
+        }
+    }
+
+    /**
+     * A growable posting list. Ids arrive in ascending order, so repeats are adjacent.
+     */
+    private static final class PostingBuilder {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -1,13 +1,38 @@
 package filters;
 
+import java.util.BitSet;
+import java.util.function.Predicate;
+
 import model.Recipe;
 
 /**
  * A filter that searches for text matches in various recipe fields.
  * Searches through recipe name, flavor, flavor tags, cuisine, and ingredients.
+ *
+ * <p>Given a {@link RecipeTextIndex}, each new search text is resolved once through
+ * the index and recipes in the index are then checked by id. Recipes outside the
+ * index are scanned field by field.
  */
 public class TextSearchFilter implements IRecipeFilter {
-    
+    private final RecipeTextIndex index;
+    private volatile SearchResult lastResult;
+
+    /**
+     * Creates a filter that scans each recipe's fields.
+     */
+    public TextSearchFilter() {
+        this(null);
+    }
+
+    /**
+     * Creates a filter that answers searches from an index.
+     *
+     * @param index Index over the recipes to be filtered, or null to scan
+     */
+    public TextSearchFilter(RecipeTextIndex index) {
+        this.index = index;
+    }
+
     /**
      * Checks if the recipe matches the given search text.
      * The search is case-insensitive and looks through:
@@ -28,7 +53,40 @@ public class TextSearchFilter implements IRecipeFilter {
         }
         
         String searchLower = searchText.toLowerCase().trim();
-        
+
+        if (index != null) {
+            int id = index.idOf(recipe);
+            if (id >= 0) {
+                return resultFor(searchLower).matches.get(id);
+            }
+        }
+        return scan(recipe, searchLower);
+    }
+
+    /**
+     * Compiles the query's search text, resolving it through the index once if there is one.
+     *
+     * @param query The query
+     * @return Predicate for matching recipes, or null for blank search text
+     */
+    @Override
+    public Predicate<Recipe> compile(RecipeQuery query) {
+        String searchText = query.getSearchText();
+        if (searchText == null || searchText.trim().isEmpty()) {
+            return null;
+        }
+        String searchLower = searchText.toLowerCase().trim();
+        if (index == null) {
+            return recipe -> scan(recipe, searchLower);
+        }
+        BitSet matches = resultFor(searchLower).matches;
+        return recipe -> {
+            int id = index.idOf(recipe);
+            return id >= 0 ? matches.get(id) : scan(recipe, searchLower);
+        };
+    }
+
+    private static boolean scan(Recipe recipe, String searchLower) {
         // Check recipe name
         if (recipe.getName().toLowerCase().contains(searchLower)) {
             return true;
@@ -60,7 +118,30 @@ public class TextSearchFilter implements IRecipeFilter {
         
         return false;
     }
-}
 
+    private SearchResult resultFor(String searchLower) {
+        SearchResult result = lastResult;
+        if (result == null || !result.searchLower.equals(searchLower)) {
+            BitSet matches = new BitSet(index.size());
+            for (int id : index.search(searchLower)) {
+                matches.set(id);
+            }
+            result = new SearchResult(searchLower, matches);
+            lastResult = result;
+        }
+        return result;
+    }
 
+    /**
+     * The ids matching the most recent search text.
+     */
+    private static final class SearchResult {
+        private final String searchLower;
+        private final BitSet matches;
 
+        SearchResult(String searchLower, BitSet matches) {
+            this.searchLower = searchLower;
+            this.matches = matches;
+        }
+    }
+}
@@ -7,15 +7,19 @@ import java.awt.event.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
 
 import model.Recipe;
+import model.NutrientColumns;
+import model.NutritionAccumulator;
 import model.NutritionInfo;
-import filters.IRecipeFilter;
-import filters.TextSearchFilter;
-import filters.CuisineFilter;
-import filters.CalorieRangeFilter;
-import filters.PrepTimeFilter;
+import model.NutritionPrewarmer;
+import model.Log;
+import model.UserCalculator;
+import filters.IntRange;
+import filters.RecipeFacets;
+import filters.RecipeQuery;
+import filters.RecipeQueryEngine;
 import model.Ingredient;
 
 /**
@@ -24,6 +28,10 @@ import model.Ingredient;
  * Allows users to add recipes to their shopping cart and view nutritional information.
  */
 public class RecipeGUI extends JFrame {
+    private static final String CATALOG_ORDER = "Catalog order";
+    private static final String CLOSEST_TO_GOALS = "Closest to my goals";
+    private static final int MEALS_PER_DAY = 3;
+
     private List<Recipe> recipes;
     private List<Recipe> allRecipes;
     private List<Recipe> addedRecipes;
@@ -35,8 +43,12 @@ public class RecipeGUI extends JFrame {
     private JComboBox<String> cuisineFilter;
     private JComboBox<String> calorieFilter;
     private JComboBox<String> prepTimeFilter;
+    private JComboBox<String> sortOrder;
     private RecipeNutritionGUI nutritionGUI;
-    private List<IRecipeFilter> filters;
+    private RecipeQueryEngine queryEngine;
+    private Map<RecipeFacets.Facet, Map<String, Integer>> facetCounts = Map.of();
+    private int facetCountsGeneration;
+    private int rankingGeneration;
 
     /**
      * Constructs a new RecipeGUI with the specified list of recipes.
@@ -50,12 +62,8 @@ public class RecipeGUI extends JFrame {
         this.recipes = new ArrayList<>(recipes);
         this.addedRecipes = new ArrayList<>();
 
-        // Initialize filters
-        this.filters = new ArrayList<>();
-        filters.add(new TextSearchFilter());
-        filters.add(new CuisineFilter());
-        filters.add(new CalorieRangeFilter());
-        filters.add(new PrepTimeFilter());
+        // Compile every search against one engine, indexed once over all recipes
+        this.queryEngine = new RecipeQueryEngine(allRecipes);
 
         setTitle("Shopping APP");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -88,32 +96,144 @@ public class RecipeGUI extends JFrame {
      * Updates the recipe list to show only matching recipes.
      */
     private void filterAndDisplayRecipes() {
-        String searchText = searchField.getText().toLowerCase();
-        String selectedCuisine = (String) cuisineFilter.getSelectedItem();
-        String selectedCalorieRange = (String) calorieFilter.getSelectedItem();
-        String selectedPrepTimeRange = (String) prepTimeFilter.getSelectedItem();
-
-        List<Recipe> filteredRecipes = new ArrayList<>(allRecipes);
-
-        // Apply all filters using the filter classes
-        for (IRecipeFilter filter : filters) {
-            filteredRecipes = filteredRecipes.stream()
-                .filter(recipe -> {
-                    if (filter instanceof TextSearchFilter) {
-                        return filter.matches(recipe, searchText);
-                    } else if (filter instanceof CuisineFilter) {
-                        return filter.matches(recipe, selectedCuisine);
-                    } else if (filter instanceof CalorieRangeFilter) {
-                        return filter.matches(recipe, selectedCalorieRange);
-                    } else if (filter instanceof PrepTimeFilter) {
-                        return filter.matches(recipe, selectedPrepTimeRange);
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
+        IntRange calories = parseRange(calorieFilter, "calorie");
+        IntRange prepTime = parseRange(prepTimeFilter, "preparation time");
+        if (calories == null || prepTime == null) {
+            return; // Keep the current results until the range is corrected
         }
-
+        RecipeQuery query = new RecipeQuery(
+            searchField.getText(),
+            (String) cuisineFilter.getSelectedItem(),
+            calories,
+            prepTime);
+        List<Recipe> filteredRecipes = queryEngine.run(query);
+
+        // Calculate nutrition for the matches first, ahead of the rest of the catalog
+        NutritionPrewarmer.getShared().prewarm(filteredRecipes);
         displayRecipeCards(filteredRecipes);
+        int generation = ++rankingGeneration;
+        if (CLOSEST_TO_GOALS.equals(sortOrder.getSelectedItem())) {
+            rankByGoals(filteredRecipes, generation);
+        }
+        updateFacetCounts(query);
+    }
+
+    /**
+     * Orders recipes by how close each comes to a third of the user's daily calorie,
+     * protein, fat and carbohydrate targets, closest first. Ranking needs every
+     * match's nutrition, so it runs in the background and the cards are shown again
+     * in the new order once it is done.
+     */
+    private void rankByGoals(List<Recipe> matches, int generation) {
+        double weight = (double) userData.get("weight");
+        double tdee = (double) userData.get("tdee");
+        double[] targets = new UserCalculator().calculateNutrientTargets(weight, tdee);
+        double[] weights = new double[NutrientColumns.COLUMN_COUNT];
+        for (int column : new int[] {NutrientColumns.CALORIES, NutritionAccumulator.PROTEIN,
+                NutritionAccumulator.FAT, NutritionAccumulator.CARBOHYDRATES}) {
+            targets[column] /= MEALS_PER_DAY;
+            weights[column] = 1.0;
+        }
+
+        new SwingWorker<List<Recipe>, Void>() {
+            @Override
+            protected List<Recipe> doInBackground() {
+                int[] order = NutrientColumns.of(matches).rankByDistance(targets, weights, matches.size());
+                List<Recipe> ranked = new ArrayList<>(order.length);
+                for (int row : order) {
+                    ranked.add(matches.get(row));
+                }
+                return ranked;
+            }
+
+            @Override
+            protected void done() {
+                if (generation != rankingGeneration) {
+                    return; // A newer search is being shown
+                }
+                try {
+                    displayRecipeCards(get());
+                } catch (InterruptedException | ExecutionException e) {
+                    Log.warn("Warning: Could not rank recipes by goals: " + e.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Parses the range selected or typed in a dropdown, telling the user if it is
+     * not a range rather than silently showing every recipe.
+     *
+     * @return The range, or null if the text is not a range
+     */
+    private IntRange parseRange(JComboBox<String> filter, String name) {
+        String text = (String) filter.getSelectedItem();
+        try {
+            return IntRange.parse(text);
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this,
+                "\"" + text + "\" is not a valid " + name + " range.\n"
+                    + "Use a range such as 250-480, 901+ or <= 20.",
+                "Invalid Range",
+                JOptionPane.WARNING_MESSAGE);
+            filter.requestFocusInWindow();
+            return null;
+        }
+    }
+
+    /**
+     * Counts the recipes behind each filter choice in the background, since the first
+     * count reads every recipe's calories, and shows the counts in the dropdowns.
+     */
+    private void updateFacetCounts(RecipeQuery query) {
+        int generation = ++facetCountsGeneration;
+        new SwingWorker<Map<RecipeFacets.Facet, Map<String, Integer>>, Void>() {
+            @Override
+            protected Map<RecipeFacets.Facet, Map<String, Integer>> doInBackground() {
+                return queryEngine.facetCounts(query);
+            }
+
+            @Override
+            protected void done() {
+                if (generation != facetCountsGeneration) {
+                    return; // A newer search is being counted
+                }
+                try {
+                    facetCounts = get();
+                    cuisineFilter.repaint();
+                    calorieFilter.repaint();
+                    prepTimeFilter.repaint();
+                } catch (InterruptedException | ExecutionException e) {
+                    Log.warn("Warning: Could not count recipes per filter: " + e.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Shows each dropdown choice with the number of recipes it would give, for
+     * example "Italian (1,243)". The item itself stays the plain value.
+     */
+    private class FacetCountRenderer extends DefaultListCellRenderer {
+        private static final long serialVersionUID = 1L;
+
+        private final RecipeFacets.Facet facet;
+
+        FacetCountRenderer(RecipeFacets.Facet facet) {
+            this.facet = facet;
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            Object text = value;
+            Map<String, Integer> counts = facetCounts.get(facet);
+            if (counts != null && value != null && !"All".equals(value)) {
+                Integer count = counts.get(RecipeFacets.keyOf(facet, value.toString()));
+                text = String.format("%s (%,d)", value, count != null ? count : 0);
+            }
+            return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+        }
     }
 
     private JPanel createLeftPanel() {
@@ -252,6 +372,7 @@ public class RecipeGUI extends JFrame {
             "Vietnamese"
         };
         cuisineFilter = new JComboBox<>(cuisines);
+        cuisineFilter.setRenderer(new FacetCountRenderer(RecipeFacets.Facet.CUISINE));
         cuisinePanel.add(cuisineFilter, BorderLayout.CENTER);
         panel.add(cuisinePanel);
 
@@ -260,6 +381,8 @@ public class RecipeGUI extends JFrame {
         caloriesPanel.add(new JLabel("Calories"), BorderLayout.WEST);
         String[] calories = {"All", "0-300", "301-600", "601-900", "901+"};
         calorieFilter = new JComboBox<>(calories);
+        calorieFilter.setEditable(true); // Any range can be typed, e.g. "250-480"
+        calorieFilter.setRenderer(new FacetCountRenderer(RecipeFacets.Facet.CALORIES));
         caloriesPanel.add(calorieFilter, BorderLayout.CENTER);
         panel.add(caloriesPanel);
 
@@ -268,9 +391,20 @@ public class RecipeGUI extends JFrame {
         prepTimePanel.add(new JLabel("Prep time"), BorderLayout.WEST);
         String[] prepTimes = {"All", "0-15 min", "16-30 min", "31-45 min", "46+ min"};
         prepTimeFilter = new JComboBox<>(prepTimes);
+        prepTimeFilter.setEditable(true); // Any range can be typed, e.g. "<= 20 min"
+        prepTimeFilter.setRenderer(new FacetCountRenderer(RecipeFacets.Facet.PREP_TIME));
         prepTimePanel.add(prepTimeFilter, BorderLayout.CENTER);
         panel.add(prepTimePanel);
 
+        // Sort order; ranking needs the user's weight and daily energy expenditure
+        JPanel sortPanel = new JPanel(new BorderLayout(5, 5));
+        sortPanel.add(new JLabel("Sort"), BorderLayout.WEST);
+        sortOrder = new JComboBox<>(new String[] {CATALOG_ORDER, CLOSEST_TO_GOALS});
+        sortOrder.setEnabled(userData != null && userData.containsKey("weight") && userData.containsKey("tdee"));
+        sortOrder.addActionListener(e -> performSearch());
+        sortPanel.add(sortOrder, BorderLayout.CENTER);
+        panel.add(sortPanel);
+
         // Go button
         JButton goButton = new JButton("Go");
         goButton.addActionListener(e -> performSearch());
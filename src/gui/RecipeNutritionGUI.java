@@ -3,10 +3,14 @@ package gui;
 import javax.swing.*;
 import java.awt.*;
 import java.util.Map;
-import java.util.List;
+import java.util.HashMap;
 import java.util.ArrayList;
 import model.Recipe;
 import model.NutritionInfo;
+import model.MealAggregate;
+import model.NutritionAccumulator;
+import model.UserCalculator;
+import model.Log;
 
 public class RecipeNutritionGUI {
   // Main summary panel (shown in RecipeGUI)
@@ -30,13 +34,29 @@ public class RecipeNutritionGUI {
   private Map<String, Object> userData;
 
   private JPanel recipeList;
-  private List<Recipe> addedRecipes = new ArrayList<>();
+  private final MealAggregate meal = new MealAggregate();
+  private final Map<Recipe, JPanel> recipeRows = new HashMap<>();
 
   public RecipeNutritionGUI(Map<String, Object> userData) {
     this.userData = userData;
     createSummaryPanel();
     createDetailWindow();
 
+    // Only the changed row and the totals are redrawn when the meal changes
+    meal.addListener(new MealAggregate.Listener() {
+      @Override
+      public void recipeAdded(Recipe recipe, NutritionInfo delta) {
+        addRecipeRow(recipe);
+        updateNutritionDisplay();
+      }
+
+      @Override
+      public void recipeRemoved(Recipe recipe, NutritionInfo delta) {
+        removeRecipeRow(recipe);
+        updateNutritionDisplay();
+      }
+    });
+
     // Set target calories based on user's TDEE if available
     if (userData != null && userData.containsKey("tdee")) {
       double tdee = (double) userData.get("tdee");
@@ -162,14 +182,14 @@ public class RecipeNutritionGUI {
     JButton checkoutButton = new JButton("Proceed to Checkout");
     checkoutButton.setFont(new Font("Arial", Font.BOLD, 14));
     checkoutButton.addActionListener(e -> {
-        if (addedRecipes.isEmpty()) {
+        if (meal.isEmpty()) {
             JOptionPane.showMessageDialog(detailWindow,
                 "Please add some recipes before proceeding to checkout.",
                 "No Recipes Added",
                 JOptionPane.WARNING_MESSAGE);
             return;
         }
-        CheckoutGUI checkoutGUI = new CheckoutGUI(new ArrayList<>(addedRecipes));
+        CheckoutGUI checkoutGUI = new CheckoutGUI(new ArrayList<>(meal.getRecipes()));
         checkoutGUI.setVisible(true);
     });
     JPanel checkoutPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -211,7 +231,7 @@ public class RecipeNutritionGUI {
     updateButton.addActionListener(e -> {
         updateTarget(label, field.getText());
         // Update the display
-        if (!addedRecipes.isEmpty()) {
+        if (!meal.isEmpty()) {
             updateNutritionDisplay();
         }
     });
@@ -237,7 +257,7 @@ public class RecipeNutritionGUI {
       }
 
       // Update the display if there are recipes
-      if (!addedRecipes.isEmpty()) {
+      if (!meal.isEmpty()) {
           updateNutritionDisplay();
       } else {
           // If no recipes, just update the progress bars with 0 values
@@ -263,18 +283,12 @@ public class RecipeNutritionGUI {
 
   private void updateTargetLabels() {
     if (userData != null) {
-      // Set protein target (1.6-2.2g per kg of body weight)
+      // Protein from body weight, 30% of calories from fat, carbs for the rest
       double weight = (double) userData.get("weight");
-      targetProtein = weight * 1.8; // Using middle of the range
-
-      // Set fat target (20-35% of total calories)
-      targetFat = (targetCalories * 0.3) / 9; // 30% of calories, divided by 9 calories per gram
-
-      // Set carbs target (remaining calories)
-      double proteinCalories = targetProtein * 4;
-      double fatCalories = targetFat * 9;
-      double carbCalories = targetCalories - proteinCalories - fatCalories;
-      targetCarbs = carbCalories / 4; // 4 calories per gram
+      double[] targets = new UserCalculator().calculateNutrientTargets(weight, targetCalories);
+      targetProtein = targets[NutritionAccumulator.PROTEIN];
+      targetFat = targets[NutritionAccumulator.FAT];
+      targetCarbs = targets[NutritionAccumulator.CARBOHYDRATES];
 
       // Update the display with combined nutrition of all recipes
       updateNutritionDisplay();
@@ -287,7 +301,7 @@ public class RecipeNutritionGUI {
 
   public void updateNutritionDisplay(Recipe recipe) {
     if (recipe == null || recipe.getNutritionInfo() == null) {
-      System.out.println("Warning: Null recipe or nutrition info in updateNutritionDisplay");
+      Log.warn("Warning: Null recipe or nutrition info in updateNutritionDisplay");
       return;
     }
 
@@ -367,55 +381,46 @@ public class RecipeNutritionGUI {
   }
 
   public void addRecipe(Recipe recipe) {
-    if (!addedRecipes.contains(recipe)) {
-      addedRecipes.add(recipe);
-      updateRecipeList();
-      updateNutritionDisplay();
-    }
+    meal.add(recipe);
   }
 
   public void removeRecipe(Recipe recipe) {
-    addedRecipes.remove(recipe);
-    updateRecipeList();
-    updateNutritionDisplay();
+    meal.remove(recipe);
   }
 
-  private void updateRecipeList() {
-    recipeList.removeAll();
-    
-    for (Recipe recipe : addedRecipes) {
-      JPanel recipePanel = new JPanel(new BorderLayout());
-      recipePanel.setBorder(BorderFactory.createEmptyBorder(2, 2, 2, 2));
-      
-      JLabel nameLabel = new JLabel(recipe.getName());
-      recipePanel.add(nameLabel, BorderLayout.CENTER);
-      
-      JButton removeButton = new JButton("Remove");
-      removeButton.addActionListener(e -> removeRecipe(recipe));
-      recipePanel.add(removeButton, BorderLayout.EAST);
-      
-      recipeList.add(recipePanel);
-    }
-    
+  private void addRecipeRow(Recipe recipe) {
+    JPanel recipePanel = new JPanel(new BorderLayout());
+    recipePanel.setBorder(BorderFactory.createEmptyBorder(2, 2, 2, 2));
+
+    JLabel nameLabel = new JLabel(recipe.getName());
+    recipePanel.add(nameLabel, BorderLayout.CENTER);
+
+    JButton removeButton = new JButton("Remove");
+    removeButton.addActionListener(e -> removeRecipe(recipe));
+    recipePanel.add(removeButton, BorderLayout.EAST);
+
+    recipeRows.put(recipe, recipePanel);
+    recipeList.add(recipePanel);
     recipeList.revalidate();
     recipeList.repaint();
   }
 
+  private void removeRecipeRow(Recipe recipe) {
+    JPanel recipePanel = recipeRows.remove(recipe);
+    if (recipePanel != null) {
+      recipeList.remove(recipePanel);
+      recipeList.revalidate();
+      recipeList.repaint();
+    }
+  }
+
   private void updateNutritionDisplay() {
-    if (addedRecipes.isEmpty()) {
+    if (meal.isEmpty()) {
       updateNutritionDisplay("No Recipes", new NutritionInfo(0, 0, 0, 0, 0, 0));
       return;
     }
 
-    // Calculate combined nutrition
-    NutritionInfo combinedNutrition = new NutritionInfo(0, 0, 0, 0, 0, 0);
-    for (Recipe recipe : addedRecipes) {
-      NutritionInfo nutrition = recipe.getNutritionInfo();
-      if (nutrition != null) {
-        combinedNutrition = combinedNutrition.add(nutrition);
-      }
-    }
-
-    updateNutritionDisplay("Combined Recipes", combinedNutrition);
+    // The meal keeps running totals, so this does not revisit every recipe
+    updateNutritionDisplay("Combined Recipes", meal.getTotals());
   }
 }
\ No newline at end of file
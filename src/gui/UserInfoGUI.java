@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 import model.Recipe;
 import model.UserCalculator;
+import model.Log;
 import java.io.IOException;
 
 public class UserInfoGUI extends JFrame {
@@ -189,7 +190,7 @@ public class UserInfoGUI extends JFrame {
         "Error starting recipe GUI: " + e.getMessage(),
         "Error",
         JOptionPane.ERROR_MESSAGE);
-      e.printStackTrace();
+      Log.error("Error starting recipe GUI: " + e.getMessage(), e);
     }
   }
   
@@ -201,8 +202,7 @@ public class UserInfoGUI extends JFrame {
       java.lang.reflect.Method getRecipesMethod = mainClass.getMethod("getRecipes");
       return (List<Recipe>) getRecipesMethod.invoke(null);
     } catch (Exception e) {
-      System.err.println("Error accessing recipes: " + e.getMessage());
-      e.printStackTrace();
+      Log.error("Error accessing recipes: " + e.getMessage(), e);
       return new ArrayList<>(); // Return empty list if there's an error
     }
   }
@@ -220,8 +220,7 @@ public class UserInfoGUI extends JFrame {
         UserInfoGUI gui = new UserInfoGUI();
         gui.setVisible(true);
       } catch (Exception e) {
-        System.err.println("Error initializing application: " + e.getMessage());
-        e.printStackTrace();
+        Log.error("Error initializing application: " + e.getMessage(), e);
         JOptionPane.showMessageDialog(null,
           "Error initializing application: " + e.getMessage(),
           "Error",
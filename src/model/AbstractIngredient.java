@@ -9,6 +9,7 @@ public abstract class AbstractIngredient implements IIngredient {
   protected String name;
   protected double quantity;
   protected String unit;
+  protected Unit unitOfMeasure; // Parsed once from unit
   protected int caloriesPerUnit;
   protected double pricePerUnit;
   protected String category;
@@ -48,6 +49,7 @@ public abstract class AbstractIngredient implements IIngredient {
     this.name = name.trim();
     this.quantity = quantity;
     this.unit = unit.trim();
+    this.unitOfMeasure = Unit.of(this.unit);
     this.caloriesPerUnit = caloriesPerUnit;
     this.pricePerUnit = pricePerUnit;
     this.category = category.trim().toLowerCase();
@@ -117,6 +119,15 @@ public abstract class AbstractIngredient implements IIngredient {
     return unit;
   }
 
+  /**
+   * Gets the parsed unit of measurement shared by price and nutrition calculations.
+   *
+   * @return Parsed unit
+   */
+  public Unit getUnitOfMeasure() {
+    return unitOfMeasure;
+  }
+
   /**
    * Gets the base calories per unit.
    *
@@ -142,9 +153,7 @@ public abstract class AbstractIngredient implements IIngredient {
    * For example: "tablespoon (15g)" -> "tablespoon"
    */
   protected String getBaseUnit() {
-    String unitLower = unit.toLowerCase();
-    int parenIndex = unitLower.indexOf('(');
-    return parenIndex > 0 ? unitLower.substring(0, parenIndex).trim() : unitLower;
+    return unitOfMeasure.getCode();
   }
 
   /**
@@ -152,19 +161,7 @@ public abstract class AbstractIngredient implements IIngredient {
    * This converts various units to their standard form for calculations.
    */
   protected double getUnitMultiplier() {
-    String baseUnit = getBaseUnit();
-    switch (baseUnit) {
-      case "tablespoon":
-        return 15.0; // 1 tablespoon = 15g
-      case "teaspoon":
-        return 5.0;  // 1 teaspoon = 5g
-      case "cup":
-        return 240.0; // 1 cup = 240g
-      case "ml":
-        return 1.0;  // Assume 1ml = 1g for liquids
-      default:
-        return 1.0;  // For units already in standard form (g, piece, etc.)
-    }
+    return unitOfMeasure.getGramsPerUnit();
   }
 
   /**
@@ -175,12 +172,8 @@ public abstract class AbstractIngredient implements IIngredient {
    */
   @Override
   public double getTotalPrice() {
-    if (unit.toLowerCase().contains("piece") || unit.toLowerCase().contains("egg")) {
-      // For items priced per piece, don't apply the 100g conversion
-      return pricePerUnit * quantity;
-    }
-    // For weight-based items, convert price from per 100g to per gram
-    return (pricePerUnit / 100.0) * quantity * getUnitMultiplier();
+    // Items priced per piece skip the per-100g conversion
+    return unitOfMeasure.priceOf(quantity, pricePerUnit);
   }
 
   /**
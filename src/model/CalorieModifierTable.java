@@ -0,0 +1,307 @@
+package model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Calorie modifiers from CalorieModifier.json compiled into a dense table.
+ * Each modifier group (an ingredient, subcategory, category or the default group)
+ * is a row and each cooking method a column, so once an ingredient knows its row
+ * and method id a modifier is one array read. Missing entries are 1.0.
+ *
+ * <p>Rows are chosen with the same precedence {@link Ingredient} has always used:
+ * when the file has an ingredients section only ingredient-specific rows apply;
+ * otherwise poultry, fish, vegetable and fruit subcategories, then categories,
+ * then the default group.
+ *
+ * <p>Tables are immutable. One process-wide instance is shared by {@link Ingredient}
+ * and every {@link NutritionCalculator}, so CalorieModifier.json is parsed at most
+ * once; the number of file loads is exposed through {@link #getLoadCount()}.
+ */
+public final class CalorieModifierTable {
+    static final int NO_ROW = -1;
+    static final int NO_METHOD = -1;
+
+    private static final AtomicInteger loadCount = new AtomicInteger();
+    private static volatile CalorieModifierTable shared;
+
+    private final Map<String, Map<String, Map<String, Double>>> source;
+    private final Map<String, Integer> methodIds = new HashMap<>();
+    private final Map<String, Integer> ingredientRows = new HashMap<>();
+    private final Map<String, Integer> subcategoryRows = new HashMap<>();
+    private final Map<String, Integer> categoryRows = new HashMap<>();
+    private final boolean hasIngredients;
+    private final boolean hasSubcategories;
+    private final boolean hasCategories;
+    private final int defaultRow;
+    private final int methodCount;
+    private final double[] modifiers;
+
+    private CalorieModifierTable(Map<String, Map<String, Map<String, Double>>> source) {
+        this.source = source;
+        List<Map<String, Double>> rows = new ArrayList<>();
+        hasIngredients = source.containsKey("ingredients");
+        hasSubcategories = source.containsKey("subcategories");
+        hasCategories = source.containsKey("categories");
+        addRows(source.get("ingredients"), ingredientRows, rows);
+        addRows(source.get("subcategories"), subcategoryRows, rows);
+        addRows(source.get("categories"), categoryRows, rows);
+
+        Map<String, Map<String, Double>> defaults = source.get("default");
+        if (defaults != null && defaults.get("default") != null) {
+            defaultRow = rows.size();
+            rows.add(defaults.get("default"));
+        } else {
+            defaultRow = NO_ROW;
+        }
+
+        for (Map<String, Double> row : rows) {
+            for (String method : row.keySet()) {
+                methodIds.putIfAbsent(method, methodIds.size());
+            }
+        }
+        methodCount = methodIds.size();
+        modifiers = new double[rows.size() * methodCount];
+        Arrays.fill(modifiers, 1.0);
+        for (int row = 0; row < rows.size(); row++) {
+            for (Map.Entry<String, Double> entry : rows.get(row).entrySet()) {
+                if (entry.getValue() != null) {
+                    modifiers[row * methodCount + methodIds.get(entry.getKey())] = entry.getValue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles the nested modifier maps read from CalorieModifier.json.
+     *
+     * @param modifiers Nested map of calorie modifiers
+     * @return Compiled table
+     */
+    public static CalorieModifierTable compile(Map<String, Map<String, Map<String, Double>>> modifiers) {
+        Map<String, Map<String, Map<String, Double>>> copy = new HashMap<>();
+        if (modifiers != null) {
+            for (Map.Entry<String, Map<String, Map<String, Double>>> section : modifiers.entrySet()) {
+                Map<String, Map<String, Double>> groups = new HashMap<>();
+                if (section.getValue() != null) {
+                    for (Map.Entry<String, Map<String, Double>> group : section.getValue().entrySet()) {
+                        if (group.getValue() != null) {
+                            groups.put(group.getKey(), Collections.unmodifiableMap(new HashMap<>(group.getValue())));
+                        }
+                    }
+                }
+                copy.put(section.getKey(), Collections.unmodifiableMap(groups));
+            }
+        }
+        return new CalorieModifierTable(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Loads and compiles a CalorieModifier.json file.
+     *
+     * @param file Path to CalorieModifier.json
+     * @return Compiled table
+     * @throws IOException If the file cannot be read
+     */
+    public static CalorieModifierTable load(Path file) throws IOException {
+        Map<String, Map<String, Map<String, Double>>> modifiers = JSONParser.readCalorieModifiers(file.toString());
+        loadCount.incrementAndGet();
+        return compile(modifiers);
+    }
+
+    /**
+     * Gets the shared table, loading it from the default location on first use.
+     * If the file cannot be found the built-in default modifiers are used.
+     *
+     * @return The process-wide table
+     */
+    public static CalorieModifierTable getInstance() {
+        CalorieModifierTable table = shared;
+        if (table == null) {
+            synchronized (CalorieModifierTable.class) {
+                table = shared;
+                if (table == null) {
+                    table = loadDefault();
+                    shared = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Replaces the shared table, for example with one restored from a catalog.
+     *
+     * @param table Table every ingredient and calculator should use from now on
+     */
+    public static void install(CalorieModifierTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Calorie modifier table cannot be null");
+        }
+        synchronized (CalorieModifierTable.class) {
+            shared = table;
+        }
+    }
+
+    /**
+     * Gets how many times calorie modifiers have been parsed from disk in this process.
+     *
+     * @return Number of file loads
+     */
+    public static int getLoadCount() {
+        return loadCount.get();
+    }
+
+    private static CalorieModifierTable loadDefault() {
+        String currentPath = new File(".").getAbsolutePath();
+        // Try both possible paths due to nested folder structure
+        String[] possiblePaths = {
+            currentPath + File.separator + "src" + File.separator + "ingredientsSource" + File.separator + Catalog.CALORIE_MODIFIER_FILE,
+            currentPath + File.separator + "FinalProject_5004" + File.separator + "src" + File.separator + "ingredientsSource" + File.separator + Catalog.CALORIE_MODIFIER_FILE
+        };
+        try {
+            for (String path : possiblePaths) {
+                File modifierFile = new File(path);
+                Log.debug(() -> "Trying path: " + modifierFile.getAbsolutePath());
+                if (modifierFile.exists()) {
+                    return load(modifierFile.toPath());
+                }
+            }
+            throw new IOException("Could not find " + Catalog.CALORIE_MODIFIER_FILE + " in any of the expected locations");
+        } catch (IOException e) {
+            Log.error("Error loading calorie modifiers: " + e.getMessage());
+            return compile(defaultModifiers());
+        }
+    }
+
+    /**
+     * Builds the default calorie modifiers used when the JSON file cannot be loaded.
+     */
+    private static Map<String, Map<String, Map<String, Double>>> defaultModifiers() {
+        Map<String, Map<String, Map<String, Double>>> calorieModifiers = new HashMap<>();
+
+        // Default modifiers
+        Map<String, Map<String, Double>> defaultCategory = new HashMap<>();
+        Map<String, Double> defaultMethods = new HashMap<>();
+        defaultMethods.put("raw", 1.0);
+        defaultMethods.put("steamed", 1.0);
+        defaultMethods.put("boiled", 1.0);
+        defaultMethods.put("grilled", 1.2);
+        defaultMethods.put("fried", 1.5);
+        defaultMethods.put("deep-fried", 2.0);
+        defaultMethods.put("baked", 1.1);
+        defaultMethods.put("roasted", 1.2);
+        defaultCategory.put("default", defaultMethods);
+        calorieModifiers.put("default", defaultCategory);
+
+        // Categories
+        Map<String, Map<String, Double>> categories = new HashMap<>();
+
+        // Meat category
+        Map<String, Double> meatMethods = new HashMap<>();
+        meatMethods.put("grilled", 1.3);
+        meatMethods.put("fried", 1.7);
+        meatMethods.put("sauteed", 1.4);
+        meatMethods.put("roasted", 1.3);
+        meatMethods.put("braised", 1.15);
+        categories.put("meat", meatMethods);
+
+        calorieModifiers.put("categories", categories);
+        return calorieModifiers;
+    }
+
+    private static void addRows(Map<String, Map<String, Double>> section, Map<String, Integer> index,
+                                List<Map<String, Double>> rows) {
+        if (section == null) {
+            return;
+        }
+        for (Map.Entry<String, Map<String, Double>> entry : section.entrySet()) {
+            if (entry.getValue() != null) {
+                index.put(entry.getKey(), rows.size());
+                rows.add(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Finds the modifier row for an ingredient.
+     *
+     * @param lowerCaseName Lower-cased ingredient name
+     * @param category Lower-cased category
+     * @return Row index, or {@link #NO_ROW} if no group applies
+     */
+    int rowFor(String lowerCaseName, String category) {
+        if (hasIngredients) {
+            return ingredientRows.getOrDefault(lowerCaseName, NO_ROW);
+        }
+        if (category.equals("meat") && hasSubcategories
+            && (lowerCaseName.contains("chicken") || lowerCaseName.contains("turkey"))) {
+            return subcategoryRows.getOrDefault("poultry", NO_ROW);
+        }
+        if (category.equals("meat") && hasSubcategories
+            && (lowerCaseName.contains("salmon") || lowerCaseName.contains("tuna")
+                || lowerCaseName.contains("cod") || lowerCaseName.contains("fish"))) {
+            return subcategoryRows.getOrDefault("fish", NO_ROW);
+        }
+        if ((category.equals("vegetable") || category.equals("fruit")) && hasSubcategories) {
+            return subcategoryRows.getOrDefault(category, NO_ROW);
+        }
+        if (hasCategories) {
+            return categoryRows.getOrDefault(category, NO_ROW);
+        }
+        return defaultRow;
+    }
+
+    /**
+     * Gets the id of a cooking method.
+     *
+     * @param cookingMethod Lower-cased cooking method
+     * @return Method id, or {@link #NO_METHOD} if no group lists it
+     */
+    int methodId(String cookingMethod) {
+        return methodIds.getOrDefault(cookingMethod, NO_METHOD);
+    }
+
+    /**
+     * Looks up the modifier for an ingredient cooked a given way.
+     *
+     * @param ingredientName Ingredient name, in any case
+     * @param category Lower-cased category
+     * @param cookingMethod Lower-cased cooking method
+     * @return The modifier, or 1.0 if none applies
+     */
+    public double modifierFor(String ingredientName, String category, String cookingMethod) {
+        return modifier(rowFor(ingredientName.toLowerCase(), category), methodId(cookingMethod));
+    }
+
+    /**
+     * Gets the modifier maps this table was compiled from.
+     *
+     * @return Unmodifiable nested map of calorie modifiers
+     */
+    public Map<String, Map<String, Map<String, Double>>> getModifiers() {
+        return source;
+    }
+
+    /**
+     * Gets a modifier by row and method id.
+     *
+     * @param row Row from {@link #rowFor(String, String)}
+     * @param methodId Id from {@link #methodId(String)}
+     * @return The modifier, or 1.0 if either is missing
+     */
+    double modifier(int row, int methodId) {
+        if (row == NO_ROW || methodId == NO_METHOD) {
+            return 1.0;
+        }
+        return modifiers[row * methodCount + methodId];
+    }
+}
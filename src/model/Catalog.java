@@ -0,0 +1,169 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable bundle of all catalog data used by the application: recipes,
+ * category ingredient lists, micro-nutrition tables and calorie modifiers.
+ * Can be loaded from the JSON source files or restored from a {@link CatalogSnapshot}.
+ */
+public class Catalog {
+    public static final String CALORIE_MODIFIER_FILE = "CalorieModifier.json";
+    public static final String NUTRITION_FILE = "micro_nutrition.json";
+    public static final String RECIPES_FILE = "recipes.json";
+
+    private final List<Recipe> recipes;
+    private final Map<String, List<Ingredient>> ingredientsByCategory;
+    private final NutritionDatabase nutritionDatabase;
+    private final CalorieModifierTable modifierTable;
+
+    /**
+     * Creates a catalog from already loaded data.
+     *
+     * @param recipes All recipes
+     * @param ingredientsByCategory Ingredient lists keyed by category name
+     * @param nutritionData Map of category to ingredient nutrition info
+     * @param calorieModifiers Nested map of calorie modifiers
+     */
+    public Catalog(List<Recipe> recipes, Map<String, List<Ingredient>> ingredientsByCategory,
+                   Map<String, Map<String, NutritionInfo>> nutritionData,
+                   Map<String, Map<String, Map<String, Double>>> calorieModifiers) {
+        this(recipes, ingredientsByCategory, NutritionDatabase.of(nutritionData), calorieModifiers);
+    }
+
+    /**
+     * Creates a catalog from already loaded data and nutrition database.
+     *
+     * @param recipes All recipes
+     * @param ingredientsByCategory Ingredient lists keyed by category name
+     * @param nutritionDatabase Database of per-100g nutrition values
+     * @param calorieModifiers Nested map of calorie modifiers
+     */
+    public Catalog(List<Recipe> recipes, Map<String, List<Ingredient>> ingredientsByCategory,
+                   NutritionDatabase nutritionDatabase,
+                   Map<String, Map<String, Map<String, Double>>> calorieModifiers) {
+        this(recipes, ingredientsByCategory, nutritionDatabase,
+            calorieModifiers != null ? CalorieModifierTable.compile(calorieModifiers) : null);
+    }
+
+    /**
+     * Creates a catalog from already loaded data, nutrition database and modifier table.
+     *
+     * @param recipes All recipes
+     * @param ingredientsByCategory Ingredient lists keyed by category name
+     * @param nutritionDatabase Database of per-100g nutrition values
+     * @param modifierTable Compiled calorie modifiers
+     */
+    public Catalog(List<Recipe> recipes, Map<String, List<Ingredient>> ingredientsByCategory,
+                   NutritionDatabase nutritionDatabase, CalorieModifierTable modifierTable) {
+        if (recipes == null || ingredientsByCategory == null || nutritionDatabase == null || modifierTable == null) {
+            throw new IllegalArgumentException("Catalog data cannot be null");
+        }
+        this.recipes = Collections.unmodifiableList(new ArrayList<>(recipes));
+        Map<String, List<Ingredient>> categories = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Ingredient>> entry : ingredientsByCategory.entrySet()) {
+            categories.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+        }
+        this.ingredientsByCategory = Collections.unmodifiableMap(categories);
+        this.nutritionDatabase = nutritionDatabase;
+        this.modifierTable = modifierTable;
+    }
+
+    /**
+     * Loads every catalog file from a data directory, reading the files concurrently.
+     *
+     * @param dataDir Directory containing the JSON source files
+     * @return Loaded catalog
+     * @throws IOException If any file cannot be read
+     */
+    public static Catalog loadFromJson(Path dataDir) throws IOException {
+        return new CatalogLoader().load(dataDir);
+    }
+
+    /**
+     * Lists the JSON source files a catalog is built from.
+     *
+     * @param dataDir Directory containing the JSON source files
+     * @return Paths of all source files
+     */
+    public static List<Path> sourceFiles(Path dataDir) {
+        List<Path> files = new ArrayList<>();
+        files.add(dataDir.resolve(CALORIE_MODIFIER_FILE));
+        for (String category : Ingredient.getAllCategories()) {
+            files.add(dataDir.resolve(category + ".json"));
+        }
+        files.add(dataDir.resolve(NUTRITION_FILE));
+        files.add(dataDir.resolve(RECIPES_FILE));
+        return files;
+    }
+
+    /**
+     * Makes this catalog's ingredient lists the ones used by {@link Ingredient}, and its
+     * nutrition database and modifier table the ones shared by every {@link NutritionCalculator}.
+     */
+    public void install() {
+        Ingredient.installCatalogData(ingredientsByCategory);
+        NutritionDatabase.install(nutritionDatabase);
+        CalorieModifierTable.install(modifierTable);
+    }
+
+    /**
+     * Gets all recipes.
+     *
+     * @return Unmodifiable list of recipes
+     */
+    public List<Recipe> getRecipes() {
+        return recipes;
+    }
+
+    /**
+     * Gets the ingredient lists keyed by category name.
+     *
+     * @return Unmodifiable map of category to ingredients
+     */
+    public Map<String, List<Ingredient>> getIngredientsByCategory() {
+        return ingredientsByCategory;
+    }
+
+    /**
+     * Gets the micro-nutrition tables.
+     *
+     * @return Unmodifiable map of category to ingredient nutrition info
+     */
+    public Map<String, Map<String, NutritionInfo>> getNutritionData() {
+        return nutritionDatabase.getNutritionData();
+    }
+
+    /**
+     * Gets the nutrition database.
+     *
+     * @return Immutable nutrition database
+     */
+    public NutritionDatabase getNutritionDatabase() {
+        return nutritionDatabase;
+    }
+
+    /**
+     * Gets the calorie modifiers.
+     *
+     * @return Unmodifiable nested map of calorie modifiers
+     */
+    public Map<String, Map<String, Map<String, Double>>> getCalorieModifiers() {
+        return modifierTable.getModifiers();
+    }
+
+    /**
+     * Gets the compiled calorie modifiers.
+     *
+     * @return Calorie modifier table
+     */
+    public CalorieModifierTable getModifierTable() {
+        return modifierTable;
+    }
+}
@@ -0,0 +1,145 @@
+package model;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the catalog JSON files concurrently on a bounded pool of worker threads.
+ * Every file is read and parsed as its own task, and the results are published
+ * together as one {@link Catalog} once all of them have finished, so the load
+ * takes roughly as long as the largest file.
+ */
+public class CatalogLoader {
+    private static final int MAX_THREADS = 9; // One per catalog file
+
+    private final int threads;
+
+    /**
+     * Creates a loader sized to the available processors.
+     */
+    public CatalogLoader() {
+        this(Math.min(Runtime.getRuntime().availableProcessors(), MAX_THREADS));
+    }
+
+    /**
+     * Creates a loader with a fixed number of worker threads.
+     *
+     * @param threads Maximum number of files read at the same time
+     * @throws IllegalArgumentException If threads is not positive
+     */
+    public CatalogLoader(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Loads every catalog file from a data directory concurrently.
+     *
+     * @param dataDir Directory containing the JSON source files
+     * @return Loaded catalog
+     * @throws IOException If any file cannot be read
+     */
+    public Catalog load(Path dataDir) throws IOException {
+        ExecutorService executor = newExecutor();
+        try {
+            Future<CalorieModifierTable> modifiers = executor.submit(
+                () -> CalorieModifierTable.load(dataDir.resolve(Catalog.CALORIE_MODIFIER_FILE)));
+            Future<NutritionDatabase> nutritionDatabase = executor.submit(
+                () -> NutritionDatabase.load(dataDir.resolve(Catalog.NUTRITION_FILE)));
+            // Recipes are parsed alongside the database and modifiers rather than after them;
+            // nutrition is calculated lazily, so their calculator is attached once everything has loaded
+            Future<List<Recipe>> recipes = executor.submit(
+                () -> JSONParser.readRecipesFromFile(dataDir.resolve(Catalog.RECIPES_FILE).toString()));
+            Map<String, Future<List<Ingredient>>> categories = submitCategories(executor, dataDir);
+
+            List<Recipe> loadedRecipes = await(recipes, Catalog.RECIPES_FILE);
+            Map<String, List<Ingredient>> ingredientsByCategory = awaitCategories(categories);
+            NutritionDatabase database = await(nutritionDatabase, Catalog.NUTRITION_FILE);
+            CalorieModifierTable modifierTable = await(modifiers, Catalog.CALORIE_MODIFIER_FILE);
+            NutritionCalculator calculator = new NutritionCalculator(database, modifierTable);
+            for (Recipe recipe : loadedRecipes) {
+                recipe.setNutritionCalculator(calculator);
+            }
+            return new Catalog(loadedRecipes, ingredientsByCategory, database, modifierTable);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Loads the ingredient category files from a data directory concurrently.
+     *
+     * @param dataDir Directory containing the category JSON files
+     * @return Ingredient lists keyed by category name
+     * @throws IOException If any file cannot be read
+     */
+    public Map<String, List<Ingredient>> loadIngredients(Path dataDir) throws IOException {
+        ExecutorService executor = newExecutor();
+        try {
+            return awaitCategories(submitCategories(executor, dataDir));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Future<List<Ingredient>>> submitCategories(ExecutorService executor, Path dataDir) {
+        Map<String, Future<List<Ingredient>>> categories = new LinkedHashMap<>();
+        for (String category : Ingredient.getAllCategories()) {
+            String file = dataDir.resolve(category + ".json").toString();
+            Callable<List<Ingredient>> task = () -> JSONParser.readIngredientsFromFile(file);
+            categories.put(category, executor.submit(task));
+        }
+        return categories;
+    }
+
+    private static Map<String, List<Ingredient>> awaitCategories(Map<String, Future<List<Ingredient>>> categories)
+            throws IOException {
+        Map<String, List<Ingredient>> ingredientsByCategory = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<List<Ingredient>>> entry : categories.entrySet()) {
+            ingredientsByCategory.put(entry.getKey(), await(entry.getValue(), entry.getKey() + ".json"));
+        }
+        return ingredientsByCategory;
+    }
+
+    /**
+     * Waits for a load task, rethrowing its failure as an IOException.
+     */
+    private static <T> T await(Future<T> future, String fileName) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading " + fileName);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            Log.error("Error loading " + fileName + ": " + cause.getMessage());
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Error loading " + fileName + ": " + cause.getMessage(), cause);
+        }
+    }
+
+    private ExecutorService newExecutor() {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "catalog-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads, factory);
+    }
+}
@@ -0,0 +1,540 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Reads and writes a compact binary snapshot of a {@link Catalog}.
+ * Restoring a snapshot skips JSON parsing and nutrition calculation entirely,
+ * since recipes are stored with their nutrition already resolved.
+ *
+ * <p>Layout, all values big-endian:
+ * <ul>
+ *   <li>Header: magic, format version, newest source file timestamp</li>
+ *   <li>String dictionary: every name, unit, method and description is stored once
+ *       and referenced by index</li>
+ *   <li>Calorie modifiers, the nutrition database's columns with their nutrient
+ *       schema, category ingredients and recipes, with repeated fields written as
+ *       primitive columns</li>
+ *   <li>CRC32 checksum of everything before it</li>
+ * </ul>
+ */
+public class CatalogSnapshot {
+    private static final int MAGIC = 0x43415453; // "CATS"
+    private static final int VERSION = 4;
+    private static final int NO_STRING = -1;
+
+    /**
+     * Loads the catalog from a snapshot when it is at least as new as every JSON source file,
+     * otherwise parses the JSON files and writes a fresh snapshot for the next start.
+     *
+     * @param dataDir Directory containing the JSON source files
+     * @param snapshotFile Location of the snapshot
+     * @return Loaded catalog
+     * @throws IOException If neither the snapshot nor the JSON files can be read
+     */
+    public static Catalog loadOrBuild(Path dataDir, Path snapshotFile) throws IOException {
+        return load(dataDir, snapshotFile).getCatalog();
+    }
+
+    /**
+     * Loads the catalog as {@link #loadOrBuild(Path, Path)} does, also telling whether
+     * it was rebuilt from the JSON files, so callers can redo work that depends on
+     * the sources without reading the snapshot header again.
+     *
+     * @param dataDir Directory containing the JSON source files
+     * @param snapshotFile Location of the snapshot
+     * @return Loaded catalog and how it was loaded
+     * @throws IOException If neither the snapshot nor the JSON files can be read
+     */
+    public static Loaded load(Path dataDir, Path snapshotFile) throws IOException {
+        long sourceTimestamp = latestModified(Catalog.sourceFiles(dataDir));
+
+        if (Files.exists(snapshotFile)) {
+            try {
+                if (readSourceTimestamp(snapshotFile) >= sourceTimestamp) {
+                    Log.info("Loading catalog snapshot: " + snapshotFile);
+                    return new Loaded(read(snapshotFile), false);
+                }
+                Log.info("Catalog snapshot is older than its source files, rebuilding");
+            } catch (IOException e) {
+                Log.warn("Ignoring unreadable catalog snapshot: " + e.getMessage());
+            }
+        }
+
+        Catalog catalog = Catalog.loadFromJson(dataDir);
+        try {
+            write(catalog, snapshotFile, sourceTimestamp);
+        } catch (IOException e) {
+            Log.warn("Could not write catalog snapshot: " + e.getMessage());
+        }
+        return new Loaded(catalog, true);
+    }
+
+    /**
+     * Writes a catalog snapshot, replacing any existing file atomically where supported.
+     *
+     * @param catalog Catalog to write
+     * @param snapshotFile Destination file
+     * @param sourceTimestamp Newest modification time of the source files the catalog came from
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(Catalog catalog, Path snapshotFile, long sourceTimestamp) throws IOException {
+        StringTable strings = new StringTable();
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        try (DataOutputStream body = new DataOutputStream(bodyBytes)) {
+            writeNestedValues(body, strings, catalog.getCalorieModifiers());
+            writeNutritionDatabase(body, strings, catalog.getNutritionDatabase());
+            writeCategories(body, strings, catalog.getIngredientsByCategory());
+            writeRecipes(body, strings, catalog.getRecipes());
+        }
+
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile)), checksum))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sourceTimestamp);
+            strings.writeTo(out);
+            bodyBytes.writeTo(out);
+            out.writeLong(checksum.getValue());
+        }
+
+        try {
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a catalog snapshot, verifying its format version and checksum.
+     *
+     * @param snapshotFile Snapshot to read
+     * @return Restored catalog
+     * @throws IOException If the file is unreadable, of another version, or corrupt
+     */
+    public static Catalog read(Path snapshotFile) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotFile)), checksum))) {
+            readHeader(in, snapshotFile);
+            String[] strings = readStrings(in);
+
+            Map<String, Map<String, Map<String, Double>>> modifiers = readNestedValues(in, strings);
+            NutritionDatabase nutritionDatabase = readNutritionDatabase(in, strings);
+            Map<String, List<Ingredient>> ingredientsByCategory = readCategories(in, strings);
+            List<Recipe> recipes = readRecipes(in, strings);
+
+            long expected = checksum.getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Checksum mismatch in catalog snapshot: " + snapshotFile);
+            }
+
+            return new Catalog(recipes, ingredientsByCategory, nutritionDatabase, modifiers);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException("Invalid data in catalog snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the source timestamp recorded in a snapshot header.
+     *
+     * @param snapshotFile Snapshot to inspect
+     * @return Newest source modification time at the time the snapshot was written
+     * @throws IOException If the header is unreadable or of another version
+     */
+    public static long readSourceTimestamp(Path snapshotFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            return readHeader(in, snapshotFile);
+        }
+    }
+
+    private static long readHeader(DataInputStream in, Path snapshotFile) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a catalog snapshot: " + snapshotFile);
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported catalog snapshot version " + version + ": " + snapshotFile);
+        }
+        return in.readLong();
+    }
+
+    private static long latestModified(List<Path> files) throws IOException {
+        long latest = 0;
+        for (Path file : files) {
+            if (!Files.exists(file)) {
+                throw new IOException("File not found: " + file);
+            }
+            latest = Math.max(latest, Files.getLastModifiedTime(file).toMillis());
+        }
+        return latest;
+    }
+
+    /**
+     * Writes a three-level map of named values, such as calorie modifiers
+     * (section, group, method).
+     */
+    private static void writeNestedValues(DataOutputStream out, StringTable strings,
+                                          Map<String, Map<String, Map<String, Double>>> values) throws IOException {
+        out.writeInt(values.size());
+        for (Map.Entry<String, Map<String, Map<String, Double>>> section : values.entrySet()) {
+            out.writeInt(strings.id(section.getKey()));
+            out.writeInt(section.getValue().size());
+            for (Map.Entry<String, Map<String, Double>> entry : section.getValue().entrySet()) {
+                out.writeInt(strings.id(entry.getKey()));
+                Map<String, Double> named = entry.getValue();
+                out.writeInt(named.size());
+                for (String name : named.keySet()) {
+                    out.writeInt(strings.id(name));
+                }
+                for (double value : named.values()) {
+                    out.writeDouble(value);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Map<String, Map<String, Double>>> readNestedValues(DataInputStream in, String[] strings)
+            throws IOException {
+        Map<String, Map<String, Map<String, Double>>> result = new HashMap<>();
+        int sectionCount = in.readInt();
+        for (int s = 0; s < sectionCount; s++) {
+            String section = strings[in.readInt()];
+            int entryCount = in.readInt();
+            Map<String, Map<String, Double>> entries = new HashMap<>();
+            for (int e = 0; e < entryCount; e++) {
+                String entry = strings[in.readInt()];
+                int[] nameIds = readInts(in, in.readInt());
+                double[] values = readDoubles(in, nameIds.length);
+                Map<String, Double> named = new HashMap<>();
+                for (int n = 0; n < nameIds.length; n++) {
+                    named.put(strings[nameIds[n]], values[n]);
+                }
+                entries.put(entry, named);
+            }
+            result.put(section, entries);
+        }
+        return result;
+    }
+
+    /**
+     * Writes the nutrition database from its columns: the schema's nutrient keys,
+     * then for each category its food names and one column of values per nutrient.
+     * Food ids follow the iteration order of the nutrition tables, so each
+     * category's foods are consecutive ids.
+     */
+    private static void writeNutritionDatabase(DataOutputStream out, StringTable strings,
+                                               NutritionDatabase database) throws IOException {
+        NutrientSchema schema = database.getSchema();
+        out.writeInt(schema.size());
+        for (String key : schema.getKeys()) {
+            out.writeInt(strings.id(key));
+        }
+
+        Map<String, Map<String, NutritionInfo>> nutritionData = database.getNutritionData();
+        out.writeInt(nutritionData.size());
+        int firstFood = 0;
+        for (Map.Entry<String, Map<String, NutritionInfo>> category : nutritionData.entrySet()) {
+            out.writeInt(strings.id(category.getKey()));
+            out.writeInt(category.getValue().size());
+            for (String name : category.getValue().keySet()) {
+                out.writeInt(strings.id(name));
+            }
+            int endFood = firstFood + category.getValue().size();
+            for (int column = 0; column < schema.size(); column++) {
+                for (int food = firstFood; food < endFood; food++) {
+                    out.writeDouble(database.getNutrient(column, food));
+                }
+            }
+            firstFood = endFood;
+        }
+    }
+
+    private static NutritionDatabase readNutritionDatabase(DataInputStream in, String[] strings)
+            throws IOException {
+        int[] keyIds = readInts(in, in.readInt());
+        List<String> keys = new ArrayList<>(keyIds.length);
+        for (int keyId : keyIds) {
+            keys.add(strings[keyId]);
+        }
+        NutrientSchema schema = NutrientSchema.of(keys);
+        if (!schema.getKeys().equals(keys)) {
+            throw new IOException("Unexpected nutrient order in catalog snapshot: " + keys);
+        }
+        int first = NutrientSchema.macros().size();
+
+        Map<String, Map<String, NutritionInfo>> nutritionData = new HashMap<>();
+        Map<String, Map<String, double[]>> extraValues = new HashMap<>();
+        int categoryCount = in.readInt();
+        for (int c = 0; c < categoryCount; c++) {
+            String category = strings[in.readInt()];
+            int[] nameIds = readInts(in, in.readInt());
+            double[][] columns = new double[keys.size()][];
+            for (int column = 0; column < columns.length; column++) {
+                columns[column] = readDoubles(in, nameIds.length);
+            }
+
+            Map<String, NutritionInfo> categoryMap = new HashMap<>();
+            Map<String, double[]> categoryExtras = new HashMap<>();
+            for (int i = 0; i < nameIds.length; i++) {
+                String name = strings[nameIds[i]];
+                categoryMap.put(name, new NutritionInfo(columns[NutritionAccumulator.PROTEIN][i],
+                    columns[NutritionAccumulator.FAT][i], columns[NutritionAccumulator.CARBOHYDRATES][i],
+                    columns[NutritionAccumulator.FIBER][i], columns[NutritionAccumulator.SUGAR][i],
+                    columns[NutritionAccumulator.SODIUM][i]));
+                if (columns.length > first) {
+                    double[] extras = new double[columns.length - first];
+                    for (int column = first; column < columns.length; column++) {
+                        extras[column - first] = columns[column][i];
+                    }
+                    categoryExtras.put(name, extras);
+                }
+            }
+            nutritionData.put(category, categoryMap);
+            extraValues.put(category, categoryExtras);
+        }
+        return NutritionDatabase.of(nutritionData, schema, extraValues);
+    }
+
+    private static void writeCategories(DataOutputStream out, StringTable strings,
+                                        Map<String, List<Ingredient>> ingredientsByCategory) throws IOException {
+        out.writeInt(ingredientsByCategory.size());
+        for (Map.Entry<String, List<Ingredient>> category : ingredientsByCategory.entrySet()) {
+            out.writeInt(strings.id(category.getKey()));
+            writeIngredients(out, strings, category.getValue());
+        }
+    }
+
+    private static Map<String, List<Ingredient>> readCategories(DataInputStream in, String[] strings)
+            throws IOException {
+        Map<String, List<Ingredient>> ingredientsByCategory = new LinkedHashMap<>();
+        int categoryCount = in.readInt();
+        for (int c = 0; c < categoryCount; c++) {
+            String category = strings[in.readInt()];
+            ingredientsByCategory.put(category, readIngredients(in, strings));
+        }
+        return ingredientsByCategory;
+    }
+
+    /**
+     * Writes a list of ingredients as one primitive column per field.
+     */
+    private static void writeIngredients(DataOutputStream out, StringTable strings, List<Ingredient> ingredients)
+            throws IOException {
+        out.writeInt(ingredients.size());
+        for (Ingredient ingredient : ingredients) {
+            out.writeInt(strings.id(ingredient.getName()));
+        }
+        for (Ingredient ingredient : ingredients) {
+            out.writeDouble(ingredient.getQuantity());
+        }
+        for (Ingredient ingredient : ingredients) {
+            out.writeInt(strings.id(ingredient.getUnit()));
+        }
+        for (Ingredient ingredient : ingredients) {
+            out.writeInt(ingredient.getCaloriesPerUnit());
+        }
+        for (Ingredient ingredient : ingredients) {
+            out.writeDouble(ingredient.getPricePerUnit());
+        }
+        for (Ingredient ingredient : ingredients) {
+            out.writeInt(strings.id(ingredient.getCategory()));
+        }
+        for (Ingredient ingredient : ingredients) {
+            out.writeInt(strings.id(ingredient.getCookingMethod()));
+        }
+        for (Ingredient ingredient : ingredients) {
+            out.writeInt(strings.id(ingredient.getDescription()));
+        }
+    }
+
+    private static List<Ingredient> readIngredients(DataInputStream in, String[] strings) throws IOException {
+        int count = in.readInt();
+        int[] names = readInts(in, count);
+        double[] quantities = readDoubles(in, count);
+        int[] units = readInts(in, count);
+        int[] calories = readInts(in, count);
+        double[] prices = readDoubles(in, count);
+        int[] categories = readInts(in, count);
+        int[] cookingMethods = readInts(in, count);
+        int[] descriptions = readInts(in, count);
+
+        List<Ingredient> ingredients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String description = descriptions[i] == NO_STRING ? null : strings[descriptions[i]];
+            ingredients.add(new Ingredient(strings[names[i]], quantities[i], strings[units[i]], calories[i],
+                prices[i], strings[categories[i]], strings[cookingMethods[i]], description, prices[i]));
+        }
+        return ingredients;
+    }
+
+    private static void writeRecipes(DataOutputStream out, StringTable strings, List<Recipe> recipes)
+            throws IOException {
+        out.writeInt(recipes.size());
+        for (Recipe recipe : recipes) {
+            out.writeInt(strings.id(recipe.getName()));
+            out.writeInt(strings.id(recipe.getFlavor()));
+            out.writeInt(strings.id(recipe.getCuisine()));
+            out.writeInt(recipe.getPrepTime());
+
+            List<String> tags = recipe.getFlavorTags();
+            out.writeInt(tags.size());
+            for (String tag : tags) {
+                out.writeInt(strings.id(tag));
+            }
+
+            writeIngredients(out, strings, recipe.getIngredients());
+
+            NutritionInfo info = recipe.getNutritionInfo();
+            out.writeBoolean(info != null);
+            if (info != null) {
+                out.writeDouble(info.getProtein());
+                out.writeDouble(info.getFat());
+                out.writeDouble(info.getCarbohydrates());
+                out.writeDouble(info.getFiber());
+                out.writeDouble(info.getSugar());
+                out.writeDouble(info.getSodium());
+            }
+        }
+    }
+
+    private static List<Recipe> readRecipes(DataInputStream in, String[] strings) throws IOException {
+        int count = in.readInt();
+        List<Recipe> recipes = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            String name = strings[in.readInt()];
+            String flavor = strings[in.readInt()];
+            String cuisine = strings[in.readInt()];
+            int prepTime = in.readInt();
+
+            int[] tagIds = readInts(in, in.readInt());
+            List<String> tags = new ArrayList<>(tagIds.length);
+            for (int tagId : tagIds) {
+                tags.add(strings[tagId]);
+            }
+
+            List<Ingredient> ingredients = readIngredients(in, strings);
+
+            NutritionInfo info = null;
+            if (in.readBoolean()) {
+                info = new NutritionInfo(in.readDouble(), in.readDouble(), in.readDouble(),
+                    in.readDouble(), in.readDouble(), in.readDouble());
+            }
+            recipes.add(new Recipe(name, flavor, tags, cuisine, prepTime, ingredients, info));
+        }
+        return recipes;
+    }
+
+    private static String[] readStrings(DataInputStream in) throws IOException {
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static int[] readInts(DataInputStream in, int count) throws IOException {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(DataInputStream in, int count) throws IOException {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readDouble();
+        }
+        return values;
+    }
+
+    /**
+     * A catalog returned by {@link #load(Path, Path)}, with whether it was rebuilt
+     * from the JSON source files rather than read from the snapshot.
+     */
+    public static final class Loaded {
+        private final Catalog catalog;
+        private final boolean rebuilt;
+
+        private Loaded(Catalog catalog, boolean rebuilt) {
+            this.catalog = catalog;
+            this.rebuilt = rebuilt;
+        }
+
+        /**
+         * Gets the loaded catalog.
+         *
+         * @return The catalog
+         */
+        public Catalog getCatalog() {
+            return catalog;
+        }
+
+        /**
+         * Tells whether the catalog was parsed from the JSON files because the
+         * snapshot was missing, stale or unreadable.
+         *
+         * @return True if the catalog was rebuilt
+         */
+        public boolean isRebuilt() {
+            return rebuilt;
+        }
+    }
+
+    /**
+     * Assigns each distinct string a dictionary index in order of first use.
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int id(String value) {
+            if (value == null) {
+                return NO_STRING;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package model;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -12,7 +12,6 @@ import java.util.Map;
  * Supports loading ingredient data from JSON files and provides category-based organization.
  */
 public class Ingredient extends AbstractIngredient {
-    private static Map<String, Map<String, Map<String, Double>>> calorieModifiers;
     private static List<Ingredient> meatIngredients;
     private static List<Ingredient> vegetableIngredients;
     private static List<Ingredient> fruitIngredients;
@@ -20,34 +19,66 @@ public class Ingredient extends AbstractIngredient {
     private static List<Ingredient> seasoningIngredients;
     private String description;
     private final double price; // Price per unit
+    private ModifierSlot modifierSlot; // Cached modifier for the current table and cooking method
 
     // Path to JSON files
     private static final String JSON_BASE_PATH = "src/ingredientsSource/";
     private static final String ALTERNATE_JSON_BASE_PATH = "FinalProject_5004/src/ingredientsSource/";
 
-    static {
-        // Initialize calorie modifiers and ingredients
+    // Set once the static data is available, either loaded from JSON or installed from a catalog
+    private static volatile boolean dataLoaded;
+
+    /**
+     * Loads the category ingredient lists from the JSON files on first use,
+     * unless catalog data has already been installed.
+     */
+    private static void ensureDataLoaded() {
+        if (dataLoaded) {
+            return;
+        }
+        synchronized (Ingredient.class) {
+            if (dataLoaded) {
+                return;
+            }
+            loadData();
+            dataLoaded = true;
+        }
+    }
+
+    private static void loadData() {
+        // Calorie modifiers come from the shared CalorieModifierTable; only ingredients are loaded here
         try {
             // Try loading from primary path first
             try {
-                System.out.println("Trying primary path for CalorieModifier.json: " + JSON_BASE_PATH);
-                calorieModifiers = JSONParser.readCalorieModifiers(JSON_BASE_PATH + "CalorieModifier.json");
+                Log.debug(() -> "Trying primary path for ingredients: " + JSON_BASE_PATH);
                 loadIngredientsFromJSON(JSON_BASE_PATH);
             } catch (IOException e) {
                 // If primary path fails, try alternate path
-                System.out.println("Primary path failed, trying alternate path: " + ALTERNATE_JSON_BASE_PATH);
-                calorieModifiers = JSONParser.readCalorieModifiers(ALTERNATE_JSON_BASE_PATH + "CalorieModifier.json");
+                Log.debug(() -> "Primary path failed, trying alternate path: " + ALTERNATE_JSON_BASE_PATH);
                 loadIngredientsFromJSON(ALTERNATE_JSON_BASE_PATH);
             }
         } catch (IOException e) {
-            System.err.println("Error loading data from JSON files: " + e.getMessage());
+            Log.error("Error loading data from JSON files: " + e.getMessage());
             
             // Initialize with defaults if JSON loading fails
-            initializeCalorieModifiers();
             initializeDefaultIngredients();
         }
     }
 
+    /**
+     * Installs already loaded category ingredient lists, so the JSON files are not read again.
+     *
+     * @param ingredientsByCategory Ingredient lists keyed by category name
+     */
+    static synchronized void installCatalogData(Map<String, List<Ingredient>> ingredientsByCategory) {
+        meatIngredients = new ArrayList<>(ingredientsByCategory.getOrDefault("meat", new ArrayList<>()));
+        vegetableIngredients = new ArrayList<>(ingredientsByCategory.getOrDefault("vegetable", new ArrayList<>()));
+        fruitIngredients = new ArrayList<>(ingredientsByCategory.getOrDefault("fruit", new ArrayList<>()));
+        dairyIngredients = new ArrayList<>(ingredientsByCategory.getOrDefault("dairy", new ArrayList<>()));
+        seasoningIngredients = new ArrayList<>(ingredientsByCategory.getOrDefault("seasoning", new ArrayList<>()));
+        dataLoaded = true;
+    }
+
     /**
      * Creates a new ingredient.
      *
@@ -101,174 +132,64 @@ public class Ingredient extends AbstractIngredient {
     /**
      * Calculates calories per unit modified by cooking method.
      * Applies modifiers based on ingredient name, category and cooking method.
+     * The modifier is looked up once in the shared {@link CalorieModifierTable} and
+     * cached until the cooking method or the shared table changes.
      *
      * @return Modified calories per unit
      */
     @Override
     public double getModifiedCaloriesPerUnit() {
-        double modifier = 1.0; // Default modifier
-        String lowerCaseName = name.toLowerCase();
-
-        // First check if there's a specific modifier for this ingredient
-        if (calorieModifiers.containsKey("ingredients")) {
-            Map<String, Map<String, Double>> ingredients = calorieModifiers.get("ingredients");
-            if (ingredients.containsKey(lowerCaseName)) {
-                Map<String, Double> methods = ingredients.get(lowerCaseName);
-                if (methods.containsKey(cookingMethod)) {
-                    modifier = methods.get(cookingMethod);
-                }
-            }
-        }
-        // Next check if there's a modifier for this subcategory
-        else if (category.equals("meat") && 
-                (lowerCaseName.contains("chicken") || lowerCaseName.contains("turkey")) && 
-                calorieModifiers.containsKey("subcategories")) {
-            Map<String, Map<String, Double>> subcategories = calorieModifiers.get("subcategories");
-            if (subcategories.containsKey("poultry")) {
-                Map<String, Double> methods = subcategories.get("poultry");
-                if (methods.containsKey(cookingMethod)) {
-                    modifier = methods.get(cookingMethod);
-                }
-            }
-        }
-        else if (category.equals("meat") && 
-                (lowerCaseName.contains("salmon") || lowerCaseName.contains("tuna") || 
-                lowerCaseName.contains("cod") || lowerCaseName.contains("fish")) && 
-                calorieModifiers.containsKey("subcategories")) {
-            Map<String, Map<String, Double>> subcategories = calorieModifiers.get("subcategories");
-            if (subcategories.containsKey("fish")) {
-                Map<String, Double> methods = subcategories.get("fish");
-                if (methods.containsKey(cookingMethod)) {
-                    modifier = methods.get(cookingMethod);
-                }
-            }
-        }
-        else if (category.equals("vegetable") && 
-                calorieModifiers.containsKey("subcategories")) {
-            Map<String, Map<String, Double>> subcategories = calorieModifiers.get("subcategories");
-            if (subcategories.containsKey("vegetable")) {
-                Map<String, Double> methods = subcategories.get("vegetable");
-                if (methods.containsKey(cookingMethod)) {
-                    modifier = methods.get(cookingMethod);
-                }
-            }
-        }
-        else if (category.equals("fruit") && 
-                calorieModifiers.containsKey("subcategories")) {
-            Map<String, Map<String, Double>> subcategories = calorieModifiers.get("subcategories");
-            if (subcategories.containsKey("fruit")) {
-                Map<String, Double> methods = subcategories.get("fruit");
-                if (methods.containsKey(cookingMethod)) {
-                    modifier = methods.get(cookingMethod);
-                }
-            }
-        }
-        // Then check if there's a modifier for this category
-        else if (calorieModifiers.containsKey("categories")) {
-            Map<String, Map<String, Double>> categories = calorieModifiers.get("categories");
-            if (categories.containsKey(category)) {
-                Map<String, Double> methods = categories.get(category);
-                if (methods.containsKey(cookingMethod)) {
-                    modifier = methods.get(cookingMethod);
-                }
-            }
-        }
-        // Finally, fall back to the default modifier
-        else if (calorieModifiers.containsKey("default")) {
-            Map<String, Double> defaultMethods = calorieModifiers.get("default").get("default");
-            if (defaultMethods.containsKey(cookingMethod)) {
-                modifier = defaultMethods.get(cookingMethod);
-            }
+        CalorieModifierTable table = CalorieModifierTable.getInstance();
+        ModifierSlot slot = modifierSlot;
+        if (slot == null || slot.table != table) {
+            int row = table.rowFor(name.toLowerCase(), category);
+            slot = new ModifierSlot(table, table.modifier(row, table.methodId(cookingMethod)));
+            modifierSlot = slot;
         }
+        return caloriesPerUnit * slot.modifier;
+    }
 
-        return caloriesPerUnit * modifier;
+    /**
+     * Sets a new cooking method, invalidating the cached calorie modifier.
+     *
+     * @param cookingMethod New cooking method
+     * @throws IllegalArgumentException If cooking method is empty
+     */
+    @Override
+    public void setCookingMethod(String cookingMethod) {
+        super.setCookingMethod(cookingMethod);
+        modifierSlot = null;
     }
 
     /**
-     * Loads ingredients from JSON files into category-based lists.
-     * 
-     * @throws IOException If errors occur reading JSON files
+     * A calorie modifier together with the table it was read from.
      */
-    private static void loadIngredientsFromJSON(String basePath) throws IOException {
-        // Initialize lists
-        meatIngredients = new ArrayList<>();
-        vegetableIngredients = new ArrayList<>();
-        fruitIngredients = new ArrayList<>();
-        dairyIngredients = new ArrayList<>();
-        seasoningIngredients = new ArrayList<>();
-        
-        // Load ingredients from JSON files
-        try {
-            meatIngredients = JSONParser.readIngredientsFromFile(basePath + "meat.json");
-        } catch (IOException e) {
-            System.err.println("Error loading meat ingredients: " + e.getMessage());
-            throw e;
-        }
-        
-        try {
-            vegetableIngredients = JSONParser.readIngredientsFromFile(basePath + "vegetable.json");
-        } catch (IOException e) {
-            System.err.println("Error loading vegetable ingredients: " + e.getMessage());
-            throw e;
-        }
-        
-        try {
-            fruitIngredients = JSONParser.readIngredientsFromFile(basePath + "fruit.json");
-        } catch (IOException e) {
-            System.err.println("Error loading fruit ingredients: " + e.getMessage());
-            throw e;
-        }
-        
-        try {
-            dairyIngredients = JSONParser.readIngredientsFromFile(basePath + "dairy.json");
-        } catch (IOException e) {
-            System.err.println("Error loading dairy ingredients: " + e.getMessage());
-            throw e;
-        }
-        
-        try {
-            seasoningIngredients = JSONParser.readIngredientsFromFile(basePath + "seasoning.json");
-        } catch (IOException e) {
-            System.err.println("Error loading seasoning ingredients: " + e.getMessage());
-            throw e;
+    private static final class ModifierSlot {
+        private final CalorieModifierTable table;
+        private final double modifier;
+
+        ModifierSlot(CalorieModifierTable table, double modifier) {
+            this.table = table;
+            this.modifier = modifier;
         }
     }
 
     /**
-     * Initializes default calorie modifiers when JSON loading fails.
+     * Loads ingredients from JSON files into category-based lists.
+     * The category files are read concurrently.
+     * 
+     * @throws IOException If errors occur reading JSON files
      */
-    private static void initializeCalorieModifiers() {
-        calorieModifiers = new HashMap<>();
-        
-        // Default modifiers
-        Map<String, Map<String, Double>> defaultCategory = new HashMap<>();
-        Map<String, Double> defaultMethods = new HashMap<>();
-        defaultMethods.put("raw", 1.0);
-        defaultMethods.put("steamed", 1.0);
-        defaultMethods.put("boiled", 1.0);
-        defaultMethods.put("grilled", 1.2);
-        defaultMethods.put("fried", 1.5);
-        defaultMethods.put("deep-fried", 2.0);
-        defaultMethods.put("baked", 1.1);
-        defaultMethods.put("roasted", 1.2);
-        defaultCategory.put("default", defaultMethods);
-        calorieModifiers.put("default", defaultCategory);
-        
-        // Categories
-        Map<String, Map<String, Double>> categories = new HashMap<>();
-        
-        // Meat category
-        Map<String, Double> meatMethods = new HashMap<>();
-        meatMethods.put("grilled", 1.3);
-        meatMethods.put("fried", 1.7);
-        meatMethods.put("sauteed", 1.4);
-        meatMethods.put("roasted", 1.3);
-        meatMethods.put("braised", 1.15);
-        categories.put("meat", meatMethods);
-        
-        calorieModifiers.put("categories", categories);
+    private static void loadIngredientsFromJSON(String basePath) throws IOException {
+        Map<String, List<Ingredient>> ingredientsByCategory = new CatalogLoader().loadIngredients(Paths.get(basePath));
+
+        meatIngredients = ingredientsByCategory.get("meat");
+        vegetableIngredients = ingredientsByCategory.get("vegetable");
+        fruitIngredients = ingredientsByCategory.get("fruit");
+        dairyIngredients = ingredientsByCategory.get("dairy");
+        seasoningIngredients = ingredientsByCategory.get("seasoning");
     }
-    
+
     /**
      * Initializes basic default ingredients when JSON loading fails.
      */
@@ -304,6 +225,7 @@ public class Ingredient extends AbstractIngredient {
      * @return List of ingredients in the category
      */
     public static List<Ingredient> getIngredientsByCategory(String category) {
+        ensureDataLoaded();
         switch(category.toLowerCase()) {
             case "meat":
                 return new ArrayList<>(meatIngredients);
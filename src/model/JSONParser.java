@@ -1,19 +1,28 @@
 package model;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.io.File;
-
-
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A simple JSON parser for reading ingredient and calorie modifier data.
  * Custom implementation that avoids external library dependencies.
+ * All readers are built on {@link JSONReader}, which tokenizes each file in a single pass.
  */
 public class JSONParser {
 
@@ -26,26 +35,25 @@ public class JSONParser {
      */
     public static List<Ingredient> readIngredientsFromFile(String filePath) throws IOException {
         List<Ingredient> ingredients = new ArrayList<>();
-        String json = readFile(filePath);
 
-        // Parse JSON array
-        if (json.trim().startsWith("[") && json.trim().endsWith("]")) {
-            json = json.trim().substring(1, json.trim().length() - 1);
-
-            // Split array into individual objects
-            List<String> objects = splitJSONObjects(json);
+        try (JSONReader reader = openReader(filePath)) {
+            if (reader.peek() != JSONReader.Token.START_ARRAY) {
+                return ingredients;
+            }
+            reader.next();
 
-            for (String obj : objects) {
-                Map<String, String> properties = parseJSONObject(obj);
+            while (reader.hasNext()) {
+                Map<String, String> properties = readProperties(reader);
                 try {
                     Ingredient ingredient = createIngredientFromProperties(properties);
                     if (ingredient != null) {
                         ingredients.add(ingredient);
                     }
                 } catch (Exception e) {
-                    System.err.println("Error parsing ingredient: " + e.getMessage());
+                    Log.warn("Error parsing ingredient: " + e.getMessage());
                 }
             }
+            reader.expect(JSONReader.Token.END_ARRAY);
         }
 
         return ingredients;
@@ -60,81 +68,119 @@ public class JSONParser {
      */
     public static Map<String, Map<String, Map<String, Double>>> readCalorieModifiers(String filePath) throws IOException {
         Map<String, Map<String, Map<String, Double>>> result = new HashMap<>();
-        String json = readFile(filePath);
-
-        // Parse JSON object
-        if (json.trim().startsWith("{") && json.trim().endsWith("}")) {
-            json = json.trim().substring(1, json.trim().length() - 1);
 
-            // Split into top-level sections (default, categories, subcategories, ingredients)
-            Map<String, String> sections = splitJSONSections(json);
+        try (JSONReader reader = openReader(filePath)) {
+            if (reader.peek() != JSONReader.Token.START_OBJECT) {
+                return result;
+            }
+            reader.next();
 
-            for (Map.Entry<String, String> entry : sections.entrySet()) {
-                String section = entry.getKey();
-                String sectionJson = entry.getValue();
+            // Top-level sections (default, categories, subcategories, ingredients)
+            while (reader.hasNext()) {
+                String section = reader.nextKey();
 
                 if (section.equals("default")) {
-                    // Parse default section
                     Map<String, Map<String, Double>> defaultMap = new HashMap<>();
-                    Map<String, String> defaultValues = parseJSONObject(sectionJson);
-                    Map<String, Double> methodMap = new HashMap<>();
-
-                    for (Map.Entry<String, String> defaultEntry : defaultValues.entrySet()) {
-                        try {
-                            methodMap.put(defaultEntry.getKey(), Double.parseDouble(defaultEntry.getValue()));
-                        } catch (NumberFormatException e) {
-                            System.err.println("Invalid number format: " + defaultEntry.getValue());
-                        }
-                    }
-
-                    defaultMap.put("default", methodMap);
+                    defaultMap.put("default", readMethodModifiers(reader));
                     result.put("default", defaultMap);
                 } else {
-                    // Parse other sections (categories, subcategories, ingredients)
-                    Map<String, Map<String, Double>> sectionMap = parseNestedSection(sectionJson);
-                    result.put(section, sectionMap);
+                    result.put(section, readNestedSection(reader));
                 }
             }
+            reader.expect(JSONReader.Token.END_OBJECT);
         }
 
         return result;
     }
 
     /**
-     * Parses a nested section of the JSON file.
+     * Reads a nested section of the modifier file, mapping each name to its cooking method modifiers.
      *
-     * @param json JSON string representing a nested object
+     * @param reader Reader positioned before the section value
      * @return Map of parsed values
+     * @throws IOException If the section is malformed
      */
-    private static Map<String, Map<String, Double>> parseNestedSection(String json) {
+    private static Map<String, Map<String, Double>> readNestedSection(JSONReader reader) throws IOException {
         Map<String, Map<String, Double>> result = new HashMap<>();
+        if (reader.peek() != JSONReader.Token.START_OBJECT) {
+            reader.skipValue();
+            return result;
+        }
+        reader.next();
 
-        if (json.trim().startsWith("{") && json.trim().endsWith("}")) {
-            json = json.trim().substring(1, json.trim().length() - 1);
+        while (reader.hasNext()) {
+            String subsection = reader.nextKey();
+            result.put(subsection, readMethodModifiers(reader));
+        }
+        reader.expect(JSONReader.Token.END_OBJECT);
 
-            // Split into subsections
-            Map<String, String> subsections = splitJSONSections(json);
+        return result;
+    }
 
-            for (Map.Entry<String, String> entry : subsections.entrySet()) {
-                String subsection = entry.getKey();
-                String subsectionJson = entry.getValue();
+    /**
+     * Reads an object of cooking method to numeric modifier.
+     *
+     * @param reader Reader positioned before the object value
+     * @return Map of cooking method to modifier
+     * @throws IOException If the object is malformed
+     */
+    private static Map<String, Double> readMethodModifiers(JSONReader reader) throws IOException {
+        Map<String, Double> methodMap = new HashMap<>();
+        if (reader.peek() != JSONReader.Token.START_OBJECT) {
+            reader.skipValue();
+            return methodMap;
+        }
+        reader.next();
 
-                Map<String, String> values = parseJSONObject(subsectionJson);
-                Map<String, Double> methodMap = new HashMap<>();
+        while (reader.hasNext()) {
+            String method = reader.nextKey();
+            if (reader.peek() == JSONReader.Token.NUMBER) {
+                methodMap.put(method, reader.nextDouble());
+            } else {
+                reader.skipValue();
+                Log.warn("Invalid number format for modifier: " + method);
+            }
+        }
+        reader.expect(JSONReader.Token.END_OBJECT);
 
-                for (Map.Entry<String, String> valueEntry : values.entrySet()) {
-                    try {
-                        methodMap.put(valueEntry.getKey(), Double.parseDouble(valueEntry.getValue()));
-                    } catch (NumberFormatException e) {
-                        System.err.println("Invalid number format: " + valueEntry.getValue());
-                    }
-                }
+        return methodMap;
+    }
 
-                result.put(subsection, methodMap);
-            }
+    /**
+     * Reads a JSON object into a map of its scalar properties.
+     * Nested objects and arrays are skipped.
+     *
+     * @param reader Reader positioned before the object
+     * @return Map of property name to value text
+     * @throws IOException If the object is malformed
+     */
+    private static Map<String, String> readProperties(JSONReader reader) throws IOException {
+        Map<String, String> properties = new HashMap<>();
+        reader.expect(JSONReader.Token.START_OBJECT);
+
+        while (reader.hasNext()) {
+            String key = reader.nextKey();
+            readPropertyValue(reader, key, properties);
         }
+        reader.expect(JSONReader.Token.END_OBJECT);
 
-        return result;
+        return properties;
+    }
+
+    /**
+     * Reads one property value, storing it if it is a non-null scalar.
+     */
+    private static void readPropertyValue(JSONReader reader, String key, Map<String, String> properties)
+            throws IOException {
+        JSONReader.Token token = reader.peek();
+        if (token == JSONReader.Token.START_OBJECT || token == JSONReader.Token.START_ARRAY) {
+            reader.skipValue();
+            return;
+        }
+        String value = reader.nextScalar();
+        if (value != null) {
+            properties.put(key, value);
+        }
     }
 
     /**
@@ -174,279 +220,89 @@ public class JSONParser {
     }
 
     /**
-     * Reads the contents of a file.
+     * Opens a tokenizer over a memory-mapped file, failing fast on missing or empty files.
      *
      * @param filePath Path to the file
-     * @return File contents as string
-     * @throws IOException If file read fails
+     * @return Reader positioned at the start of the document
+     * @throws IOException If the file does not exist or is empty
      */
-    private static String readFile(String filePath) throws IOException {
+    private static JSONReader openReader(String filePath) throws IOException {
         File file = new File(filePath);
         if (!file.exists()) {
             throw new IOException("File not found: " + filePath);
         }
-
-        StringBuilder content = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                content.append(line).append("\n");
-            }
-        }
-
-        String result = content.toString();
-        if (result.isEmpty()) {
+        if (file.length() == 0) {
             throw new IOException("File is empty: " + filePath);
         }
 
-        return result;
+        // Decode straight from the mapped file rather than copying it into a string first
+        return new JSONReader(new MappedFileReader(file.toPath()));
     }
 
     /**
-     * Splits a JSON string into individual objects.
-     *
-     * @param json JSON array content
-     * @return List of JSON object strings
-     */
-    private static List<String> splitJSONObjects(String json) {
-        List<String> objects = new ArrayList<>();
-        int depth = 0;
-        StringBuilder currentObject = new StringBuilder();
-
-        for (int i = 0; i < json.length(); i++) {
-            char c = json.charAt(i);
-
-            if (c == '{') {
-                depth++;
-                currentObject.append(c);
-            } else if (c == '}') {
-                depth--;
-                currentObject.append(c);
-
-                if (depth == 0) {
-                    objects.add(currentObject.toString().trim());
-                    currentObject = new StringBuilder();
-
-                    // Skip comma and whitespace
-                    while (i + 1 < json.length() && (json.charAt(i + 1) == ',' || Character.isWhitespace(json.charAt(i + 1)))) {
-                        i++;
-                    }
-                }
-            } else if (depth > 0) {
-                currentObject.append(c);
-            }
-        }
-
-        return objects;
-    }
-
-    /**
-     * Splits a JSON object into sections.
-     *
-     * @param json JSON object content
-     * @return Map of section name to section JSON content
-     */
-    private static Map<String, String> splitJSONSections(String json) {
-        Map<String, String> sections = new HashMap<>();
-        int i = 0;
-
-        while (i < json.length()) {
-            // Find start of key
-            while (i < json.length() && (Character.isWhitespace(json.charAt(i)) || json.charAt(i) == ',')) {
-                i++;
-            }
-
-            if (i >= json.length()) break;
-
-            // Parse key
-            if (json.charAt(i) == '"') {
-                i++; // Skip opening quote
-                int keyStart = i;
-                while (i < json.length() && json.charAt(i) != '"') i++;
-                String key = json.substring(keyStart, i);
-                i++; // Skip closing quote
-
-                // Find colon
-                while (i < json.length() && json.charAt(i) != ':') i++;
-                i++; // Skip colon
-
-                // Skip whitespace
-                while (i < json.length() && Character.isWhitespace(json.charAt(i))) i++;
-
-                // Parse value
-                if (i < json.length()) {
-                    if (json.charAt(i) == '{') {
-                        // Object value
-                        int depth = 1;
-                        int valueStart = i;
-                        i++; // Skip opening brace
-
-                        while (i < json.length() && depth > 0) {
-                            if (json.charAt(i) == '{') depth++;
-                            else if (json.charAt(i) == '}') depth--;
-                            i++;
-                        }
-
-                        String value = json.substring(valueStart, i);
-                        sections.put(key, value);
-                    } else {
-                        // Other value (string, number, boolean, null)
-                        int valueStart = i;
-                        boolean inString = false;
-
-                        while (i < json.length()) {
-                            if (json.charAt(i) == '"' && (i == 0 || json.charAt(i - 1) != '\\')) {
-                                inString = !inString;
-                            } else if (!inString && (json.charAt(i) == ',' || json.charAt(i) == '}')) {
-                                break;
-                            }
-                            i++;
-                        }
-
-                        String value = json.substring(valueStart, i).trim();
-                        sections.put(key, value);
-                    }
-                }
-            } else {
-                i++; // Skip non-key character
-            }
-        }
-
-        return sections;
-    }
-
-    /**
-     * Parses a JSON object into a map of properties.
+     * Reads micro-nutrition data from a JSON file.
      *
-     * @param json JSON object string
-     * @return Map of property name to value
+     * @param filePath Path to the JSON file
+     * @return Map of category to ingredient nutrition info
+     * @throws IOException If file read fails
      */
-    private static Map<String, String> parseJSONObject(String json) {
-        Map<String, String> properties = new HashMap<>();
-        if (!json.trim().startsWith("{") || !json.trim().endsWith("}")) {
-            return properties;
-        }
-
-        json = json.trim().substring(1, json.trim().length() - 1);
-        StringBuilder key = new StringBuilder();
-        StringBuilder value = new StringBuilder();
-        boolean inKey = true;
-        boolean inQuotes = false;
-        int nestedDepth = 0;
-
-        for (int i = 0; i < json.length(); i++) {
-            char c = json.charAt(i);
-
-            if (c == '"' && (i == 0 || json.charAt(i - 1) != '\\')) {
-                inQuotes = !inQuotes;
-                if (!inKey) {
-                    value.append(c);
-                }
-            } else if (c == ':' && !inQuotes && nestedDepth == 0) {
-                inKey = false;
-            } else if ((c == ',' && !inQuotes && nestedDepth == 0) || i == json.length() - 1) {
-                if (i == json.length() - 1 && c != ',') {
-                    if (!inKey) {
-                        value.append(c);
-                    } else {
-                        key.append(c);
-                    }
-                }
-                
-                String keyStr = key.toString().trim();
-                String valueStr = value.toString().trim();
-                
-                if (keyStr.startsWith("\"") && keyStr.endsWith("\"")) {
-                    keyStr = keyStr.substring(1, keyStr.length() - 1);
-                }
-                
-                properties.put(keyStr, valueStr);
-                
-                key = new StringBuilder();
-                value = new StringBuilder();
-                inKey = true;
-            } else if (c == '{' || c == '[') {
-                nestedDepth++;
-                if (!inKey) {
-                    value.append(c);
-                }
-            } else if (c == '}' || c == ']') {
-                nestedDepth--;
-                if (!inKey) {
-                    value.append(c);
-                }
-            } else {
-                if (inKey) {
-                    key.append(c);
-                } else {
-                    value.append(c);
-                }
-            }
-        }
-
-        return properties;
+    public static Map<String, Map<String, NutritionInfo>> readMicroNutritionData(String filePath) throws IOException {
+        return readMicroNutritionData(filePath, null);
     }
 
     /**
-     * Reads micro-nutrition data from a JSON file.
+     * Reads micro-nutrition data from a JSON file, also collecting every nutrient
+     * other than the six macronutrients, such as vitamins and minerals.
      *
      * @param filePath Path to the JSON file
+     * @param extraNutrients Filled with category to ingredient to nutrient key to value,
+     *                       or null to ignore other nutrients
      * @return Map of category to ingredient nutrition info
      * @throws IOException If file read fails
      */
-    public static Map<String, Map<String, NutritionInfo>> readMicroNutritionData(String filePath) throws IOException {
+    public static Map<String, Map<String, NutritionInfo>> readMicroNutritionData(String filePath,
+            Map<String, Map<String, Map<String, Double>>> extraNutrients) throws IOException {
         Map<String, Map<String, NutritionInfo>> result = new HashMap<>();
-        String json = readFile(filePath);
-        
-        if (json == null || json.trim().isEmpty()) {
-            throw new IOException("Empty or null JSON content from file: " + filePath);
-        }
-
-        // Parse JSON object
-        if (json.trim().startsWith("{") && json.trim().endsWith("}")) {
-            json = json.trim().substring(1, json.trim().length() - 1);
 
-            // Split into categories
-            Map<String, String> categories = splitJSONSections(json);
-
-            for (Map.Entry<String, String> entry : categories.entrySet()) {
-                String category = entry.getKey();
-                String categoryJson = entry.getValue();
+        try (JSONReader reader = openReader(filePath)) {
+            if (reader.peek() != JSONReader.Token.START_OBJECT) {
+                return result;
+            }
+            reader.next();
 
-                if (category == null || categoryJson == null) {
-                    System.err.println("Skipping null category or data in nutrition file");
+            while (reader.hasNext()) {
+                String category = reader.nextKey();
+                if (reader.peek() != JSONReader.Token.START_OBJECT) {
+                    Log.warn("Skipping non-object category in nutrition file: " + category);
+                    reader.skipValue();
                     continue;
                 }
+                reader.next();
+
+                Map<String, NutritionInfo> categoryMap = new HashMap<>();
+                while (reader.hasNext()) {
+                    String ingredient = reader.nextKey();
+                    if (reader.peek() != JSONReader.Token.START_OBJECT) {
+                        Log.warn("Skipping null ingredient or nutrition data: " + ingredient);
+                        reader.skipValue();
+                        continue;
+                    }
 
-                try {
-                    Map<String, String> ingredients = parseJSONObject(categoryJson);
-                    Map<String, NutritionInfo> categoryMap = new HashMap<>();
-
-                    for (Map.Entry<String, String> ingredientEntry : ingredients.entrySet()) {
-                        String ingredient = ingredientEntry.getKey();
-                        String nutritionJson = ingredientEntry.getValue();
-
-                        if (ingredient == null || nutritionJson == null) {
-                            System.err.println("Skipping null ingredient or nutrition data");
-                            continue;
-                        }
-
-                        try {
-                            Map<String, String> nutritionValues = parseJSONObject(nutritionJson);
-                            NutritionInfo info = createNutritionInfoFromValues(nutritionValues);
-                            if (info != null) {
-                                categoryMap.put(ingredient, info);
-                            }
-                        } catch (Exception e) {
-                            System.err.println("Error parsing nutrition data for ingredient " + ingredient + ": " + e.getMessage());
+                    Map<String, String> nutritionValues = readProperties(reader);
+                    NutritionInfo info = createNutritionInfoFromValues(nutritionValues);
+                    if (info != null) {
+                        categoryMap.put(ingredient, info);
+                        if (extraNutrients != null) {
+                            collectExtraNutrients(nutritionValues, extraNutrients
+                                .computeIfAbsent(category, key -> new HashMap<>()), ingredient);
                         }
                     }
-
-                    result.put(category, categoryMap);
-                } catch (Exception e) {
-                    System.err.println("Error parsing category " + category + ": " + e.getMessage());
                 }
+                reader.expect(JSONReader.Token.END_OBJECT);
+
+                result.put(category, categoryMap);
             }
+            reader.expect(JSONReader.Token.END_OBJECT);
         }
 
         return result;
@@ -463,11 +319,24 @@ public class JSONParser {
 
             return new NutritionInfo(protein, fat, carbohydrates, fiber, sugar, sodium);
         } catch (Exception e) {
-            System.err.println("Error creating NutritionInfo: " + e.getMessage());
+            Log.warn("Error creating NutritionInfo: " + e.getMessage());
             return new NutritionInfo(0, 0, 0, 0, 0, 0);
         }
     }
 
+    private static void collectExtraNutrients(Map<String, String> values,
+                                              Map<String, Map<String, Double>> categoryExtras, String ingredient) {
+        Map<String, Double> extras = new HashMap<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (!NutrientSchema.isMacronutrient(entry.getKey())) {
+                extras.put(entry.getKey(), parseDoubleValue(entry.getValue()));
+            }
+        }
+        if (!extras.isEmpty()) {
+            categoryExtras.put(ingredient, extras);
+        }
+    }
+
     private static double parseDoubleValue(Object value) {
         if (value == null) return 0.0;
         try {
@@ -476,7 +345,7 @@ public class JSONParser {
             }
             return Double.parseDouble(value.toString());
         } catch (Exception e) {
-            System.err.println("Error parsing double value: " + value);
+            Log.warn("Error parsing double value: " + value);
             return 0.0;
         }
     }
@@ -489,55 +358,214 @@ public class JSONParser {
      * @throws IOException If file read fails
      */
     public static List<Recipe> readRecipesFromFile(String filePath) throws IOException {
+        return readRecipesFromFile(filePath, null);
+    }
+
+    /**
+     * Reads recipes from a JSON file, calculating their nutrition with the given calculator.
+     *
+     * @param filePath Path to the JSON file
+     * @param calculator Calculator for recipe nutrition, or null for the shared database
+     * @return List of Recipe objects
+     * @throws IOException If file read fails
+     */
+    public static List<Recipe> readRecipesFromFile(String filePath, NutritionCalculator calculator)
+            throws IOException {
         List<Recipe> recipes = new ArrayList<>();
-        String json = readFile(filePath);
 
-        // Parse JSON array
-        if (json.trim().startsWith("[") && json.trim().endsWith("]")) {
-            json = json.trim().substring(1, json.trim().length() - 1);
+        try (JSONReader reader = openReader(filePath)) {
+            RecipeIterator iterator = new RecipeIterator(reader, calculator);
+            Recipe recipe;
+            while ((recipe = iterator.readNext()) != null) {
+                recipes.add(recipe);
+            }
+        }
+
+        return recipes;
+    }
+
+    /**
+     * Streams recipes from a JSON file one at a time.
+     * Only the recipe currently being built is held in memory, so the stream can
+     * be filtered or limited to stop reading early. The stream must be closed to
+     * release the file.
+     *
+     * @param filePath Path to the JSON file
+     * @return Lazily populated stream of recipes
+     * @throws IOException If the file cannot be opened
+     */
+    public static Stream<Recipe> streamRecipesFromFile(String filePath) throws IOException {
+        return streamRecipes(openReader(filePath));
+    }
+
+    /**
+     * Streams recipes from a UTF-8 encoded JSON input stream one at a time.
+     * Closing the returned stream closes the input stream.
+     *
+     * @param in Input stream containing a JSON array of recipes
+     * @return Lazily populated stream of recipes
+     */
+    public static Stream<Recipe> streamRecipes(InputStream in) {
+        return streamRecipes(new JSONReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Streams recipes from a UTF-8 encoded JSON channel one at a time.
+     * Closing the returned stream closes the channel.
+     *
+     * @param channel Channel containing a JSON array of recipes
+     * @return Lazily populated stream of recipes
+     */
+    public static Stream<Recipe> streamRecipes(ReadableByteChannel channel) {
+        return streamRecipes(new JSONReader(Channels.newReader(channel, StandardCharsets.UTF_8)));
+    }
 
-            // Split array into individual objects
-            List<String> objects = splitJSONObjects(json);
+    private static Stream<Recipe> streamRecipes(JSONReader reader) {
+        Spliterator<Recipe> spliterator = Spliterators.spliteratorUnknownSize(
+            new RecipeIterator(reader, null), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
 
-            for (String obj : objects) {
-                Map<String, String> properties = parseJSONObject(obj);
+    /**
+     * Iterates over the recipes of a top-level JSON array, reading each one on demand.
+     * Read failures surface from the Iterator methods as UncheckedIOException.
+     */
+    private static final class RecipeIterator implements Iterator<Recipe> {
+        private final JSONReader reader;
+        private final NutritionCalculator calculator;
+        private Recipe nextRecipe;
+        private boolean started;
+        private boolean finished;
+
+        RecipeIterator(JSONReader reader, NutritionCalculator calculator) {
+            this.reader = reader;
+            this.calculator = calculator;
+        }
+
+        /**
+         * Reads ahead to the next valid recipe.
+         *
+         * @return The next recipe, or null once the array is exhausted
+         * @throws IOException If the input is malformed
+         */
+        Recipe readNext() throws IOException {
+            if (!started) {
+                started = true;
+                if (reader.peek() != JSONReader.Token.START_ARRAY) {
+                    finished = true;
+                    return null;
+                }
+                reader.next();
+            }
+
+            while (!finished && reader.hasNext()) {
+                Recipe recipe = readRecipe(reader, calculator);
+                if (recipe != null) {
+                    return recipe;
+                }
+            }
+
+            if (!finished) {
+                reader.expect(JSONReader.Token.END_ARRAY);
+                finished = true;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextRecipe == null && !finished) {
                 try {
-                    Recipe recipe = createRecipeFromProperties(properties);
-                    if (recipe != null) {
-                        recipes.add(recipe);
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error parsing recipe: " + e.getMessage());
+                    nextRecipe = readNext();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
             }
+            return nextRecipe != null;
         }
 
-        return recipes;
+        @Override
+        public Recipe next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Recipe recipe = nextRecipe;
+            nextRecipe = null;
+            return recipe;
+        }
+    }
+
+    /**
+     * Reads one recipe object, including its flavor tags and ingredient list.
+     *
+     * @param reader Reader positioned before the recipe object
+     * @param calculator Calculator for recipe nutrition, or null for the shared database
+     * @return Recipe object or null if invalid
+     * @throws IOException If the object is malformed
+     */
+    private static Recipe readRecipe(JSONReader reader, NutritionCalculator calculator) throws IOException {
+        Map<String, String> properties = new HashMap<>();
+        List<String> flavorTags = null;
+        List<Map<String, String>> ingredients = null;
+        reader.expect(JSONReader.Token.START_OBJECT);
+
+        while (reader.hasNext()) {
+            String key = reader.nextKey();
+            if (key.equals("flavorTags") && reader.peek() == JSONReader.Token.START_ARRAY) {
+                flavorTags = readFlavorTags(reader);
+            } else if (key.equals("ingredients") && reader.peek() == JSONReader.Token.START_ARRAY) {
+                ingredients = readIngredients(reader);
+            } else {
+                readPropertyValue(reader, key, properties);
+            }
+        }
+        reader.expect(JSONReader.Token.END_OBJECT);
+
+        try {
+            return createRecipeFromProperties(properties, flavorTags, ingredients, calculator);
+        } catch (Exception e) {
+            Log.warn("Error parsing recipe: " + e.getMessage());
+            return null;
+        }
     }
 
     /**
      * Creates a Recipe object from property map.
      *
      * @param properties Map of recipe properties
+     * @param flavorTags Parsed flavor tags
+     * @param ingredientProperties Property maps of the recipe's ingredients
+     * @param calculator Calculator for recipe nutrition, or null for the shared database
      * @return Recipe object or null if invalid
      */
-    private static Recipe createRecipeFromProperties(Map<String, String> properties) {
+    private static Recipe createRecipeFromProperties(Map<String, String> properties,
+            List<String> flavorTags, List<Map<String, String>> ingredientProperties,
+            NutritionCalculator calculator) {
         String name = properties.get("name");
         String flavor = properties.get("flavor");
-        String flavorTagsStr = properties.get("flavorTags");
         String cuisine = properties.get("cuisine");
         String prepTimeStr = properties.get("prepTime");
-        String ingredientsStr = properties.get("ingredients");
 
         if (name == null || flavor == null || cuisine == null ||
-            prepTimeStr == null || ingredientsStr == null || flavorTagsStr == null) {
+            prepTimeStr == null || ingredientProperties == null || flavorTags == null) {
             return null;
         }
 
         try {
             int prepTime = Integer.parseInt(prepTimeStr);
-            List<Ingredient> ingredients = parseIngredients(ingredientsStr);
-            List<String> flavorTags = parseFlavorTags(flavorTagsStr);
+            List<Ingredient> ingredients = new ArrayList<>();
+            for (Map<String, String> ingredientProperty : ingredientProperties) {
+                Ingredient ingredient = createIngredientFromProperties(ingredientProperty);
+                if (ingredient != null) {
+                    ingredients.add(ingredient);
+                }
+            }
 
             return new Recipe(
                 name,
@@ -545,7 +573,9 @@ public class JSONParser {
                 flavorTags,
                 cuisine,
                 prepTime,
-                ingredients
+                ingredients,
+                null,
+                calculator
             );
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Invalid number format in recipe properties");
@@ -553,47 +583,43 @@ public class JSONParser {
     }
 
     /**
-     * Parses ingredients from a JSON string.
+     * Reads an array of ingredient objects into their property maps.
      *
-     * @param ingredientsStr JSON string of ingredients
-     * @return List of Ingredient objects
+     * @param reader Reader positioned before the array
+     * @return List of ingredient property maps
+     * @throws IOException If the array is malformed
      */
-    private static List<Ingredient> parseIngredients(String ingredientsStr) {
-        List<Ingredient> ingredients = new ArrayList<>();
-        if (ingredientsStr.trim().startsWith("[") && ingredientsStr.trim().endsWith("]")) {
-            ingredientsStr = ingredientsStr.trim().substring(1, ingredientsStr.trim().length() - 1);
-            List<String> ingredientObjects = splitJSONObjects(ingredientsStr);
+    private static List<Map<String, String>> readIngredients(JSONReader reader) throws IOException {
+        List<Map<String, String>> ingredients = new ArrayList<>();
+        reader.expect(JSONReader.Token.START_ARRAY);
 
-            for (String ingredientObj : ingredientObjects) {
-                Map<String, String> properties = parseJSONObject(ingredientObj);
-                Ingredient ingredient = createIngredientFromProperties(properties);
-                if (ingredient != null) {
-                    ingredients.add(ingredient);
-                }
-            }
+        while (reader.hasNext()) {
+            ingredients.add(readProperties(reader));
         }
+        reader.expect(JSONReader.Token.END_ARRAY);
+
         return ingredients;
     }
 
     /**
-     * Parses flavor tags from a JSON string.
+     * Reads an array of flavor tags.
      *
-     * @param flavorTagsStr JSON string of flavor tags
+     * @param reader Reader positioned before the array
      * @return List of flavor tags
+     * @throws IOException If the array is malformed
      */
-    private static List<String> parseFlavorTags(String flavorTagsStr) {
+    private static List<String> readFlavorTags(JSONReader reader) throws IOException {
         List<String> flavorTags = new ArrayList<>();
-        if (flavorTagsStr.trim().startsWith("[") && flavorTagsStr.trim().endsWith("]")) {
-            flavorTagsStr = flavorTagsStr.trim().substring(1, flavorTagsStr.trim().length() - 1);
-            String[] tags = flavorTagsStr.split(",");
-            for (String tag : tags) {
-                tag = tag.trim();
-                if (tag.startsWith("\"") && tag.endsWith("\"")) {
-                    tag = tag.substring(1, tag.length() - 1);
-                }
+        reader.expect(JSONReader.Token.START_ARRAY);
+
+        while (reader.hasNext()) {
+            String tag = reader.nextScalar();
+            if (tag != null) {
                 flavorTags.add(tag);
             }
         }
+        reader.expect(JSONReader.Token.END_ARRAY);
+
         return flavorTags;
     }
-}
\ No newline at end of file
+}
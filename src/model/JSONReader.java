@@ -0,0 +1,452 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A single-pass, cursor-based JSON pull parser.
+ * Reads characters from the underlying reader through a fixed-size buffer and
+ * reports the document as a sequence of tokens, so no part of the input is
+ * ever copied or re-scanned. Custom implementation that avoids external library dependencies.
+ *
+ * <p>Typical usage:
+ * <pre>
+ *   reader.expect(JSONReader.Token.START_OBJECT);
+ *   while (reader.hasNext()) {
+ *       String key = reader.nextKey();
+ *       String value = reader.nextScalar();
+ *   }
+ *   reader.expect(JSONReader.Token.END_OBJECT);
+ * </pre>
+ */
+public class JSONReader implements Closeable {
+
+    /**
+     * The kinds of token produced by the reader.
+     */
+    public enum Token {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        KEY,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    // Parser states kept on the container stack
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_KEY = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private long bufferOffset;
+
+    private int[] stack = new int[32];
+    private int depth;
+
+    private final StringBuilder text = new StringBuilder();
+    private Token peeked;
+
+    /**
+     * Creates a reader over the given character stream.
+     *
+     * @param in Character stream containing a JSON document
+     */
+    public JSONReader(Reader in) {
+        if (in == null) {
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+        this.in = in;
+        stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Returns the next token without consuming it.
+     *
+     * @return The upcoming token
+     * @throws IOException If the input cannot be read or is malformed
+     */
+    public Token peek() throws IOException {
+        if (peeked == null) {
+            peeked = advance();
+        }
+        return peeked;
+    }
+
+    /**
+     * Consumes and returns the next token.
+     * For KEY, STRING, NUMBER and BOOLEAN tokens the token text is available
+     * through {@link #getText()} until the following token is read.
+     *
+     * @return The next token
+     * @throws IOException If the input cannot be read or is malformed
+     */
+    public Token next() throws IOException {
+        Token token = peek();
+        peeked = null;
+        return token;
+    }
+
+    /**
+     * Gets the text of the most recently read KEY, STRING, NUMBER or BOOLEAN token.
+     *
+     * @return Token text with string escapes already decoded
+     */
+    public String getText() {
+        return text.toString();
+    }
+
+    /**
+     * Checks whether the current object or array has more elements.
+     *
+     * @return true if the next token starts a value or key
+     * @throws IOException If the input cannot be read or is malformed
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the next token and verifies it has the expected kind.
+     *
+     * @param expected The token kind that must come next
+     * @throws IOException If the next token is of a different kind
+     */
+    public void expect(Token expected) throws IOException {
+        Token actual = next();
+        if (actual != expected) {
+            throw syntaxError("Expected " + expected + " but was " + actual);
+        }
+    }
+
+    /**
+     * Consumes the next object key.
+     *
+     * @return The key
+     * @throws IOException If the next token is not a key
+     */
+    public String nextKey() throws IOException {
+        expect(Token.KEY);
+        return getText();
+    }
+
+    /**
+     * Consumes the next scalar value and returns its text.
+     * Strings are returned unquoted, numbers and booleans as written and null as null.
+     *
+     * @return Scalar text, or null for a JSON null
+     * @throws IOException If the next value is an object or array
+     */
+    public String nextScalar() throws IOException {
+        Token token = next();
+        switch (token) {
+            case STRING:
+            case NUMBER:
+            case BOOLEAN:
+                return getText();
+            case NULL:
+                return null;
+            default:
+                throw syntaxError("Expected a scalar value but was " + token);
+        }
+    }
+
+    /**
+     * Consumes the next value, which must be a number.
+     *
+     * @return The numeric value
+     * @throws IOException If the next value is not a number
+     */
+    public double nextDouble() throws IOException {
+        expect(Token.NUMBER);
+        try {
+            return Double.parseDouble(getText());
+        } catch (NumberFormatException e) {
+            throw syntaxError("Invalid number: " + getText());
+        }
+    }
+
+    /**
+     * Consumes the next value, including any nested objects or arrays.
+     *
+     * @throws IOException If the input cannot be read or is malformed
+     */
+    public void skipValue() throws IOException {
+        int nesting = 0;
+        do {
+            Token token = next();
+            if (token == Token.START_OBJECT || token == Token.START_ARRAY) {
+                nesting++;
+            } else if (token == Token.END_OBJECT || token == Token.END_ARRAY) {
+                nesting--;
+            } else if (token == Token.END_DOCUMENT) {
+                throw syntaxError("Unexpected end of document");
+            }
+        } while (nesting > 0);
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException If closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads the next token, validating separators against the current container state.
+     */
+    private Token advance() throws IOException {
+        int c;
+        switch (stack[depth - 1]) {
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                c = nextNonWhitespace();
+                if (c == -1) {
+                    return Token.END_DOCUMENT;
+                }
+                break;
+            case NONEMPTY_DOCUMENT:
+                c = nextNonWhitespace();
+                if (c == -1) {
+                    return Token.END_DOCUMENT;
+                }
+                throw syntaxError("Unexpected content after top-level value");
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    depth--;
+                    return Token.END_ARRAY;
+                }
+                break;
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    depth--;
+                    return Token.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+                c = nextNonWhitespace();
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    depth--;
+                    return Token.END_OBJECT;
+                }
+                if (stack[depth - 1] == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected a quoted key");
+                }
+                readString();
+                stack[depth - 1] = DANGLING_KEY;
+                return Token.KEY;
+            case DANGLING_KEY:
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                c = nextNonWhitespace();
+                break;
+            default:
+                throw new IllegalStateException("Corrupt parser state");
+        }
+        return readValue(c);
+    }
+
+    /**
+     * Reads the value starting with the given character.
+     */
+    private Token readValue(int c) throws IOException {
+        switch (c) {
+            case '{':
+                push(EMPTY_OBJECT);
+                return Token.START_OBJECT;
+            case '[':
+                push(EMPTY_ARRAY);
+                return Token.START_ARRAY;
+            case '"':
+                readString();
+                return Token.STRING;
+            case 't':
+                readLiteral("true");
+                return Token.BOOLEAN;
+            case 'f':
+                readLiteral("false");
+                return Token.BOOLEAN;
+            case 'n':
+                readLiteral("null");
+                return Token.NULL;
+            case -1:
+                throw syntaxError("Unexpected end of document");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readNumber((char) c);
+                    return Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private void push(int state) {
+        if (depth == stack.length) {
+            int[] grown = new int[depth * 2];
+            System.arraycopy(stack, 0, grown, 0, depth);
+            stack = grown;
+        }
+        stack[depth++] = state;
+    }
+
+    /**
+     * Reads a string body after its opening quote into the text buffer, decoding escapes.
+     */
+    private void readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int start = pos;
+            while (pos < limit) {
+                char c = buffer[pos];
+                if (c == '"') {
+                    text.append(buffer, start, pos - start);
+                    pos++;
+                    return;
+                }
+                if (c == '\\') {
+                    text.append(buffer, start, pos - start);
+                    pos++;
+                    text.append(readEscape());
+                    start = pos;
+                    continue;
+                }
+                pos++;
+            }
+            text.append(buffer, start, pos - start);
+            if (!fill()) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        int c = read();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Invalid unicode escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private void readNumber(char first) throws IOException {
+        text.setLength(0);
+        text.append(first);
+        while (pos < limit || fill()) {
+            char c = buffer[pos];
+            if ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                text.append(c);
+                pos++;
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 1; i < literal.length(); i++) {
+            if (read() != literal.charAt(i)) {
+                throw syntaxError("Invalid literal, expected " + literal);
+            }
+        }
+        text.setLength(0);
+        text.append(literal);
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (pos < limit || fill()) {
+            char c = buffer[pos++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private int read() throws IOException {
+        if (pos < limit || fill()) {
+            return buffer[pos++];
+        }
+        return -1;
+    }
+
+    /**
+     * Refills the buffer from the underlying reader.
+     *
+     * @return false if the reader is exhausted
+     */
+    private boolean fill() throws IOException {
+        bufferOffset += limit;
+        pos = 0;
+        limit = 0;
+        int count;
+        while ((count = in.read(buffer, 0, buffer.length)) == 0) {
+            // Keep reading until data or end of stream
+        }
+        if (count < 0) {
+            return false;
+        }
+        limit = count;
+        return true;
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at character " + (bufferOffset + pos));
+    }
+}
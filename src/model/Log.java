@@ -0,0 +1,228 @@
+package model;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A small level-gated logging facade for the application's diagnostics.
+ *
+ * <p>Messages below the current level are dropped before any formatting happens:
+ * callers pass either a constant string or a {@link Supplier} that is only invoked
+ * when the level is enabled. Enabled messages are queued and written by a background
+ * thread in batches, so logging never blocks on console I/O unless the queue is full.
+ * DEBUG and INFO go to standard output, WARN and ERROR to standard error.
+ *
+ * <p>The initial level is INFO, or the value of the {@code nutrition.log.level}
+ * system property.
+ */
+public final class Log {
+    /**
+     * Severity levels, from most to least verbose.
+     */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    private static final int QUEUE_CAPACITY = 8192;
+
+    private static volatile Level level = parseLevel(System.getProperty("nutrition.log.level"));
+    private static final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private static final Object writeLock = new Object();
+    private static long queued; // Guarded by writeLock
+    private static long written; // Guarded by writeLock
+
+    static {
+        Thread writer = new Thread(Log::drain, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "log-flush"));
+    }
+
+    private Log() {
+    }
+
+    /**
+     * Sets the minimum level that is written.
+     *
+     * @param newLevel The new level
+     */
+    public static void setLevel(Level newLevel) {
+        if (newLevel == null) {
+            throw new IllegalArgumentException("Log level cannot be null");
+        }
+        level = newLevel;
+    }
+
+    /**
+     * Gets the minimum level that is written.
+     *
+     * @return The current level
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks whether messages of a level would be written.
+     *
+     * @param messageLevel The level to check
+     * @return True if the level is enabled
+     */
+    public static boolean isEnabled(Level messageLevel) {
+        return messageLevel != Level.OFF && messageLevel.compareTo(level) >= 0;
+    }
+
+    /**
+     * Logs a debug message, building it only if debug output is enabled.
+     *
+     * @param message Supplier of the message
+     */
+    public static void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**
+     * Logs an informational message.
+     *
+     * @param message The message
+     */
+    public static void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Logs an informational message, building it only if the level is enabled.
+     *
+     * @param message Supplier of the message
+     */
+    public static void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Logs a warning.
+     *
+     * @param message The message
+     */
+    public static void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    /**
+     * Logs an error.
+     *
+     * @param message The message
+     */
+    public static void error(String message) {
+        log(Level.ERROR, message);
+    }
+
+    /**
+     * Logs an error with the stack trace of its cause, formatting the trace only if
+     * the level is enabled.
+     *
+     * @param message The message
+     * @param error The cause
+     */
+    public static void error(String message, Throwable error) {
+        log(Level.ERROR, () -> {
+            StringWriter trace = new StringWriter();
+            error.printStackTrace(new PrintWriter(trace));
+            return message + System.lineSeparator() + trace.toString().trim();
+        });
+    }
+
+    /**
+     * Blocks until every message logged so far has been written.
+     */
+    public static void flush() {
+        synchronized (writeLock) {
+            long target = queued;
+            while (written < target) {
+                try {
+                    writeLock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void log(Level messageLevel, Supplier<String> message) {
+        if (isEnabled(messageLevel)) {
+            enqueue(new Entry(messageLevel, message.get()));
+        }
+    }
+
+    private static void log(Level messageLevel, String message) {
+        if (isEnabled(messageLevel)) {
+            enqueue(new Entry(messageLevel, message));
+        }
+    }
+
+    private static void enqueue(Entry entry) {
+        synchronized (writeLock) {
+            queued++;
+        }
+        if (!queue.offer(entry)) {
+            // Queue is full: write on the caller's thread rather than drop the message
+            write(List.of(entry));
+        }
+    }
+
+    private static void drain() {
+        List<Entry> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private static void write(List<Entry> batch) {
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        for (Entry entry : batch) {
+            (entry.level.compareTo(Level.WARN) >= 0 ? err : out).println(entry.message);
+        }
+        out.flush();
+        err.flush();
+        synchronized (writeLock) {
+            written += batch.size();
+            writeLock.notifyAll();
+        }
+    }
+
+    private static Level parseLevel(String value) {
+        if (value != null) {
+            try {
+                return Level.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Fall through to the default
+            }
+        }
+        return Level.INFO;
+    }
+
+    private static final class Entry {
+        private final Level level;
+        private final String message;
+
+        Entry(Level level, String message) {
+            this.level = level;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A reader that decodes a file straight from memory-mapped regions of its channel.
+ * Characters are decoded directly into the caller's buffer, so reading a catalog file
+ * involves no line-by-line copy and no intermediate strings. Files larger than the
+ * mapping window are mapped one window at a time.
+ *
+ * <p>When no charset is given, a byte order mark selects UTF-8 or UTF-16 and is skipped;
+ * files without one are decoded as UTF-8.
+ */
+public class MappedFileReader extends Reader {
+    private static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long windowSize;
+    private final CharsetDecoder decoder;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private boolean flushed;
+
+    /**
+     * Opens a file, detecting its charset from the byte order mark.
+     *
+     * @param path Path to the file
+     * @throws IOException If the file cannot be opened or mapped
+     */
+    public MappedFileReader(Path path) throws IOException {
+        this(path, null);
+    }
+
+    /**
+     * Opens a file with an explicit charset.
+     *
+     * @param path Path to the file
+     * @param charset Charset of the file, or null to detect it
+     * @throws IOException If the file cannot be opened or mapped
+     */
+    public MappedFileReader(Path path, Charset charset) throws IOException {
+        this(path, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens a file with an explicit charset and mapping window size.
+     *
+     * @param path Path to the file
+     * @param charset Charset of the file, or null to detect it
+     * @param windowSize Maximum number of bytes mapped at once
+     * @throws IOException If the file cannot be opened or mapped
+     */
+    MappedFileReader(Path path, Charset charset, long windowSize) throws IOException {
+        if (windowSize < 4) {
+            throw new IllegalArgumentException("Window size must be at least 4 bytes");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+
+        try {
+            mapWindow(0);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        Charset effective = charset != null ? charset : detectCharset();
+        this.decoder = effective.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Decodes characters from the mapped file into the given buffer.
+     *
+     * @param cbuf Destination buffer
+     * @param off Offset at which to start storing characters
+     * @param len Maximum number of characters to read
+     * @return Number of characters read, or -1 at end of file
+     * @throws IOException If the reader is closed or the next window cannot be mapped
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (window == null) {
+            throw new IOException("Reader is closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (true) {
+            boolean endOfInput = windowStart + window.limit() >= size;
+            CoderResult result = decoder.decode(window, out, endOfInput);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (out.position() > off || result.isOverflow()) {
+                return out.position() - off;
+            }
+            if (!endOfInput) {
+                // Remap from the first unconsumed byte so split characters stay intact
+                mapWindow(windowStart + window.position());
+                continue;
+            }
+            if (!flushed) {
+                flushed = true;
+                decoder.flush(out);
+                if (out.position() > off) {
+                    return out.position() - off;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Closes the underlying channel.
+     *
+     * @throws IOException If closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void mapWindow(long start) throws IOException {
+        long length = Math.min(windowSize, size - start);
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+    }
+
+    /**
+     * Detects the charset from a byte order mark and positions the window past it.
+     */
+    private Charset detectCharset() {
+        ByteBuffer bytes = window;
+        if (bytes.remaining() >= 3 && (bytes.get(0) & 0xFF) == 0xEF
+            && (bytes.get(1) & 0xFF) == 0xBB && (bytes.get(2) & 0xFF) == 0xBF) {
+            bytes.position(3);
+            return StandardCharsets.UTF_8;
+        }
+        if (bytes.remaining() >= 2 && (bytes.get(0) & 0xFF) == 0xFE && (bytes.get(1) & 0xFF) == 0xFF) {
+            bytes.position(2);
+            return StandardCharsets.UTF_16BE;
+        }
+        if (bytes.remaining() >= 2 && (bytes.get(0) & 0xFF) == 0xFF && (bytes.get(1) & 0xFF) == 0xFE) {
+            bytes.position(2);
+            return StandardCharsets.UTF_16LE;
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
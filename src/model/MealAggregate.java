@@ -0,0 +1,168 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The recipes chosen for a meal plan and their combined nutrition. Totals are kept
+ * as running primitive sums, so adding or removing a recipe costs O(1) and never
+ * re-folds the other recipes. Listeners are told which recipe changed and by how
+ * much, so a view can update just the affected row and totals.
+ * Instances are not thread-safe; use them from one thread, such as the Swing event thread.
+ */
+public final class MealAggregate {
+    /**
+     * Receives changes to a meal.
+     */
+    public interface Listener {
+        /**
+         * Called after a recipe is added.
+         *
+         * @param recipe The added recipe
+         * @param delta Nutrition added to the totals
+         */
+        void recipeAdded(Recipe recipe, NutritionInfo delta);
+
+        /**
+         * Called after a recipe is removed.
+         *
+         * @param recipe The removed recipe
+         * @param delta Nutrition subtracted from the totals
+         */
+        void recipeRemoved(Recipe recipe, NutritionInfo delta);
+    }
+
+    private final Set<Recipe> recipes = new LinkedHashSet<>();
+    private final NutritionAccumulator totals = new NutritionAccumulator();
+    private final List<Listener> listeners = new ArrayList<>();
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener Listener to notify of changes
+     */
+    public void addListener(Listener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener Listener to stop notifying
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Adds a recipe unless it is already part of the meal.
+     *
+     * @param recipe Recipe to add
+     * @return True if the meal changed
+     */
+    public boolean add(Recipe recipe) {
+        if (recipe == null || !recipes.add(recipe)) {
+            return false;
+        }
+        NutritionInfo delta = recipe.getNutritionInfo();
+        totals.add(delta);
+        for (Listener listener : listeners) {
+            listener.recipeAdded(recipe, delta);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a recipe if it is part of the meal.
+     *
+     * @param recipe Recipe to remove
+     * @return True if the meal changed
+     */
+    public boolean remove(Recipe recipe) {
+        if (recipe == null || !recipes.remove(recipe)) {
+            return false;
+        }
+        NutritionInfo delta = recipe.getNutritionInfo();
+        if (recipes.isEmpty()) {
+            // Start again from exact zeros rather than carry rounding error
+            totals.reset();
+        } else {
+            totals.subtract(delta);
+        }
+        for (Listener listener : listeners) {
+            listener.recipeRemoved(recipe, delta);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a recipe is part of the meal.
+     *
+     * @param recipe The recipe
+     * @return True if it has been added
+     */
+    public boolean contains(Recipe recipe) {
+        return recipes.contains(recipe);
+    }
+
+    /**
+     * Checks whether the meal has no recipes.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty() {
+        return recipes.isEmpty();
+    }
+
+    /**
+     * Gets the number of recipes in the meal.
+     *
+     * @return Number of recipes
+     */
+    public int size() {
+        return recipes.size();
+    }
+
+    /**
+     * Gets the recipes in the order they were added.
+     *
+     * @return Unmodifiable copy of the recipes
+     */
+    public List<Recipe> getRecipes() {
+        return Collections.unmodifiableList(new ArrayList<>(recipes));
+    }
+
+    /**
+     * Gets the running total of one nutrient without allocating.
+     *
+     * @param nutrient Nutrient index, such as {@link NutritionAccumulator#PROTEIN}
+     * @return Total amount of the nutrient
+     */
+    public double get(int nutrient) {
+        return totals.get(nutrient);
+    }
+
+    /**
+     * Gets the total calories without allocating.
+     *
+     * @return Total calories
+     */
+    public double getCalories() {
+        return totals.getCalories();
+    }
+
+    /**
+     * Gets the combined nutrition of every recipe.
+     *
+     * @return Snapshot of the totals
+     */
+    public NutritionInfo getTotals() {
+        return totals.toNutritionInfo();
+    }
+}
@@ -0,0 +1,319 @@
+package model;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Recipe nutrition stored column by column: one primitive array per nutrient,
+ * indexed by recipe position. Bulk kernels (sums, weighted sums, distance to a
+ * target and range checks) walk a single contiguous array. They are scalar loops;
+ * the sums are unrolled into four independent partial sums so consecutive
+ * additions do not wait on each other. Column indexes are those of
+ * {@link NutritionAccumulator}, which are also the macronutrient columns of every
+ * {@link NutrientSchema}, plus {@link #CALORIES}. Instances are immutable.
+ */
+public final class NutrientColumns {
+    public static final int CALORIES = NutritionAccumulator.NUTRIENT_COUNT;
+    public static final int COLUMN_COUNT = CALORIES + 1;
+
+    private final double[][] columns;
+    private final int size;
+
+    private NutrientColumns(double[][] columns, int size) {
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /**
+     * Builds columns from recipes, calculating any nutrition not yet calculated.
+     *
+     * @param recipes Recipes, one row each in list order
+     * @return Columnar store; null recipes have all-zero rows
+     */
+    public static NutrientColumns of(List<Recipe> recipes) {
+        Builder builder = new Builder(recipes.size());
+        for (int i = 0; i < recipes.size(); i++) {
+            Recipe recipe = recipes.get(i);
+            if (recipe != null) {
+                builder.set(i, recipe.getNutritionInfo());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Builds columns from nutrition records.
+     *
+     * @param rows Nutrition records; null entries become all-zero rows
+     * @return Columnar store
+     */
+    public static NutrientColumns of(NutritionInfo[] rows) {
+        Builder builder = new Builder(rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            builder.set(i, rows[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return Number of recipes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets one value.
+     *
+     * @param column Column index, such as {@link NutritionAccumulator#PROTEIN} or {@link #CALORIES}
+     * @param row Row index
+     * @return The value
+     */
+    public double get(int column, int row) {
+        return columns[column][row];
+    }
+
+    /**
+     * Sums a column.
+     *
+     * @param column Column index
+     * @return Sum over all rows
+     */
+    public double sum(int column) {
+        double[] values = columns[column];
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < size; i++) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Sums a column with a weight per row, for example servings per recipe.
+     *
+     * @param column Column index
+     * @param weights One weight per row
+     * @return Sum of value times weight
+     * @throws IllegalArgumentException If there is not one weight per row
+     */
+    public double weightedSum(int column, double[] weights) {
+        checkRowLength(weights);
+        double[] values = columns[column];
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            s0 += values[i] * weights[i];
+            s1 += values[i + 1] * weights[i + 1];
+            s2 += values[i + 2] * weights[i + 2];
+            s3 += values[i + 3] * weights[i + 3];
+        }
+        for (; i < size; i++) {
+            s0 += values[i] * weights[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Adds selected rows to an accumulator, for example the recipes in a meal.
+     *
+     * @param rows Row indexes to add
+     * @param totals Accumulator to add to
+     * @return The given accumulator
+     */
+    public NutritionAccumulator accumulate(int[] rows, NutritionAccumulator totals) {
+        for (int column = 0; column < NutritionAccumulator.NUTRIENT_COUNT; column++) {
+            double[] values = columns[column];
+            double sum = 0.0;
+            for (int row : rows) {
+                sum += values[row];
+            }
+            totals.add(column, sum);
+        }
+        return totals;
+    }
+
+    /**
+     * Scores every row by its weighted squared relative distance from a target,
+     * sum over columns of weight * ((value - target) / target)^2. Zero means an
+     * exact match; columns with a zero weight or target are ignored.
+     *
+     * @param targets One target per column, for example daily goals from {@link UserCalculator}
+     * @param weights One weight per column
+     * @return One score per row; lower is closer
+     * @throws IllegalArgumentException If there is not one target and weight per column
+     */
+    public double[] distanceTo(double[] targets, double[] weights) {
+        if (targets.length != COLUMN_COUNT || weights.length != COLUMN_COUNT) {
+            throw new IllegalArgumentException("Expected one target and weight per column");
+        }
+        double[] scores = new double[size];
+        for (int column = 0; column < COLUMN_COUNT; column++) {
+            if (weights[column] == 0.0 || targets[column] == 0.0) {
+                continue;
+            }
+            double[] values = columns[column];
+            double target = targets[column];
+            double scale = 1.0 / target;
+            double weight = weights[column];
+            for (int i = 0; i < size; i++) {
+                double relative = (values[i] - target) * scale;
+                scores[i] += weight * relative * relative;
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Ranks rows by {@link #distanceTo(double[], double[])}, closest first, with
+     * equal scores in row order. Only the closest rows are kept while scoring, in
+     * a heap of row indexes, so ranking takes O(N log limit) time.
+     *
+     * @param targets One target per column
+     * @param weights One weight per column
+     * @param limit Maximum number of rows to return
+     * @return Row indexes, closest first
+     */
+    public int[] rankByDistance(double[] targets, double[] weights, int limit) {
+        double[] scores = distanceTo(targets, weights);
+        // Keep the closest rows in a max-heap of row indexes, farthest at the root
+        int count = Math.max(0, Math.min(limit, size));
+        int[] heap = new int[count];
+        int heapSize = 0;
+        for (int row = 0; row < size && count > 0; row++) {
+            if (heapSize < count) {
+                heap[heapSize] = row;
+                siftUp(heap, heapSize++, scores);
+            } else if (closer(row, heap[0], scores)) {
+                heap[0] = row;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+        int[] ranked = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            ranked[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return ranked;
+    }
+
+    /**
+     * Finds the rows whose value in a column lies within a range.
+     *
+     * @param column Column index
+     * @param min Lowest accepted value, inclusive
+     * @param max Highest accepted value, inclusive
+     * @return Set bits for matching rows
+     */
+    public BitSet inRange(int column, double min, double max) {
+        double[] values = columns[column];
+        long[] words = new long[(size + 63) >>> 6];
+        for (int word = 0; word < words.length; word++) {
+            // Each row sets one bit of its word, with no branch on the comparison
+            int base = word << 6;
+            int end = Math.min(size - base, 64);
+            long bits = 0L;
+            for (int bit = 0; bit < end; bit++) {
+                double value = values[base + bit];
+                bits |= (value >= min && value <= max ? 1L : 0L) << bit;
+            }
+            words[word] = bits;
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Checks whether one row ranks before another: lower score first, then lower index.
+     */
+    private static boolean closer(int row, int other, double[] scores) {
+        int compared = Double.compare(scores[row], scores[other]);
+        return compared < 0 || (compared == 0 && row < other);
+    }
+
+    private static void siftUp(int[] heap, int index, double[] scores) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!closer(heap[parent], row, scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, double[] scores) {
+        if (heapSize == 0) {
+            return;
+        }
+        int row = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && closer(heap[child], heap[child + 1], scores)) {
+                child++; // The farther child
+            }
+            if (!closer(row, heap[child], scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    private void checkRowLength(double[] perRow) {
+        if (perRow.length != size) {
+            throw new IllegalArgumentException("Expected one value per row");
+        }
+    }
+
+    /**
+     * Fills the columns row by row, writing each value straight into its column.
+     * Threads may fill disjoint rows of one builder, as long as {@link #build()}
+     * happens after they finish. Rows never set stay all zero.
+     */
+    static final class Builder {
+        private final double[][] columns;
+
+        Builder(int size) {
+            columns = new double[COLUMN_COUNT][size];
+        }
+
+        /**
+         * Writes one row.
+         *
+         * @param row Row index
+         * @param nutrition Nutrition for the row; null leaves it all zero
+         */
+        void set(int row, NutritionInfo nutrition) {
+            if (nutrition != null) {
+                NutrientSchema.setMacronutrients(columns, row, nutrition);
+                columns[CALORIES][row] = nutrition.getCalories();
+            }
+        }
+
+        NutrientColumns build() {
+            return new NutrientColumns(columns, columns[CALORIES].length);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Assigns every nutrient key in micro_nutrition.json a column index. The six
+ * macronutrients held by {@link NutritionInfo} always come first, at the indexes
+ * used by {@link NutritionAccumulator}; any other keys, such as vitamins and
+ * minerals, follow in alphabetical order. Instances are immutable.
+ */
+public final class NutrientSchema {
+    private static final List<String> MACRONUTRIENTS =
+        List.of("protein", "fat", "carbohydrates", "fiber", "sugar", "sodium");
+    private static final NutrientSchema MACROS_ONLY = new NutrientSchema(Collections.emptyList());
+
+    private final List<String> keys;
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    private NutrientSchema(Collection<String> extraKeys) {
+        List<String> all = new ArrayList<>(MACRONUTRIENTS);
+        for (String key : new TreeSet<>(extraKeys)) {
+            if (!MACRONUTRIENTS.contains(key)) {
+                all.add(key);
+            }
+        }
+        this.keys = Collections.unmodifiableList(all);
+        for (int i = 0; i < keys.size(); i++) {
+            indexes.put(keys.get(i), i);
+        }
+    }
+
+    /**
+     * Gets the schema with only the six macronutrients.
+     *
+     * @return Macronutrient schema
+     */
+    public static NutrientSchema macros() {
+        return MACROS_ONLY;
+    }
+
+    /**
+     * Creates a schema with the macronutrients followed by the given keys.
+     *
+     * @param extraKeys Additional nutrient keys; macronutrient keys are ignored
+     * @return Schema covering every key
+     */
+    public static NutrientSchema of(Collection<String> extraKeys) {
+        return extraKeys.isEmpty() ? MACROS_ONLY : new NutrientSchema(extraKeys);
+    }
+
+    /**
+     * Checks whether a key is one of the six macronutrients.
+     *
+     * @param key Nutrient key as written in micro_nutrition.json
+     * @return True for protein, fat, carbohydrates, fiber, sugar and sodium
+     */
+    public static boolean isMacronutrient(String key) {
+        return MACRONUTRIENTS.contains(key);
+    }
+
+    /**
+     * Writes the six macronutrients of a nutrition record into one row of columns
+     * laid out by any schema, or by {@link NutrientColumns}, which share these indexes.
+     *
+     * @param columns Columns indexed [nutrient][row]
+     * @param row Row to write
+     * @param nutrition The nutrition record
+     */
+    static void setMacronutrients(double[][] columns, int row, NutritionInfo nutrition) {
+        columns[NutritionAccumulator.PROTEIN][row] = nutrition.getProtein();
+        columns[NutritionAccumulator.FAT][row] = nutrition.getFat();
+        columns[NutritionAccumulator.CARBOHYDRATES][row] = nutrition.getCarbohydrates();
+        columns[NutritionAccumulator.FIBER][row] = nutrition.getFiber();
+        columns[NutritionAccumulator.SUGAR][row] = nutrition.getSugar();
+        columns[NutritionAccumulator.SODIUM][row] = nutrition.getSodium();
+    }
+
+    /**
+     * Gets the column index of a nutrient.
+     *
+     * @param key Nutrient key
+     * @return Column index, or -1 if the schema has no such nutrient
+     */
+    public int indexOf(String key) {
+        return indexes.getOrDefault(key, -1);
+    }
+
+    /**
+     * Gets the nutrient key of a column.
+     *
+     * @param index Column index
+     * @return Nutrient key
+     */
+    public String keyAt(int index) {
+        return keys.get(index);
+    }
+
+    /**
+     * Gets every nutrient key in column order.
+     *
+     * @return Unmodifiable list of keys
+     */
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Gets the number of nutrients.
+     *
+     * @return Number of columns
+     */
+    public int size() {
+        return keys.size();
+    }
+}
@@ -0,0 +1,153 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A mutable running total of nutrient amounts, backed by a primitive array.
+ * Unlike folding with {@link NutritionInfo#add(NutritionInfo)}, adding to an
+ * accumulator allocates nothing, so one instance can be reset and reused across
+ * many aggregations. {@link #toNutritionInfo()} produces the immutable result.
+ * Instances are not thread-safe.
+ */
+public final class NutritionAccumulator {
+    public static final int PROTEIN = 0;
+    public static final int FAT = 1;
+    public static final int CARBOHYDRATES = 2;
+    public static final int FIBER = 3;
+    public static final int SUGAR = 4;
+    public static final int SODIUM = 5;
+    public static final int NUTRIENT_COUNT = 6;
+
+    private final double[] totals = new double[NUTRIENT_COUNT];
+
+    /**
+     * Clears all totals so the accumulator can be reused.
+     *
+     * @return This accumulator
+     */
+    public NutritionAccumulator reset() {
+        Arrays.fill(totals, 0.0);
+        return this;
+    }
+
+    /**
+     * Adds the values of a nutrition record.
+     *
+     * @param nutrition Nutrition to add; null is ignored
+     * @return This accumulator
+     */
+    public NutritionAccumulator add(NutritionInfo nutrition) {
+        if (nutrition != null) {
+            totals[PROTEIN] += nutrition.getProtein();
+            totals[FAT] += nutrition.getFat();
+            totals[CARBOHYDRATES] += nutrition.getCarbohydrates();
+            totals[FIBER] += nutrition.getFiber();
+            totals[SUGAR] += nutrition.getSugar();
+            totals[SODIUM] += nutrition.getSodium();
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts the values of a nutrition record, undoing an earlier {@link #add(NutritionInfo)}.
+     *
+     * @param nutrition Nutrition to subtract; null is ignored
+     * @return This accumulator
+     */
+    public NutritionAccumulator subtract(NutritionInfo nutrition) {
+        if (nutrition != null) {
+            totals[PROTEIN] -= nutrition.getProtein();
+            totals[FAT] -= nutrition.getFat();
+            totals[CARBOHYDRATES] -= nutrition.getCarbohydrates();
+            totals[FIBER] -= nutrition.getFiber();
+            totals[SUGAR] -= nutrition.getSugar();
+            totals[SODIUM] -= nutrition.getSodium();
+        }
+        return this;
+    }
+
+    /**
+     * Adds an amount of one nutrient.
+     *
+     * @param nutrient Nutrient index, such as {@link #PROTEIN}
+     * @param amount Amount to add
+     * @return This accumulator
+     */
+    public NutritionAccumulator add(int nutrient, double amount) {
+        totals[nutrient] += amount;
+        return this;
+    }
+
+    /**
+     * Adds the totals of another accumulator.
+     *
+     * @param other Accumulator to add
+     * @return This accumulator
+     */
+    public NutritionAccumulator add(NutritionAccumulator other) {
+        for (int i = 0; i < NUTRIENT_COUNT; i++) {
+            totals[i] += other.totals[i];
+        }
+        return this;
+    }
+
+    /**
+     * Adds a weighed amount of an ingredient given its per-100g nutrition.
+     *
+     * @param per100g Nutrition per 100 grams
+     * @param grams Amount of the ingredient in grams
+     * @param modifier Cooking method modifier applied to every nutrient
+     * @return This accumulator
+     */
+    public NutritionAccumulator addPer100g(NutritionInfo per100g, double grams, double modifier) {
+        totals[PROTEIN] += (per100g.getProtein() * grams) / 100.0 * modifier;
+        totals[FAT] += (per100g.getFat() * grams) / 100.0 * modifier;
+        totals[CARBOHYDRATES] += (per100g.getCarbohydrates() * grams) / 100.0 * modifier;
+        totals[FIBER] += (per100g.getFiber() * grams) / 100.0 * modifier;
+        totals[SUGAR] += (per100g.getSugar() * grams) / 100.0 * modifier;
+        totals[SODIUM] += (per100g.getSodium() * grams) / 100.0 * modifier;
+        return this;
+    }
+
+    /**
+     * Multiplies every total by a factor.
+     *
+     * @param factor The multiplication factor
+     * @return This accumulator
+     */
+    public NutritionAccumulator scale(double factor) {
+        for (int i = 0; i < NUTRIENT_COUNT; i++) {
+            totals[i] *= factor;
+        }
+        return this;
+    }
+
+    /**
+     * Gets the running total of one nutrient.
+     *
+     * @param nutrient Nutrient index, such as {@link #PROTEIN}
+     * @return Total amount of the nutrient
+     */
+    public double get(int nutrient) {
+        return totals[nutrient];
+    }
+
+    /**
+     * Gets the calories of the running totals, computed as in {@link NutritionInfo}.
+     *
+     * @return Total calories
+     */
+    public double getCalories() {
+        return (totals[PROTEIN] * 4) + (totals[CARBOHYDRATES] * 4) + (totals[FAT] * 9);
+    }
+
+    /**
+     * Creates an immutable snapshot of the running totals.
+     *
+     * @return Nutrition info with the current totals
+     */
+    public NutritionInfo toNutritionInfo() {
+        return new NutritionInfo(totals[PROTEIN], totals[FAT], totals[CARBOHYDRATES],
+            totals[FIBER], totals[SUGAR], totals[SODIUM]);
+    }
+}
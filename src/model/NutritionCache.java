@@ -0,0 +1,216 @@
+package model;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least-recently-used cache of recipe nutrition totals, keyed by recipe
+ * content rather than recipe identity. The key is the tuple of (name, category,
+ * cooking method, quantity, unit) of every ingredient in recipe order, together
+ * with the nutrition database and modifier table the total was calculated from,
+ * so recipes with identical ingredient lists share one entry and installing new
+ * data never returns stale totals. Hit, miss and eviction counts are kept for
+ * diagnostics. Instances are thread-safe.
+ */
+public final class NutritionCache {
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final NutritionCache shared = new NutritionCache(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final Map<Key, NutritionInfo> entries; // Guarded by this
+    private long hits; // Guarded by this
+    private long misses; // Guarded by this
+    private long evictions; // Guarded by this
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity Maximum number of recipes kept
+     * @throws IllegalArgumentException If capacity is not positive
+     */
+    public NutritionCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, NutritionInfo> eldest) {
+                if (size() > NutritionCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the process-wide cache used by calculators that are not given their own.
+     *
+     * @return The shared cache
+     */
+    public static NutritionCache getShared() {
+        return shared;
+    }
+
+    /**
+     * Builds the content key of a recipe. Null ingredients are skipped, as they are
+     * when nutrition is calculated.
+     *
+     * @param database Database the nutrition is calculated from
+     * @param modifierTable Modifier table the nutrition is calculated from
+     * @param recipe The recipe
+     * @return Key that equals the key of every recipe with the same ingredients
+     */
+    static Key keyOf(NutritionDatabase database, CalorieModifierTable modifierTable, Recipe recipe) {
+        return new Key(database, modifierTable, recipe);
+    }
+
+    /**
+     * Looks up a cached total, counting a hit or a miss.
+     *
+     * @param key Recipe content key
+     * @return Cached nutrition, or null if absent
+     */
+    synchronized NutritionInfo get(Key key) {
+        NutritionInfo nutrition = entries.get(key);
+        if (nutrition != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return nutrition;
+    }
+
+    /**
+     * Caches a total, evicting the least recently used entry if the cache is full.
+     *
+     * @param key Recipe content key
+     * @param nutrition Nutrition of the recipe
+     */
+    synchronized void put(Key key, NutritionInfo nutrition) {
+        entries.put(key, nutrition);
+    }
+
+    /**
+     * Removes every entry. The counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of cached recipes.
+     *
+     * @return Number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the maximum number of cached recipes.
+     *
+     * @return Capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets how many lookups found a cached total.
+     *
+     * @return Number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets how many lookups had to calculate the total.
+     *
+     * @return Number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets how many entries were dropped to stay within capacity.
+     *
+     * @return Number of evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the counters as text.
+     *
+     * @return Summary of size, hits, misses and evictions
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("NutritionCache[size=%d/%d, hits=%d, misses=%d, evictions=%d]",
+            entries.size(), capacity, hits, misses, evictions);
+    }
+
+    /**
+     * Content key of a recipe: its ingredient tuples in order, plus the data they
+     * were calculated from. The hash is computed once.
+     */
+    static final class Key {
+        private final NutritionDatabase database;
+        private final CalorieModifierTable modifierTable;
+        private final String[] text;
+        private final double[] quantities;
+        private final int hash;
+
+        private Key(NutritionDatabase database, CalorieModifierTable modifierTable, Recipe recipe) {
+            this.database = database;
+            this.modifierTable = modifierTable;
+            int count = 0;
+            for (Ingredient ingredient : recipe.getIngredients()) {
+                if (ingredient != null) {
+                    count++;
+                }
+            }
+            text = new String[count * 4];
+            quantities = new double[count];
+            int i = 0;
+            for (Ingredient ingredient : recipe.getIngredients()) {
+                if (ingredient != null) {
+                    text[i * 4] = ingredient.getName();
+                    text[i * 4 + 1] = ingredient.getCategory();
+                    text[i * 4 + 2] = ingredient.getCookingMethod();
+                    text[i * 4 + 3] = ingredient.getUnit();
+                    quantities[i] = ingredient.getQuantity();
+                    i++;
+                }
+            }
+            int h = System.identityHashCode(database) * 31 + System.identityHashCode(modifierTable);
+            h = h * 31 + Arrays.hashCode(text);
+            hash = h * 31 + Arrays.hashCode(quantities);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && database == other.database && modifierTable == other.modifierTable
+                && Arrays.equals(quantities, other.quantities) && Arrays.equals(text, other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package model;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.SubmissionPublisher;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.io.File;
 
 /**
  * A utility class for calculating nutritional information for recipes and meals.
@@ -13,56 +20,80 @@ import java.io.File;
  * Uses a comprehensive database of nutritional values and cooking method modifiers.
  */
 public class NutritionCalculator {
-  private Map<String, Map<String, NutritionInfo>> nutritionData;
-  private Map<String, Double> cookingModifiers;
+  // Recipes per fork-join leaf; smaller batches cost more in task overhead than they save
+  private static final int BATCH_THRESHOLD = 16;
 
+  private final NutritionDatabase database;
+  private final CalorieModifierTable modifierTable;
+  private final NutritionCache cache;
+
+  /**
+   * Creates a calculator over the shared {@link NutritionDatabase} and
+   * {@link CalorieModifierTable}, which are loaded once per process rather than
+   * once per calculator.
+   */
   public NutritionCalculator() {
-    this.nutritionData = new HashMap<>();
-    this.cookingModifiers = new HashMap<>();
-    loadNutritionData();
-  }
-
-  private void loadNutritionData() {
-    try {
-      // Get the current directory
-      File currentDir = new File(".");
-      String currentPath = currentDir.getAbsolutePath();
-      System.out.println("Starting directory: " + currentPath);
-      
-      // Try both possible paths due to nested folder structure
-      String[] possiblePaths = {
-          currentPath + File.separator + "src" + File.separator + "ingredientsSource" + File.separator + "micro_nutrition.json",
-          currentPath + File.separator + "FinalProject_5004" + File.separator + "src" + File.separator + "ingredientsSource" + File.separator + "micro_nutrition.json"
-      };
-      
-      boolean fileFound = false;
-      for (String path : possiblePaths) {
-          File nutritionFile = new File(path);
-          System.out.println("Trying path: " + nutritionFile.getAbsolutePath());
-          
-          if (nutritionFile.exists()) {
-              System.out.println("Found nutrition data at: " + nutritionFile.getAbsolutePath());
-              nutritionData = JSONParser.readMicroNutritionData(nutritionFile.getAbsolutePath());
-              fileFound = true;
-              break;
-          }
-      }
-      
-      if (!fileFound) {
-          throw new IOException("Could not find micro_nutrition.json in any of the expected locations");
-      }
+    this(NutritionDatabase.getInstance());
+  }
+
+  /**
+   * Creates a calculator over a specific nutrition database and the shared modifier table.
+   *
+   * @param database Database of per-100g nutrition values
+   */
+  public NutritionCalculator(NutritionDatabase database) {
+    this(database, CalorieModifierTable.getInstance());
+  }
+
+  /**
+   * Creates a calculator over a specific nutrition database and modifier table,
+   * sharing the process-wide {@link NutritionCache}.
+   *
+   * @param database Database of per-100g nutrition values
+   * @param modifierTable Compiled cooking method modifiers
+   */
+  public NutritionCalculator(NutritionDatabase database, CalorieModifierTable modifierTable) {
+    this(database, modifierTable, NutritionCache.getShared());
+  }
 
-    } catch (IOException e) {
-      System.err.println("Error loading nutrition data: " + e.getMessage());
-      System.err.println("Current directory: " + new File(".").getAbsolutePath());
-      // Initialize with empty data instead of throwing an exception
-      nutritionData = new HashMap<>();
+  /**
+   * Creates a calculator over a specific nutrition database, modifier table and recipe cache.
+   *
+   * @param database Database of per-100g nutrition values
+   * @param modifierTable Compiled cooking method modifiers
+   * @param cache Cache of recipe totals consulted before calculating
+   */
+  public NutritionCalculator(NutritionDatabase database, CalorieModifierTable modifierTable,
+      NutritionCache cache) {
+    if (database == null) {
+      throw new IllegalArgumentException("Nutrition database cannot be null");
+    }
+    if (modifierTable == null) {
+      throw new IllegalArgumentException("Calorie modifier table cannot be null");
+    }
+    if (cache == null) {
+      throw new IllegalArgumentException("Nutrition cache cannot be null");
     }
+    this.database = database;
+    this.modifierTable = modifierTable;
+    this.cache = cache;
+  }
+
+  /**
+   * Creates a calculator over nutrition data that has already been loaded,
+   * for example from a catalog snapshot.
+   *
+   * @param nutritionData Map of category to ingredient nutrition info
+   */
+  public NutritionCalculator(Map<String, Map<String, NutritionInfo>> nutritionData) {
+    this(NutritionDatabase.of(nutritionData != null ? nutritionData : new HashMap<>()));
   }
 
   /**
    * Calculates the total nutritional information for a recipe, taking into account
    * ingredient quantities, unit conversions, and cooking method modifications.
+   * Totals are cached by ingredient content, so a recipe with the same ingredients
+   * as one calculated before costs a single cache lookup.
    *
    * @param recipe The recipe to calculate nutrition for
    * @return A NutritionInfo object containing the total protein, fat, carbs, fiber,
@@ -70,152 +101,335 @@ public class NutritionCalculator {
    */
   public NutritionInfo calculateNutritionForRecipe(Recipe recipe) {
     if (recipe == null) {
-      System.out.println("Warning: Null recipe provided to calculateNutritionForRecipe");
+      Log.warn("Warning: Null recipe provided to calculateNutritionForRecipe");
       return new NutritionInfo(0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
     }
 
-    double totalProtein = 0;
-    double totalCarbs = 0;
-    double totalFat = 0;
-    double totalFiber = 0;
-    double totalSugar = 0;
-    double totalSodium = 0;
+    NutritionInfo totalNutrition = cachedNutrition(recipe);
+
+    if (Log.isEnabled(Log.Level.DEBUG)) {
+      Log.debug(() -> String.format("Total nutrition for recipe %s: Calories=%.2f, Protein=%.2f, Carbs=%.2f, Fat=%.2f, Fiber=%.2f",
+        recipe.getName(), totalNutrition.getCalories(), totalNutrition.getProtein(),
+        totalNutrition.getCarbohydrates(), totalNutrition.getFat(), totalNutrition.getFiber()));
+    }
+
+    return totalNutrition;
+  }
+
+  /**
+   * Calculates the nutrition of many recipes in parallel on the common fork-join pool.
+   *
+   * @param recipes The recipes to calculate nutrition for
+   * @return One row of nutrition per recipe, in the collection's iteration order;
+   *         null recipes get all-zero rows
+   */
+  public NutrientColumns calculateAll(Collection<Recipe> recipes) {
+    return calculateAll(recipes, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Calculates the nutrition of many recipes in parallel. The recipes are split
+   * recursively across the pool and each leaf writes its recipes' values straight
+   * into the result columns. A recipe calculated over this calculator's data
+   * contributes its memoized nutrition; any other recipe is read through the
+   * nutrition cache, as {@link #calculateNutritionForRecipe(Recipe)} does.
+   *
+   * @param recipes The recipes to calculate nutrition for
+   * @param pool Pool to run on
+   * @return One row of nutrition per recipe, in the collection's iteration order;
+   *         null recipes get all-zero rows
+   */
+  public NutrientColumns calculateAll(Collection<Recipe> recipes, ForkJoinPool pool) {
+    Recipe[] batch = recipes.toArray(new Recipe[0]);
+    NutrientColumns.Builder results = new NutrientColumns.Builder(batch.length);
+    pool.invoke(new BatchTask(batch, results, 0, batch.length));
+    return results.build();
+  }
+
+  /**
+   * Streams the nutrition of many recipes to a subscriber as each one is calculated,
+   * using the common fork-join pool.
+   *
+   * @param recipes The recipes to calculate nutrition for
+   * @return Publisher of recipe and nutrition pairs, in the collection's iteration order
+   */
+  public Flow.Publisher<Map.Entry<Recipe, NutritionInfo>> publishAll(Collection<Recipe> recipes) {
+    return publishAll(recipes, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Streams the nutrition of many recipes to a subscriber as each one is calculated.
+   * Every subscription calculates the recipes again on the executor, one at a time,
+   * and waits for the subscriber when it falls behind. Null recipes are skipped.
+   * The executor also delivers items, so it needs more than one thread.
+   *
+   * @param recipes The recipes to calculate nutrition for
+   * @param executor Executor for calculation and delivery
+   * @return Publisher of recipe and nutrition pairs, in the collection's iteration order
+   */
+  public Flow.Publisher<Map.Entry<Recipe, NutritionInfo>> publishAll(Collection<Recipe> recipes,
+      Executor executor) {
+    List<Recipe> batch = new ArrayList<>(recipes);
+    return subscriber -> {
+      SubmissionPublisher<Map.Entry<Recipe, NutritionInfo>> publisher =
+          new SubmissionPublisher<>(executor, Flow.defaultBufferSize());
+      publisher.subscribe(subscriber);
+      executor.execute(() -> {
+        try {
+          for (Recipe recipe : batch) {
+            if (recipe != null && !publisher.isClosed()) {
+              publisher.submit(Map.entry(recipe, nutritionOf(recipe)));
+            }
+          }
+          publisher.close();
+        } catch (RuntimeException e) {
+          publisher.closeExceptionally(e);
+        }
+      });
+    };
+  }
+
+  /**
+   * Gets a recipe's nutrition over this calculator's data: its memoized nutrition
+   * when it is calculated over the same data, otherwise through the cache.
+   */
+  private NutritionInfo nutritionOf(Recipe recipe) {
+    return recipe.isCalculatedWith(this) ? recipe.getNutritionInfo() : cachedNutrition(recipe);
+  }
+
+  private NutritionInfo cachedNutrition(Recipe recipe) {
+    NutritionCache.Key key = NutritionCache.keyOf(database, modifierTable, recipe);
+    NutritionInfo cached = cache.get(key);
+    if (cached == null) {
+      cached = calculateNutrition(resolvedIngredientsOf(recipe));
+      cache.put(key, cached);
+    }
+    return cached;
+  }
+
+  /**
+   * Calculates a slice of a batch, splitting it in half until it is small enough.
+   */
+  private final class BatchTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Recipe[] recipes;
+    private final NutrientColumns.Builder results;
+    private final int start;
+    private final int end;
+
+    BatchTask(Recipe[] recipes, NutrientColumns.Builder results, int start, int end) {
+      this.recipes = recipes;
+      this.results = results;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= BATCH_THRESHOLD) {
+        for (int i = start; i < end; i++) {
+          if (recipes[i] != null) {
+            results.set(i, nutritionOf(recipes[i]));
+          }
+        }
+        return;
+      }
+      int middle = (start + end) >>> 1;
+      invokeAll(new BatchTask(recipes, results, start, middle),
+          new BatchTask(recipes, results, middle, end));
+    }
+  }
 
+  /**
+   * Resolves every ingredient of a recipe to its nutrition entry, grams per unit
+   * and cooking modifier. Null ingredients are skipped.
+   *
+   * @param recipe The recipe to resolve
+   * @return Resolved ingredients in recipe order
+   */
+  public List<ResolvedIngredient> resolve(Recipe recipe) {
+    List<ResolvedIngredient> resolved = new ArrayList<>();
     for (Ingredient ingredient : recipe.getIngredients()) {
       if (ingredient == null) {
-        System.out.println("Warning: Null ingredient found in recipe");
+        Log.warn("Warning: Null ingredient found in recipe");
         continue;
       }
+      resolved.add(resolve(ingredient));
+    }
+    return resolved;
+  }
 
-      // Get the base nutrition values for this ingredient
-      Map<String, Double> nutritionValues = getNutritionValues(ingredient.getName());
-      if (nutritionValues == null) {
-        System.out.println("Warning: No nutrition values found for ingredient: " + ingredient.getName());
-        continue;
-      }
+  /**
+   * Gets a recipe's resolved ingredients against this calculator's data: the
+   * recipe's own list, resolved once, when the recipe is calculated over the same
+   * database and modifier table, otherwise a fresh resolution.
+   *
+   * @param recipe The recipe
+   * @return Resolved ingredients in recipe order
+   */
+  List<ResolvedIngredient> resolvedIngredientsOf(Recipe recipe) {
+    return recipe.isCalculatedWith(this) ? recipe.getResolvedIngredients() : resolve(recipe);
+  }
 
-      // Calculate nutrition based on quantity and unit
-      double quantity = ingredient.getQuantity();
-      String unit = ingredient.getUnit().toLowerCase();
-      
-      // Convert quantity to grams if needed
-      double quantityInGrams = quantity;
-      if (unit.equals("ml")) {
-        // For liquids, assume density of 1g/ml
-        quantityInGrams = quantity;
-      } else if (unit.equals("tablespoon")) {
-        quantityInGrams = quantity * 15; // 1 tbsp = 15g
-      } else if (unit.equals("teaspoon")) {
-        quantityInGrams = quantity * 5; // 1 tsp = 5g
-      } else if (unit.equals("cup")) {
-        quantityInGrams = quantity * 240; // 1 cup = 240g
-      } else if (unit.equals("piece") || unit.equals("medium")) {
-        // For pieces, use the quantity as is since nutrition data is per piece
-        quantityInGrams = quantity;
-      }
+  /**
+   * Checks whether another calculator resolves ingredients against the same data.
+   *
+   * @param other The other calculator
+   * @return True if both use the same nutrition database and modifier table
+   */
+  boolean sharesData(NutritionCalculator other) {
+    return database == other.database && modifierTable == other.modifierTable;
+  }
 
-      // Special handling for ingredients that expand when cooked
-      String ingredientName = ingredient.getName().toLowerCase();
-      if (ingredientName.contains("pasta") || ingredientName.contains("noodle") || 
-          ingredientName.contains("rice") || ingredientName.contains("dough")) {
-        // These ingredients typically double in weight when cooked
-        quantityInGrams *= 2;
+  /**
+   * Brings resolved ingredients up to date with their ingredients' cooking methods.
+   * Only the modifier of an ingredient whose method changed is looked up again;
+   * its nutrition entry and weight are kept.
+   *
+   * @param resolved Resolved ingredients
+   * @return The same list if every modifier is current, otherwise an unmodifiable updated copy
+   */
+  List<ResolvedIngredient> refresh(List<ResolvedIngredient> resolved) {
+    List<ResolvedIngredient> refreshed = null;
+    for (int i = 0; i < resolved.size(); i++) {
+      ResolvedIngredient ingredient = resolved.get(i);
+      if (!ingredient.isCurrent()) {
+        if (refreshed == null) {
+          refreshed = new ArrayList<>(resolved);
+        }
+        refreshed.set(i, ingredient.withCookingModifier(getCookingMethodModifier(ingredient.getIngredient())));
       }
+    }
+    return refreshed != null ? Collections.unmodifiableList(refreshed) : resolved;
+  }
+
+  /**
+   * Resolves one ingredient to its nutrition entry, grams per unit and cooking modifier.
+   * Ingredients that expand when cooked, such as pasta and rice, are weighed here,
+   * so the check runs once per resolution rather than on every calculation.
+   *
+   * @param ingredient The ingredient to resolve
+   * @return Resolved ingredient, unresolved if no nutrition entry matches its name
+   */
+  public ResolvedIngredient resolve(Ingredient ingredient) {
+    // Get the base nutrition values for this ingredient
+    String name = ingredient.getName();
+    NutritionInfo nutritionValues = database.lookup(name);
+    double modifier = getCookingMethodModifier(ingredient);
+    if (nutritionValues == null) {
+      Log.warn("Warning: No nutrition values found for ingredient: " + name);
+      return new ResolvedIngredient(ingredient, null, 0.0, modifier);
+    }
 
-      // Calculate nutrition per 100g
-      double protein = (nutritionValues.getOrDefault("protein", 0.0) * quantityInGrams) / 100.0;
-      double carbs = (nutritionValues.getOrDefault("carbohydrates", 0.0) * quantityInGrams) / 100.0;
-      double fat = (nutritionValues.getOrDefault("fat", 0.0) * quantityInGrams) / 100.0;
-      double fiber = (nutritionValues.getOrDefault("fiber", 0.0) * quantityInGrams) / 100.0;
-      double sugar = (nutritionValues.getOrDefault("sugar", 0.0) * quantityInGrams) / 100.0;
-      double sodium = (nutritionValues.getOrDefault("sodium", 0.0) * quantityInGrams) / 100.0;
-
-      // Apply cooking method modifier
-      double modifier = getCookingMethodModifier(ingredient.getCookingMethod());
-      protein *= modifier;
-      carbs *= modifier;
-      fat *= modifier;
-      fiber *= modifier;
-      sugar *= modifier;
-      sodium *= modifier;
-
-      totalProtein += protein;
-      totalCarbs += carbs;
-      totalFat += fat;
-      totalFiber += fiber;
-      totalSugar += sugar;
-      totalSodium += sodium;
-
-      System.out.println(String.format("Ingredient: %s, Quantity: %.2f %s (%.2f g), Protein: %.2f, Carbs: %.2f, Fat: %.2f, Modifier: %.2f",
-        ingredient.getName(), quantity, unit, quantityInGrams, protein, carbs, fat, modifier));
-    }
-
-    // Create NutritionInfo with the total values
-    NutritionInfo totalNutrition = new NutritionInfo(totalProtein, totalFat, totalCarbs, totalFiber, totalSugar, totalSodium);
-    
-    System.out.println(String.format("Total nutrition for recipe %s: Calories=%.2f, Protein=%.2f, Carbs=%.2f, Fat=%.2f, Fiber=%.2f",
-      recipe.getName(), totalNutrition.getCalories(), totalProtein, totalCarbs, totalFat, totalFiber));
+    double gramsPerUnit = ingredient.getUnitOfMeasure().getGramsPerUnit();
 
-    return totalNutrition;
+    // Special handling for ingredients that expand when cooked
+    String ingredientName = name.toLowerCase();
+    if (ingredientName.contains("pasta") || ingredientName.contains("noodle") || 
+        ingredientName.contains("rice") || ingredientName.contains("dough")) {
+      // These ingredients typically double in weight when cooked
+      gramsPerUnit *= 2;
+    }
+
+    ResolvedIngredient resolved = new ResolvedIngredient(ingredient, nutritionValues, gramsPerUnit, modifier);
+    if (Log.isEnabled(Log.Level.DEBUG)) {
+      double quantityInGrams = resolved.getGrams();
+      Log.debug(() -> String.format(
+          "Ingredient: %s, Quantity: %.2f %s (%.2f g), Protein: %.2f, Carbs: %.2f, Fat: %.2f, Modifier: %.2f",
+          name, ingredient.getQuantity(), ingredient.getUnit(), quantityInGrams,
+          nutritionValues.getProtein() * quantityInGrams / 100.0 * modifier,
+          nutritionValues.getCarbohydrates() * quantityInGrams / 100.0 * modifier,
+          nutritionValues.getFat() * quantityInGrams / 100.0 * modifier, modifier));
+    }
+    return resolved;
   }
 
-  private Map<String, Double> getNutritionValues(String ingredientName) {
-    if (ingredientName == null || ingredientName.trim().isEmpty()) {
-      return null;
-    }
-
-    String normalizedName = ingredientName.toLowerCase().trim();
-    
-    // First try to find the ingredient in each category
-    for (Map.Entry<String, Map<String, NutritionInfo>> categoryEntry : nutritionData.entrySet()) {
-      String category = categoryEntry.getKey();
-      Map<String, NutritionInfo> categoryMap = categoryEntry.getValue();
-      
-      // Check if this category contains the ingredient
-      for (Map.Entry<String, NutritionInfo> ingredientEntry : categoryMap.entrySet()) {
-        String ingredientKey = ingredientEntry.getKey().toLowerCase();
-        if (ingredientKey.contains(normalizedName) || normalizedName.contains(ingredientKey)) {
-          NutritionInfo nutritionInfo = ingredientEntry.getValue();
-          System.out.println(String.format("Found nutrition data for %s in category %s", ingredientName, category));
-          
-          // Convert NutritionInfo to Map<String, Double>
-          Map<String, Double> values = new HashMap<>();
-          values.put("protein", nutritionInfo.getProtein());
-          values.put("carbohydrates", nutritionInfo.getCarbohydrates());
-          values.put("fat", nutritionInfo.getFat());
-          values.put("fiber", nutritionInfo.getFiber());
-          values.put("sugar", nutritionInfo.getSugar());
-          values.put("sodium", nutritionInfo.getSodium());
-
-          System.out.println(String.format("Nutrition values for %s: Protein=%.2f, Carbs=%.2f, Fat=%.2f, Calories=%.2f",
-              ingredientName, nutritionInfo.getProtein(), nutritionInfo.getCarbohydrates(), 
-              nutritionInfo.getFat(), nutritionInfo.getCalories()));
-
-          return values;
+  /**
+   * Sums the nutrition of already resolved ingredients. No name matching or unit
+   * parsing happens here, so it is cheap to call again after quantities change.
+   *
+   * @param ingredients Resolved ingredients
+   * @return Total nutrition of the ingredients
+   */
+  public NutritionInfo calculateNutrition(List<ResolvedIngredient> ingredients) {
+    return calculateNutrition(ingredients, 1.0);
+  }
+
+  /**
+   * Sums the nutrition of already resolved ingredients with every quantity scaled by a factor.
+   *
+   * @param ingredients Resolved ingredients
+   * @param scale Factor applied to each ingredient's quantity
+   * @return Total nutrition of the scaled ingredients
+   */
+  public NutritionInfo calculateNutrition(List<ResolvedIngredient> ingredients, double scale) {
+    return accumulate(ingredients, scale, new NutritionAccumulator()).toNutritionInfo();
+  }
+
+  /**
+   * Adds the nutrition of already resolved ingredients, with every quantity scaled
+   * by a factor, to an accumulator. Allocates nothing, so a reused accumulator makes
+   * repeated aggregation garbage-free.
+   *
+   * @param ingredients Resolved ingredients
+   * @param scale Factor applied to each ingredient's quantity
+   * @param totals Accumulator to add to
+   * @return The given accumulator
+   */
+  public NutritionAccumulator accumulate(List<ResolvedIngredient> ingredients, double scale,
+      NutritionAccumulator totals) {
+    for (int i = 0; i < ingredients.size(); i++) {
+      ResolvedIngredient ingredient = ingredients.get(i);
+      if (ingredient.isResolved()) {
+        // Calculate nutrition per 100g, then apply the cooking method modifier
+        totals.addPer100g(ingredient.getNutritionPer100g(), ingredient.getGrams() * scale,
+            ingredient.getCookingModifier());
+      }
+    }
+    return totals;
+  }
+
+  /**
+   * Builds a report of recipe ingredient names that match no nutrition entry, or
+   * several entries without an exact match.
+   *
+   * @param recipes Recipes to check
+   * @return Report of unresolved and ambiguous names
+   */
+  public ResolutionReport buildResolutionReport(Collection<Recipe> recipes) {
+    ResolutionReport report = new ResolutionReport();
+    Map<String, List<String>> candidatesByName = new HashMap<>();
+    for (Recipe recipe : recipes) {
+      for (Ingredient ingredient : recipe.getIngredients()) {
+        if (ingredient == null) {
+          continue;
+        }
+        String name = ingredient.getName();
+        List<String> candidates = candidatesByName.computeIfAbsent(name, database::candidates);
+        if (candidates.isEmpty()) {
+          report.addUnresolved(name, recipe.getName());
+        } else if (candidates.size() > 1 && !candidates.get(0).equalsIgnoreCase(name.trim())) {
+          report.addAmbiguous(name, recipe.getName(), candidates);
         }
       }
     }
-    
-    System.out.println(String.format("No nutrition data found for ingredient: %s", ingredientName));
-    return null;
+    return report;
   }
 
   /**
-   * Gets the cooking method modifier for a specific cooking method.
+   * Gets the cooking method modifier for an ingredient.
    * Returns a multiplier that affects the nutritional values based on how the
-   * ingredient is cooked (e.g., frying increases calories, steaming preserves them).
+   * ingredient is cooked (e.g., frying increases calories, steaming preserves them),
+   * looked up in the same table {@link Ingredient} uses for calories.
    *
-   * @param cookingMethod The cooking method to get the modifier for
+   * @param ingredient The ingredient to get the modifier for
    * @return A double representing the multiplier for the cooking method
    *         (1.0 for no change, >1.0 for increased values, <1.0 for decreased values)
    */
-  private double getCookingMethodModifier(String cookingMethod) {
-    if (cookingMethod == null || cookingMethod.trim().isEmpty()) {
-      return 1.0;
-    }
-
-    String normalizedMethod = cookingMethod.toLowerCase().trim();
-    return cookingModifiers.getOrDefault(normalizedMethod, 1.0);
+  private double getCookingMethodModifier(Ingredient ingredient) {
+    return modifierTable.modifierFor(ingredient.getName(), ingredient.getCategory(),
+        ingredient.getCookingMethod());
   }
 
   /**
@@ -227,12 +441,30 @@ public class NutritionCalculator {
    *         sugar, and sodium for the entire meal
    */
   public NutritionInfo calculateNutritionForMeal(Map<String, Recipe> meals) {
-    NutritionInfo totalNutrition = new NutritionInfo(0, 0, 0, 0, 0, 0);
+    return accumulateMeal(meals.values(), new NutritionAccumulator()).toNutritionInfo();
+  }
 
-    for (Recipe recipe : meals.values()) {
-      totalNutrition = totalNutrition.add(calculateNutritionForRecipe(recipe));
+  /**
+   * Adds the nutrition of every recipe in a meal to an accumulator, in iteration
+   * order. A recipe calculated over this calculator's data adds its memoized
+   * nutrition; any other recipe is resolved against this calculator's data and its
+   * ingredients are added directly. Neither builds a cache key nor takes the cache's
+   * lock. Null recipes are skipped.
+   *
+   * @param recipes The recipes in the meal
+   * @param totals Accumulator to add to
+   * @return The given accumulator
+   */
+  public NutritionAccumulator accumulateMeal(Iterable<Recipe> recipes, NutritionAccumulator totals) {
+    for (Recipe recipe : recipes) {
+      if (recipe == null) {
+        Log.warn("Warning: Null recipe provided to calculateNutritionForMeal");
+      } else if (recipe.isCalculatedWith(this)) {
+        totals.add(recipe.getNutritionInfo());
+      } else {
+        accumulate(resolve(recipe), 1.0, totals);
+      }
     }
-
-    return totalNutrition;
+    return totals;
   }
 } 
\ No newline at end of file
@@ -0,0 +1,311 @@
+package model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable, thread-safe table of per-100g nutrition values, keyed by category
+ * and ingredient name. One process-wide instance is shared by every
+ * {@link NutritionCalculator}, so micro_nutrition.json is parsed at most once.
+ * The number of file loads is exposed through {@link #getLoadCount()}.
+ *
+ * <p>Besides the six macronutrients held by each {@link NutritionInfo}, every
+ * nutrient in the file (vitamins, minerals and so on) is kept in one primitive
+ * column per nutrient, indexed by food id and laid out by a {@link NutrientSchema}.
+ * The columns are the only copy of those nutrients; the parsed maps are dropped
+ * once the columns are filled. Adding nutrients therefore adds columns here, not
+ * fields to every nutrition object.
+ */
+public final class NutritionDatabase {
+    private static final AtomicInteger loadCount = new AtomicInteger();
+    private static volatile NutritionDatabase shared;
+
+    private final Map<String, Map<String, NutritionInfo>> nutritionData;
+    private final NutritionIndex index;
+    private final NutrientSchema schema;
+    private final double[][] columns; // [nutrient][food id]
+
+    private NutritionDatabase(Map<String, Map<String, NutritionInfo>> nutritionData, NutrientSchema schema,
+                              ExtraNutrients extraNutrients) {
+        Map<String, Map<String, NutritionInfo>> copy = new HashMap<>();
+        for (Map.Entry<String, Map<String, NutritionInfo>> entry : nutritionData.entrySet()) {
+            copy.put(entry.getKey(), Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
+        }
+        this.nutritionData = Collections.unmodifiableMap(copy);
+        this.index = new NutritionIndex(this.nutritionData);
+        this.schema = schema;
+        this.columns = buildColumns(extraNutrients);
+    }
+
+    /**
+     * Lays out every nutrient as a column, with food ids in the same order as the index ordinals.
+     */
+    private double[][] buildColumns(ExtraNutrients extraNutrients) {
+        double[][] result = new double[schema.size()][index.size()];
+        int food = 0;
+        for (Map.Entry<String, Map<String, NutritionInfo>> category : nutritionData.entrySet()) {
+            for (Map.Entry<String, NutritionInfo> entry : category.getValue().entrySet()) {
+                NutrientSchema.setMacronutrients(result, food, entry.getValue());
+                extraNutrients.fill(category.getKey(), entry.getKey(), result, food);
+                food++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes the nutrients other than the macronutrients of one food into its row.
+     */
+    @FunctionalInterface
+    private interface ExtraNutrients {
+        void fill(String category, String food, double[][] columns, int row);
+    }
+
+    /**
+     * Wraps nutrition data that has already been loaded, for example from a catalog snapshot.
+     *
+     * @param nutritionData Map of category to ingredient nutrition info
+     * @return Database over a copy of the data
+     */
+    public static NutritionDatabase of(Map<String, Map<String, NutritionInfo>> nutritionData) {
+        return of(nutritionData, Collections.emptyMap());
+    }
+
+    /**
+     * Wraps nutrition data and additional nutrients that have already been loaded.
+     *
+     * @param nutritionData Map of category to ingredient nutrition info
+     * @param extraNutrients Map of category to ingredient to nutrient key to value
+     * @return Database over a copy of the data
+     */
+    public static NutritionDatabase of(Map<String, Map<String, NutritionInfo>> nutritionData,
+                                       Map<String, Map<String, Map<String, Double>>> extraNutrients) {
+        if (nutritionData == null || extraNutrients == null) {
+            throw new IllegalArgumentException("Nutrition data cannot be null");
+        }
+        Set<String> extraKeys = new HashSet<>();
+        for (Map<String, Map<String, Double>> foods : extraNutrients.values()) {
+            for (Map<String, Double> nutrients : foods.values()) {
+                extraKeys.addAll(nutrients.keySet());
+            }
+        }
+        NutrientSchema schema = NutrientSchema.of(extraKeys);
+        return new NutritionDatabase(nutritionData, schema, (category, food, columns, row) -> {
+            Map<String, Double> nutrients = extraNutrients.getOrDefault(category, Map.of()).get(food);
+            if (nutrients != null) {
+                for (Map.Entry<String, Double> nutrient : nutrients.entrySet()) {
+                    int column = schema.indexOf(nutrient.getKey());
+                    if (column >= 0 && nutrient.getValue() != null) {
+                        columns[column][row] = nutrient.getValue();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Wraps nutrition data whose other nutrients are already laid out by a schema,
+     * for example when restoring a catalog snapshot.
+     *
+     * @param nutritionData Map of category to ingredient nutrition info
+     * @param schema Layout of the nutrients
+     * @param extraValues Map of category to ingredient to its values for the schema's
+     *                    columns after the macronutrients, in column order
+     * @return Database over a copy of the data
+     */
+    static NutritionDatabase of(Map<String, Map<String, NutritionInfo>> nutritionData, NutrientSchema schema,
+                                Map<String, Map<String, double[]>> extraValues) {
+        int first = NutrientSchema.macros().size();
+        return new NutritionDatabase(nutritionData, schema, (category, food, columns, row) -> {
+            double[] values = extraValues.getOrDefault(category, Map.of()).get(food);
+            if (values != null) {
+                for (int i = 0; i < values.length; i++) {
+                    columns[first + i][row] = values[i];
+                }
+            }
+        });
+    }
+
+    /**
+     * Loads a database from a micro-nutrition JSON file.
+     *
+     * @param file Path to micro_nutrition.json
+     * @return Loaded database
+     * @throws IOException If the file cannot be read
+     */
+    public static NutritionDatabase load(Path file) throws IOException {
+        Map<String, Map<String, Map<String, Double>>> extraNutrients = new HashMap<>();
+        Map<String, Map<String, NutritionInfo>> nutritionData =
+            JSONParser.readMicroNutritionData(file.toString(), extraNutrients);
+        loadCount.incrementAndGet();
+        return of(nutritionData, extraNutrients);
+    }
+
+    /**
+     * Gets the shared database, loading it from the default location on first use.
+     * If the file cannot be found the shared database is empty.
+     *
+     * @return The process-wide database
+     */
+    public static NutritionDatabase getInstance() {
+        NutritionDatabase database = shared;
+        if (database == null) {
+            synchronized (NutritionDatabase.class) {
+                database = shared;
+                if (database == null) {
+                    database = loadDefault();
+                    shared = database;
+                }
+            }
+        }
+        return database;
+    }
+
+    /**
+     * Replaces the shared database, for example with one restored from a catalog.
+     *
+     * @param database Database every calculator should use from now on
+     */
+    public static void install(NutritionDatabase database) {
+        if (database == null) {
+            throw new IllegalArgumentException("Nutrition database cannot be null");
+        }
+        synchronized (NutritionDatabase.class) {
+            shared = database;
+        }
+    }
+
+    /**
+     * Gets how many times micro-nutrition data has been parsed from disk in this process.
+     *
+     * @return Number of file loads
+     */
+    public static int getLoadCount() {
+        return loadCount.get();
+    }
+
+    private static NutritionDatabase loadDefault() {
+        try {
+            // Get the current directory
+            File currentDir = new File(".");
+            String currentPath = currentDir.getAbsolutePath();
+            Log.debug(() -> "Starting directory: " + currentPath);
+
+            // Try both possible paths due to nested folder structure
+            String[] possiblePaths = {
+                currentPath + File.separator + "src" + File.separator + "ingredientsSource" + File.separator + Catalog.NUTRITION_FILE,
+                currentPath + File.separator + "FinalProject_5004" + File.separator + "src" + File.separator + "ingredientsSource" + File.separator + Catalog.NUTRITION_FILE
+            };
+
+            for (String path : possiblePaths) {
+                File nutritionFile = new File(path);
+                Log.debug(() -> "Trying path: " + nutritionFile.getAbsolutePath());
+
+                if (nutritionFile.exists()) {
+                    Log.info("Found nutrition data at: " + nutritionFile.getAbsolutePath());
+                    return load(nutritionFile.toPath());
+                }
+            }
+
+            throw new IOException("Could not find micro_nutrition.json in any of the expected locations");
+        } catch (IOException e) {
+            Log.error("Error loading nutrition data: " + e.getMessage());
+            Log.error("Current directory: " + new File(".").getAbsolutePath());
+            // Initialize with empty data instead of throwing an exception
+            return of(new HashMap<>());
+        }
+    }
+
+    /**
+     * Gets the nutrition tables.
+     *
+     * @return Unmodifiable map of category to ingredient nutrition info
+     */
+    public Map<String, Map<String, NutritionInfo>> getNutritionData() {
+        return nutritionData;
+    }
+
+    /**
+     * Gets the layout of the nutrient columns.
+     *
+     * @return Schema of every nutrient in this database
+     */
+    public NutrientSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Gets the per-100g amount of any nutrient for an ingredient name, matched as
+     * in {@link #lookup(String)}.
+     *
+     * @param ingredientName Ingredient name as written in a recipe
+     * @param nutrient Nutrient key, for example "protein" or "vitamin_c"
+     * @return Amount per 100 grams, or 0.0 if the ingredient or nutrient is unknown
+     */
+    public double getNutrient(String ingredientName, String nutrient) {
+        int column = schema.indexOf(nutrient);
+        int food = index.ordinalOf(ingredientName);
+        return column >= 0 && food >= 0 ? columns[column][food] : 0.0;
+    }
+
+    /**
+     * Gets the food id an ingredient name resolves to. Food ids number the entries
+     * in the iteration order of {@link #getNutritionData()}.
+     *
+     * @param ingredientName Ingredient name as written in a recipe
+     * @return Food id, or -1 if nothing matches
+     */
+    public int foodIdOf(String ingredientName) {
+        return index.ordinalOf(ingredientName);
+    }
+
+    /**
+     * Gets the per-100g amount of a nutrient by column and food id, for bulk use.
+     *
+     * @param column Column index from {@link #getSchema()}
+     * @param foodId Food id from {@link #foodIdOf(String)}
+     * @return Amount per 100 grams
+     */
+    public double getNutrient(int column, int foodId) {
+        return columns[column][foodId];
+    }
+
+    /**
+     * Finds the per-100g nutrition for an ingredient name. An exact match on the
+     * lower-cased name wins; otherwise the first entry whose name contains, or is
+     * contained in, the ingredient name is used.
+     *
+     * @param ingredientName Ingredient name as written in a recipe
+     * @return Shared immutable nutrition record, or null if nothing matches
+     */
+    public NutritionInfo lookup(String ingredientName) {
+        return index.lookup(ingredientName);
+    }
+
+    /**
+     * Lists every entry an ingredient name matches, for diagnostics.
+     *
+     * @param ingredientName Ingredient name as written in a recipe
+     * @return Matching entry names, the one {@link #lookup(String)} uses first
+     */
+    List<String> candidates(String ingredientName) {
+        return index.candidates(ingredientName);
+    }
+
+    /**
+     * Gets the number of ingredients across all categories.
+     *
+     * @return Total number of entries
+     */
+    public int size() {
+        return index.size();
+    }
+}
@@ -0,0 +1,301 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A precompiled lookup index over the ingredient names of a nutrition database.
+ *
+ * <p>Names are matched the way the calculator always has: an ingredient matches a
+ * nutrition key when either one contains the other, and the first key in database
+ * order wins. An exact match on the normalized name is answered from a hash table.
+ * Otherwise the name is scanned once through an Aho-Corasick automaton to find keys
+ * it contains, and searched once in the concatenated keys to find keys containing
+ * it. Both results are cached, including misses, and every lookup returns the shared
+ * immutable {@link NutritionInfo} from the database.
+ */
+final class NutritionIndex {
+    private static final char SEPARATOR = '\0';
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+    private static final int MAX_CACHED_NAMES = 4096;
+
+    private final String[] names;
+    private final NutritionInfo[] values;
+    private final Map<String, Integer> exact = new HashMap<>();
+    private final String joinedKeys;
+    private final int[] keyStarts;
+
+    // Aho-Corasick automaton over the keys; state 0 is the root
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private int[] failure;
+    private int[] firstOutput; // Lowest key ordinal ending at a state or any of its suffixes
+    private int[][] stateKeys; // Ordinals of the keys ending exactly at a state
+
+    private final Map<String, Integer> resolved = new ConcurrentHashMap<>();
+    private final Set<String> misses = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Builds the index in the iteration order of the given tables.
+     *
+     * @param nutritionData Map of category to ingredient nutrition info
+     */
+    NutritionIndex(Map<String, Map<String, NutritionInfo>> nutritionData) {
+        List<String> keys = new ArrayList<>();
+        List<String> keyNames = new ArrayList<>();
+        List<NutritionInfo> infos = new ArrayList<>();
+        for (Map<String, NutritionInfo> category : nutritionData.values()) {
+            for (Map.Entry<String, NutritionInfo> entry : category.entrySet()) {
+                String key = entry.getKey().toLowerCase();
+                exact.putIfAbsent(key, keys.size());
+                keys.add(key);
+                keyNames.add(entry.getKey());
+                infos.add(entry.getValue());
+            }
+        }
+        this.names = keyNames.toArray(new String[0]);
+        this.values = infos.toArray(new NutritionInfo[0]);
+
+        StringBuilder joined = new StringBuilder();
+        this.keyStarts = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            keyStarts[i] = joined.length();
+            joined.append(keys.get(i)).append(SEPARATOR);
+        }
+        this.joinedKeys = joined.toString();
+
+        buildAutomaton(keys);
+    }
+
+    /**
+     * Finds the nutrition entry for an ingredient name.
+     *
+     * @param ingredientName Ingredient name as written in a recipe
+     * @return Shared nutrition record, or null if no key matches
+     */
+    NutritionInfo lookup(String ingredientName) {
+        int ordinal = ordinalOf(ingredientName);
+        return ordinal >= 0 ? values[ordinal] : null;
+    }
+
+    /**
+     * Finds the ordinal of the entry an ingredient name matches. Ordinals number the
+     * entries from zero in database order and serve as food ids.
+     *
+     * @param ingredientName Ingredient name as written in a recipe
+     * @return Ordinal of the matching entry, or -1 if no key matches
+     */
+    int ordinalOf(String ingredientName) {
+        if (ingredientName == null || ingredientName.trim().isEmpty()) {
+            return -1;
+        }
+
+        String normalizedName = ingredientName.toLowerCase().trim();
+        Integer ordinal = exact.get(normalizedName);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        Integer cached = resolved.get(normalizedName);
+        if (cached != null) {
+            return cached;
+        }
+        if (misses.contains(normalizedName)) {
+            return -1;
+        }
+
+        int match = Math.min(firstKeyContainedIn(normalizedName), firstKeyContaining(normalizedName));
+        if (match == NO_MATCH) {
+            remember(misses, normalizedName);
+            return -1;
+        }
+        if (resolved.size() >= MAX_CACHED_NAMES) {
+            resolved.clear();
+        }
+        resolved.put(normalizedName, match);
+        return match;
+    }
+
+    /**
+     * Lists every key an ingredient name could match, in database order. Unlike
+     * {@link #lookup(String)} this is uncached and meant for diagnostics.
+     *
+     * @param ingredientName Ingredient name as written in a recipe
+     * @return Matching key names, with an exact match first if there is one
+     */
+    List<String> candidates(String ingredientName) {
+        List<String> result = new ArrayList<>();
+        if (ingredientName == null || ingredientName.trim().isEmpty()) {
+            return result;
+        }
+
+        String normalizedName = ingredientName.toLowerCase().trim();
+        Integer exactOrdinal = exact.get(normalizedName);
+        if (exactOrdinal != null) {
+            result.add(names[exactOrdinal]);
+        }
+
+        boolean[] matched = new boolean[values.length];
+        collectKeysContainedIn(normalizedName, matched);
+        collectKeysContaining(normalizedName, matched);
+        for (int ordinal = 0; ordinal < matched.length; ordinal++) {
+            if (matched[ordinal] && (exactOrdinal == null || ordinal != exactOrdinal)) {
+                result.add(names[ordinal]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of indexed keys.
+     *
+     * @return Number of keys
+     */
+    int size() {
+        return values.length;
+    }
+
+    private static void remember(Set<String> cache, String name) {
+        if (cache.size() >= MAX_CACHED_NAMES) {
+            cache.clear();
+        }
+        cache.add(name);
+    }
+
+    /**
+     * Scans the name through the automaton, returning the lowest ordinal of any key it contains.
+     */
+    private int firstKeyContainedIn(String name) {
+        int best = firstOutput[0]; // Empty keys are contained in every name
+        int state = 0;
+        for (int i = 0; i < name.length(); i++) {
+            state = step(state, name.charAt(i));
+            best = Math.min(best, firstOutput[state]);
+        }
+        return best;
+    }
+
+    private void collectKeysContainedIn(String name, boolean[] matched) {
+        int state = 0;
+        markOutputs(0, matched);
+        for (int i = 0; i < name.length(); i++) {
+            state = step(state, name.charAt(i));
+            for (int suffix = state; suffix != 0; suffix = failure[suffix]) {
+                markOutputs(suffix, matched);
+            }
+        }
+    }
+
+    /**
+     * Follows the goto or failure transitions of the automaton for one character.
+     */
+    private int step(int state, char c) {
+        Integer next = transitions.get(state).get(c);
+        while (next == null && state != 0) {
+            state = failure[state];
+            next = transitions.get(state).get(c);
+        }
+        return next != null ? next : 0;
+    }
+
+    private void markOutputs(int state, boolean[] matched) {
+        for (int ordinal : stateKeys[state]) {
+            matched[ordinal] = true;
+        }
+    }
+
+    private void collectKeysContaining(String name, boolean[] matched) {
+        if (name.indexOf(SEPARATOR) >= 0) {
+            return;
+        }
+        int offset = joinedKeys.indexOf(name);
+        while (offset >= 0) {
+            int index = Arrays.binarySearch(keyStarts, offset);
+            int ordinal = index >= 0 ? index : -index - 2;
+            matched[ordinal] = true;
+            int nextKey = ordinal + 1 < keyStarts.length ? keyStarts[ordinal + 1] : joinedKeys.length();
+            offset = joinedKeys.indexOf(name, nextKey);
+        }
+    }
+
+    /**
+     * Searches the concatenated keys, returning the lowest ordinal of any key containing the name.
+     * Keys are joined in ordinal order, so the first occurrence belongs to the lowest ordinal.
+     */
+    private int firstKeyContaining(String name) {
+        if (name.indexOf(SEPARATOR) >= 0) {
+            return NO_MATCH;
+        }
+        int offset = joinedKeys.indexOf(name);
+        if (offset < 0) {
+            return NO_MATCH;
+        }
+        int index = Arrays.binarySearch(keyStarts, offset);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private void buildAutomaton(List<String> keys) {
+        transitions.add(new HashMap<>());
+        List<Integer> outputs = new ArrayList<>();
+        outputs.add(NO_MATCH);
+        List<List<Integer>> endings = new ArrayList<>();
+        endings.add(new ArrayList<>());
+
+        for (int ordinal = 0; ordinal < keys.size(); ordinal++) {
+            String key = keys.get(ordinal);
+            int state = 0;
+            for (int i = 0; i < key.length(); i++) {
+                Integer next = transitions.get(state).get(key.charAt(i));
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.add(new HashMap<>());
+                    outputs.add(NO_MATCH);
+                    endings.add(new ArrayList<>());
+                    transitions.get(state).put(key.charAt(i), next);
+                }
+                state = next;
+            }
+            outputs.set(state, Math.min(outputs.get(state), ordinal));
+            endings.get(state).add(ordinal);
+        }
+
+        stateKeys = new int[endings.size()][];
+        for (int i = 0; i < stateKeys.length; i++) {
+            stateKeys[i] = endings.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        failure = new int[transitions.size()];
+        firstOutput = new int[transitions.size()];
+        for (int i = 0; i < firstOutput.length; i++) {
+            firstOutput[i] = outputs.get(i);
+        }
+
+        // Breadth-first, so each state's failure target is complete before its children
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(0).values()) {
+            failure[child] = 0;
+            firstOutput[child] = Math.min(firstOutput[child], firstOutput[0]);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+                int fallback = failure[state];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+                    fallback = failure[fallback];
+                }
+                Integer target = transitions.get(fallback).get(c);
+                failure[child] = target != null && target != child ? target : 0;
+                firstOutput[child] = Math.min(firstOutput[child], firstOutput[failure[child]]);
+                queue.add(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package model;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calculates recipe nutrition in the background, so recipes are usually ready by
+ * the time they are shown. Recipes from the most recent {@link #prewarm(List)} call
+ * are calculated first, in list order, so passing what is about to be displayed,
+ * such as the current filter results, moves it ahead of everything queued before.
+ * Recipes that are already calculated are skipped, and a recipe that is already
+ * queued is moved to its new place rather than queued twice.
+ */
+public final class NutritionPrewarmer {
+    private static final NutritionPrewarmer shared = new NutritionPrewarmer();
+
+    private final Executor executor;
+    private final PriorityBlockingQueue<Task> queue = new PriorityBlockingQueue<>();
+    private final Map<Recipe, Task> queued = new IdentityHashMap<>(); // Current task per recipe; guarded by itself
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * Creates a prewarmer that runs on a single low-priority daemon thread.
+     */
+    public NutritionPrewarmer() {
+        this(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "nutrition-prewarm");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a prewarmer that runs on the given executor.
+     *
+     * @param executor Executor for the background work
+     */
+    public NutritionPrewarmer(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the process-wide prewarmer.
+     *
+     * @return The shared prewarmer
+     */
+    public static NutritionPrewarmer getShared() {
+        return shared;
+    }
+
+    /**
+     * Queues recipes ahead of everything queued before, in list order.
+     *
+     * @param recipes Recipes to calculate, most important first
+     */
+    public void prewarm(List<Recipe> recipes) {
+        long batch = generation.incrementAndGet();
+        synchronized (queued) {
+            for (int i = 0; i < recipes.size(); i++) {
+                Recipe recipe = recipes.get(i);
+                if (recipe != null && !recipe.isNutritionCalculated()) {
+                    // A task replaced here stays in the queue but is skipped when polled
+                    Task task = new Task(recipe, batch, i);
+                    queued.put(recipe, task);
+                    queue.add(task);
+                }
+            }
+            if (queue.size() > 2 * queued.size()) {
+                // Mostly replaced tasks: rebuild rather than let repeated calls grow the queue
+                queue.clear();
+                queue.addAll(queued.values());
+            }
+        }
+        if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Gets the number of queued recipes not yet calculated.
+     *
+     * @return Number of pending recipes
+     */
+    public int getPending() {
+        synchronized (queued) {
+            return queued.size();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Task task;
+            while ((task = queue.poll()) != null) {
+                synchronized (queued) {
+                    if (!queued.remove(task.recipe, task)) {
+                        continue; // Replaced by a later prewarm call
+                    }
+                }
+                try {
+                    task.recipe.getNutritionInfo();
+                } catch (RuntimeException e) {
+                    Log.warn("Warning: Could not prewarm nutrition for recipe " + task.recipe.getName()
+                        + ": " + e.getMessage());
+                }
+            }
+            draining.set(false);
+            // A prewarm call may have queued work after the last poll but before the flag was cleared
+            if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * A queued recipe, ordered newest batch first and then by position in its batch.
+     */
+    private static final class Task implements Comparable<Task> {
+        private final Recipe recipe;
+        private final long batch;
+        private final int position;
+
+        Task(Recipe recipe, long batch, int position) {
+            this.recipe = recipe;
+            this.batch = batch;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            if (batch != other.batch) {
+                return Long.compare(other.batch, batch);
+            }
+            return Integer.compare(position, other.position);
+        }
+    }
+}
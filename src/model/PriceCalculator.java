@@ -15,7 +15,7 @@ public class PriceCalculator {
      */
     public double calculateRecipePrice(Recipe recipe) {
         if (recipe == null) {
-            System.out.println("Warning: Null recipe provided to calculateRecipePrice");
+            Log.warn("Warning: Null recipe provided to calculateRecipePrice");
             return 0.0;
         }
 
@@ -32,55 +32,11 @@ public class PriceCalculator {
      */
     public double calculateIngredientPrice(Ingredient ingredient) {
         if (ingredient == null) {
-            System.out.println("Warning: Null ingredient provided to calculateIngredientPrice");
+            Log.warn("Warning: Null ingredient provided to calculateIngredientPrice");
             return 0.0;
         }
 
-        String unit = ingredient.getUnit().toLowerCase();
-        double quantity = ingredient.getQuantity();
-        double pricePerUnit = ingredient.getPricePerUnit();
-
-        // For items priced per piece, use direct calculation
-        if (unit.contains("piece") || unit.contains("egg")) {
-            return pricePerUnit * quantity;
-        }
-
-        // For weight-based items, convert price from per 100g to per gram
-        double basePrice = pricePerUnit / 100.0;
-        return basePrice * quantity * getUnitMultiplier(unit);
-    }
-
-    /**
-     * Gets the conversion multiplier for different units.
-     *
-     * @param unit Unit of measurement
-     * @return Conversion multiplier
-     */
-    private double getUnitMultiplier(String unit) {
-        String baseUnit = extractBaseUnit(unit);
-        switch (baseUnit) {
-            case "tablespoon":
-                return 15.0; // 1 tablespoon = 15g
-            case "teaspoon":
-                return 5.0;  // 1 teaspoon = 5g
-            case "cup":
-                return 240.0; // 1 cup = 240g
-            case "ml":
-                return 1.0;  // Assume 1ml = 1g for liquids
-            default:
-                return 1.0;  // For units already in standard form (g, piece, etc.)
-        }
-    }
-
-    /**
-     * Extracts the base unit from a compound unit string.
-     * For example: "tablespoon (15g)" -> "tablespoon"
-     *
-     * @param unit Unit string to parse
-     * @return Base unit
-     */
-    private String extractBaseUnit(String unit) {
-        int parenIndex = unit.indexOf('(');
-        return parenIndex > 0 ? unit.substring(0, parenIndex).trim() : unit;
+        // Per-piece items use a direct calculation, weight-based ones convert from per 100g
+        return ingredient.getUnitOfMeasure().priceOf(ingredient.getQuantity(), ingredient.getPricePerUnit());
     }
-} 
\ No newline at end of file
+}
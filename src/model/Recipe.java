@@ -1,6 +1,7 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 
@@ -15,8 +16,10 @@ public class Recipe {
   private final String cuisine;
   private final int prepTime; // in minutes
   private final List<Ingredient> ingredients;
-  private final NutritionCalculator nutritionCalculator;
-  private NutritionInfo nutritionInfo;
+  private NutritionCalculator nutritionCalculator; // Null until needed for the shared database; guarded by this
+  private volatile NutritionInfo nutritionInfo; // Calculated once, on first use
+  private volatile List<ResolvedIngredient> resolvedIngredients; // Resolved once, on first use
+  private volatile double totalPrice = Double.NaN; // Summed once, on first use
 
   /**
    * Creates a new recipe with the specified attributes.
@@ -30,6 +33,44 @@ public class Recipe {
    * @throws IllegalArgumentException If any required parameters are invalid
    */
   public Recipe(String name, String flavor, List<String> flavorTags, String cuisine, int prepTime, List<Ingredient> ingredients) {
+    this(name, flavor, flavorTags, cuisine, prepTime, ingredients, null);
+  }
+
+  /**
+   * Creates a recipe whose nutrition has already been resolved, for example when
+   * restoring it from a catalog snapshot. If none is given, nutrition is calculated
+   * on first use.
+   *
+   * @param name Recipe name
+   * @param flavor Flavor profile
+   * @param flavorTags List of flavor tags
+   * @param cuisine Cuisine type
+   * @param prepTime Preparation time in minutes
+   * @param ingredients Initial ingredient list
+   * @param nutritionInfo Precomputed nutrition, or null to calculate it on first use
+   * @throws IllegalArgumentException If any required parameters are invalid
+   */
+  Recipe(String name, String flavor, List<String> flavorTags, String cuisine, int prepTime,
+      List<Ingredient> ingredients, NutritionInfo nutritionInfo) {
+    this(name, flavor, flavorTags, cuisine, prepTime, ingredients, nutritionInfo, null);
+  }
+
+  /**
+   * Creates a recipe whose nutrition is calculated against a specific calculator,
+   * for example one built over a catalog's nutrition database while it loads.
+   *
+   * @param name Recipe name
+   * @param flavor Flavor profile
+   * @param flavorTags List of flavor tags
+   * @param cuisine Cuisine type
+   * @param prepTime Preparation time in minutes
+   * @param ingredients Initial ingredient list
+   * @param nutritionInfo Precomputed nutrition, or null to calculate it on first use
+   * @param nutritionCalculator Calculator to use, or null for the shared database
+   * @throws IllegalArgumentException If any required parameters are invalid
+   */
+  Recipe(String name, String flavor, List<String> flavorTags, String cuisine, int prepTime,
+      List<Ingredient> ingredients, NutritionInfo nutritionInfo, NutritionCalculator nutritionCalculator) {
     if (name == null || name.trim().isEmpty()) {
       throw new IllegalArgumentException("Recipe name cannot be empty");
     }
@@ -52,20 +93,98 @@ public class Recipe {
     this.cuisine = cuisine.trim();
     this.prepTime = prepTime;
     this.ingredients = new ArrayList<>(ingredients); // Create defensive copy
-    this.nutritionCalculator = new NutritionCalculator();
-
-    calculateNutrition();
+    this.nutritionInfo = nutritionInfo;
+    this.nutritionCalculator = nutritionCalculator;
   }
 
-  private void calculateNutrition() {
-    if (nutritionCalculator != null) {
-      this.nutritionInfo = nutritionCalculator.calculateNutritionForRecipe(this);
+  private synchronized NutritionInfo calculateNutrition() {
+    if (nutritionInfo == null) {
+      nutritionInfo = getNutritionCalculator().calculateNutritionForRecipe(this);
       if (nutritionInfo == null) {
-        System.out.println("Warning: NutritionInfo is null for recipe: " + name);
+        Log.warn("Warning: NutritionInfo is null for recipe: " + name);
       }
-    } else {
-      System.out.println("Warning: NutritionCalculator is null for recipe: " + name);
     }
+    return nutritionInfo;
+  }
+
+  /**
+   * Checks whether nutrition has been calculated yet, without calculating it.
+   *
+   * @return True if {@link #getNutritionInfo()} will not need to calculate
+   */
+  public boolean isNutritionCalculated() {
+    return nutritionInfo != null;
+  }
+
+  /**
+   * Sets the calculator nutrition is calculated with, for example once the data a
+   * catalog's recipes were parsed alongside has loaded. Nutrition already
+   * calculated is kept; ingredients are resolved again against the new data.
+   *
+   * @param calculator Calculator to use, or null for the shared database
+   */
+  synchronized void setNutritionCalculator(NutritionCalculator calculator) {
+    nutritionCalculator = calculator;
+    resolvedIngredients = null;
+  }
+
+  /**
+   * Checks whether this recipe resolves its ingredients against the same data as a
+   * calculator, so that calculator can use {@link #getResolvedIngredients()}.
+   *
+   * @param calculator The calculator
+   * @return True if both use the same nutrition database and modifier table
+   */
+  synchronized boolean isCalculatedWith(NutritionCalculator calculator) {
+    return nutritionCalculator != null && nutritionCalculator.sharesData(calculator);
+  }
+
+  private synchronized NutritionCalculator getNutritionCalculator() {
+    if (nutritionCalculator == null) {
+      nutritionCalculator = new NutritionCalculator();
+    }
+    return nutritionCalculator;
+  }
+
+  /**
+   * Gets the ingredients resolved to their nutrition entries, grams per unit and
+   * cooking modifiers. Resolution happens once per recipe; if an ingredient's
+   * cooking method has changed since, only its modifier is looked up again.
+   *
+   * @return Unmodifiable list of resolved ingredients
+   */
+  public List<ResolvedIngredient> getResolvedIngredients() {
+    List<ResolvedIngredient> resolved = resolvedIngredients;
+    if (resolved == null || !isCurrent(resolved)) {
+      synchronized (this) {
+        resolved = resolvedIngredients;
+        resolved = resolved == null
+            ? Collections.unmodifiableList(getNutritionCalculator().resolve(this))
+            : getNutritionCalculator().refresh(resolved);
+        resolvedIngredients = resolved;
+      }
+    }
+    return resolved;
+  }
+
+  private static boolean isCurrent(List<ResolvedIngredient> resolved) {
+    for (int i = 0; i < resolved.size(); i++) {
+      if (!resolved.get(i).isCurrent()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Calculates the nutrition of this recipe with every quantity scaled by a factor,
+   * from its resolved ingredients.
+   *
+   * @param scale Factor applied to each ingredient's quantity
+   * @return Scaled nutrition
+   */
+  NutritionInfo calculateNutrition(double scale) {
+    return getNutritionCalculator().calculateNutrition(getResolvedIngredients(), scale);
   }
 
   /**
@@ -78,12 +197,13 @@ public class Recipe {
   }
 
   /**
-   * Gets the total calories of the recipe.
+   * Gets the total calories of the recipe, calculating nutrition on first use.
    *
    * @return Total calories
    */
   public int getCalories() {
-    return nutritionInfo != null ? (int) Math.round(nutritionInfo.getCalories()) : 0;
+    NutritionInfo nutrition = getNutritionInfo();
+    return nutrition != null ? (int) Math.round(nutrition.getCalories()) : 0;
   }
 
   /**
@@ -123,15 +243,57 @@ public class Recipe {
   }
 
   /**
-   * Gets the nutrition information for the recipe.
+   * Gets one ingredient without copying the list.
+   *
+   * @param index Position of the ingredient
+   * @return The ingredient
+   */
+  Ingredient getIngredient(int index) {
+    return ingredients.get(index);
+  }
+
+  /**
+   * Gets the nutrition information for the recipe. It is calculated once, on the
+   * first call from any thread.
    *
    * @return Nutrition information
    */
   public NutritionInfo getNutritionInfo() {
-    if (nutritionInfo == null) {
-      calculateNutrition();
+    NutritionInfo nutrition = nutritionInfo;
+    return nutrition != null ? nutrition : calculateNutrition();
+  }
+
+  /**
+   * Gets the total price of the ingredients, summed on first use.
+   *
+   * @return Total price of the recipe
+   */
+  public double getTotalPrice() {
+    double price = totalPrice;
+    if (Double.isNaN(price)) {
+      // Ingredient quantities and prices never change, so a racing recalculation is harmless
+      price = 0.0;
+      for (Ingredient ingredient : ingredients) {
+        if (ingredient != null) {
+          price += ingredient.getTotalPrice();
+        }
+      }
+      totalPrice = price;
     }
-    return nutritionInfo;
+    return price;
+  }
+
+  /**
+   * Gets a view of this recipe scaled to a number of servings. Recipes as written
+   * make one serving. The view shares this recipe's ingredients and multiplies its
+   * cached nutrition and price, so nothing is looked up or calculated again.
+   *
+   * @param servings Number of servings
+   * @return Scaled view of this recipe
+   * @throws IllegalArgumentException If servings is not positive
+   */
+  public ScaledRecipe scaledTo(double servings) {
+    return new ScaledRecipe(this, servings);
   }
 
   /**
@@ -173,16 +335,14 @@ public class Recipe {
    * @return Formatted nutrition text
    */
   public String getNutritionText() {
-    if (nutritionInfo == null) {
-      calculateNutrition();
-    }
+    NutritionInfo nutrition = getNutritionInfo();
     StringBuilder sb = new StringBuilder();
     sb.append(String.format("Total Calories: %d\n", getCalories()));
-    if (nutritionInfo != null) {
-      sb.append(String.format("Protein: %.1fg\n", nutritionInfo.getProtein()));
-      sb.append(String.format("Carbohydrates: %.1fg\n", nutritionInfo.getCarbohydrates()));
-      sb.append(String.format("Fat: %.1fg\n", nutritionInfo.getFat()));
-      sb.append(String.format("Fiber: %.1fg\n", nutritionInfo.getFiber()));
+    if (nutrition != null) {
+      sb.append(String.format("Protein: %.1fg\n", nutrition.getProtein()));
+      sb.append(String.format("Carbohydrates: %.1fg\n", nutrition.getCarbohydrates()));
+      sb.append(String.format("Fat: %.1fg\n", nutrition.getFat()));
+      sb.append(String.format("Fiber: %.1fg\n", nutrition.getFiber()));
     }
     return sb.toString();
   }
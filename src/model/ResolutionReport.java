@@ -0,0 +1,114 @@
+package model;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Lists the recipe ingredient names that did not resolve to a nutrition entry, and
+ * those that matched more than one entry without an exact match. Names are grouped
+ * so each one is reported once, together with the recipes that use it.
+ */
+public final class ResolutionReport {
+    private final Map<String, List<String>> unresolved = new TreeMap<>();
+    private final Map<String, List<String>> ambiguous = new TreeMap<>();
+    private final Map<String, List<String>> recipesByName = new TreeMap<>();
+
+    /**
+     * Records an ingredient name with no matching nutrition entry.
+     *
+     * @param ingredientName The ingredient name
+     * @param recipeName The recipe using it
+     */
+    void addUnresolved(String ingredientName, String recipeName) {
+        unresolved.putIfAbsent(ingredientName, Collections.emptyList());
+        addRecipe(ingredientName, recipeName);
+    }
+
+    /**
+     * Records an ingredient name that matched several nutrition entries.
+     *
+     * @param ingredientName The ingredient name
+     * @param recipeName The recipe using it
+     * @param candidates Matching entries, the one used first
+     */
+    void addAmbiguous(String ingredientName, String recipeName, List<String> candidates) {
+        ambiguous.putIfAbsent(ingredientName, new ArrayList<>(candidates));
+        addRecipe(ingredientName, recipeName);
+    }
+
+    private void addRecipe(String ingredientName, String recipeName) {
+        List<String> recipes = recipesByName.computeIfAbsent(ingredientName, name -> new ArrayList<>());
+        if (!recipes.contains(recipeName)) {
+            recipes.add(recipeName);
+        }
+    }
+
+    /**
+     * Gets the ingredient names with no nutrition entry.
+     *
+     * @return Sorted list of names
+     */
+    public List<String> getUnresolvedNames() {
+        return new ArrayList<>(unresolved.keySet());
+    }
+
+    /**
+     * Gets the ingredient names that matched several entries, with their candidates.
+     *
+     * @return Map of name to matching entries, the one used first
+     */
+    public Map<String, List<String>> getAmbiguousNames() {
+        return Collections.unmodifiableMap(ambiguous);
+    }
+
+    /**
+     * Checks whether every ingredient resolved to exactly one entry.
+     *
+     * @return True if there is nothing to report
+     */
+    public boolean isEmpty() {
+        return unresolved.isEmpty() && ambiguous.isEmpty();
+    }
+
+    /**
+     * Writes the report as plain text.
+     *
+     * @param file Destination file
+     * @throws IOException If the file cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(toString());
+        }
+    }
+
+    /**
+     * Returns the report as plain text.
+     *
+     * @return Report text
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Unresolved ingredients: %d\n", unresolved.size()));
+        for (String name : unresolved.keySet()) {
+            sb.append(String.format("  %s (used in: %s)\n", name, String.join(", ", recipesByName.get(name))));
+        }
+        sb.append(String.format("Ambiguous ingredients: %d\n", ambiguous.size()));
+        for (Map.Entry<String, List<String>> entry : ambiguous.entrySet()) {
+            List<String> candidates = entry.getValue();
+            sb.append(String.format("  %s -> %s, also matches %s (used in: %s)\n", entry.getKey(),
+                candidates.get(0), String.join(", ", candidates.subList(1, candidates.size())),
+                String.join(", ", recipesByName.get(entry.getKey()))));
+        }
+        return sb.toString();
+    }
+}
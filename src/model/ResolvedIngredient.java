@@ -0,0 +1,109 @@
+package model;
+
+import java.util.Objects;
+
+/**
+ * A recipe ingredient bound to everything needed to compute its nutrition: the
+ * per-100g nutrition entry it matched, how many grams one unit weighs once cooked,
+ * and the cooking method modifier. Resolution happens once per recipe, so
+ * recomputing nutrition for another quantity is plain arithmetic. The cooking
+ * method the modifier was looked up for is remembered, so a changed method only
+ * needs a new modifier, see {@link #withCookingModifier(double)}.
+ */
+public final class ResolvedIngredient {
+    private final Ingredient ingredient;
+    private final NutritionInfo nutritionPer100g;
+    private final double gramsPerUnit;
+    private final double cookingModifier;
+    private final String cookingMethod; // The method cookingModifier applies to
+
+    /**
+     * Creates a resolved ingredient for the ingredient's current cooking method.
+     *
+     * @param ingredient The recipe ingredient
+     * @param nutritionPer100g Matched nutrition entry, or null if the name did not resolve
+     * @param gramsPerUnit Grams per unit of the ingredient's quantity, including cooked expansion
+     * @param cookingModifier Multiplier for the ingredient's cooking method
+     */
+    ResolvedIngredient(Ingredient ingredient, NutritionInfo nutritionPer100g,
+                       double gramsPerUnit, double cookingModifier) {
+        this.ingredient = ingredient;
+        this.nutritionPer100g = nutritionPer100g;
+        this.gramsPerUnit = gramsPerUnit;
+        this.cookingModifier = cookingModifier;
+        this.cookingMethod = ingredient.getCookingMethod();
+    }
+
+    /**
+     * Gets the recipe ingredient.
+     *
+     * @return The ingredient
+     */
+    public Ingredient getIngredient() {
+        return ingredient;
+    }
+
+    /**
+     * Checks whether the ingredient matched a nutrition entry.
+     *
+     * @return True if nutrition is known for this ingredient
+     */
+    public boolean isResolved() {
+        return nutritionPer100g != null;
+    }
+
+    /**
+     * Gets the matched per-100g nutrition entry.
+     *
+     * @return Shared nutrition record, or null if unresolved
+     */
+    public NutritionInfo getNutritionPer100g() {
+        return nutritionPer100g;
+    }
+
+    /**
+     * Gets how many grams one unit of the ingredient contributes.
+     *
+     * @return Grams per unit
+     */
+    public double getGramsPerUnit() {
+        return gramsPerUnit;
+    }
+
+    /**
+     * Gets the total grams of the ingredient at its recipe quantity.
+     *
+     * @return Grams in the recipe
+     */
+    public double getGrams() {
+        return ingredient.getQuantity() * gramsPerUnit;
+    }
+
+    /**
+     * Gets the cooking method modifier.
+     *
+     * @return Multiplier applied to the nutrition values
+     */
+    public double getCookingModifier() {
+        return cookingModifier;
+    }
+
+    /**
+     * Checks whether the cooking modifier still matches the ingredient's cooking method.
+     *
+     * @return False if the method changed after the modifier was looked up
+     */
+    public boolean isCurrent() {
+        return Objects.equals(cookingMethod, ingredient.getCookingMethod());
+    }
+
+    /**
+     * Creates a copy with a different cooking modifier, for when the cooking method changes.
+     *
+     * @param modifier The new cooking method modifier
+     * @return Resolved ingredient with the new modifier
+     */
+    public ResolvedIngredient withCookingModifier(double modifier) {
+        return new ResolvedIngredient(ingredient, nutritionPer100g, gramsPerUnit, modifier);
+    }
+}
@@ -0,0 +1,137 @@
+package model;
+
+import java.util.List;
+
+/**
+ * A recipe scaled to a number of servings. The view holds only the base recipe and
+ * a factor: ingredients are shared with the base recipe, nutrition is summed from
+ * the base recipe's resolved ingredients with scaled quantities, and price is the
+ * base recipe's cached value multiplied by the factor. Creating a view is cheap,
+ * so many recipes can be scaled per request.
+ */
+public final class ScaledRecipe {
+    private static final double BASE_SERVINGS = 1.0;
+
+    private final Recipe recipe;
+    private final double servings;
+    private final double factor;
+    private volatile NutritionInfo nutritionInfo; // Scaled once, on first use
+
+    /**
+     * Creates a scaled view of a recipe.
+     *
+     * @param recipe The base recipe
+     * @param servings Number of servings
+     * @throws IllegalArgumentException If the recipe is null or servings is not positive
+     */
+    ScaledRecipe(Recipe recipe, double servings) {
+        if (recipe == null) {
+            throw new IllegalArgumentException("Recipe cannot be null");
+        }
+        if (!(servings > 0) || Double.isInfinite(servings)) {
+            throw new IllegalArgumentException("Servings must be positive");
+        }
+        this.recipe = recipe;
+        this.servings = servings;
+        this.factor = servings / BASE_SERVINGS;
+    }
+
+    /**
+     * Gets the recipe this view scales.
+     *
+     * @return Base recipe
+     */
+    public Recipe getRecipe() {
+        return recipe;
+    }
+
+    /**
+     * Gets the recipe name.
+     *
+     * @return Recipe name
+     */
+    public String getName() {
+        return recipe.getName();
+    }
+
+    /**
+     * Gets the number of servings.
+     *
+     * @return Servings
+     */
+    public double getServings() {
+        return servings;
+    }
+
+    /**
+     * Gets the factor applied to the base recipe's quantities.
+     *
+     * @return Scale factor
+     */
+    public double getScaleFactor() {
+        return factor;
+    }
+
+    /**
+     * Gets the base recipe's ingredients, with their unscaled quantities.
+     * Use {@link #getQuantity(int)} for scaled amounts.
+     *
+     * @return List of ingredients
+     */
+    public List<Ingredient> getIngredients() {
+        return recipe.getIngredients();
+    }
+
+    /**
+     * Gets the scaled quantity of one ingredient.
+     *
+     * @param index Position of the ingredient in the recipe
+     * @return Quantity in the ingredient's unit
+     */
+    public double getQuantity(int index) {
+        return recipe.getIngredient(index).getQuantity() * factor;
+    }
+
+    /**
+     * Gets the scaled nutrition.
+     *
+     * @return Nutrition for all servings
+     */
+    public NutritionInfo getNutritionInfo() {
+        NutritionInfo nutrition = nutritionInfo;
+        if (nutrition == null) {
+            nutrition = recipe.calculateNutrition(factor);
+            nutritionInfo = nutrition;
+        }
+        return nutrition;
+    }
+
+    /**
+     * Gets the scaled calories.
+     *
+     * @return Total calories for all servings
+     */
+    public int getCalories() {
+        return (int) Math.round(getNutritionInfo().getCalories());
+    }
+
+    /**
+     * Gets the scaled price.
+     *
+     * @return Total price for all servings
+     */
+    public double getTotalPrice() {
+        return recipe.getTotalPrice() * factor;
+    }
+
+    /**
+     * Returns a string representation of this scaled recipe.
+     *
+     * @return Concise summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%s (%.1f servings, %d calories, $%.2f)", recipe.getName(), servings,
+            getCalories(), getTotalPrice());
+    }
+}
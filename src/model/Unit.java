@@ -0,0 +1,136 @@
+package model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A parsed unit of measurement, shared by the price, calorie and nutrition code so
+ * they always agree on conversions. Unit strings such as "tablespoon (15g)" or
+ * "100g" are parsed once into a lower-cased base code, a gram factor and a pricing
+ * rule. Units are interned: every string with the same meaning maps to one instance,
+ * and parsing a string seen before is a single map lookup.
+ */
+public final class Unit {
+    private static final Map<String, Unit> byText = new ConcurrentHashMap<>();
+    private static final Map<String, Unit> canonical = new ConcurrentHashMap<>();
+
+    private final String code;
+    private final double gramsPerUnit;
+    private final boolean pricedPerPiece;
+
+    private Unit(String code, double gramsPerUnit, boolean pricedPerPiece) {
+        this.code = code;
+        this.gramsPerUnit = gramsPerUnit;
+        this.pricedPerPiece = pricedPerPiece;
+    }
+
+    /**
+     * Parses a unit string, returning the shared instance for its meaning.
+     *
+     * @param text Unit as written, for example "tablespoon (15g)"
+     * @return The interned unit
+     * @throws IllegalArgumentException If the text is null or blank
+     */
+    public static Unit of(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Unit cannot be empty");
+        }
+        Unit unit = byText.get(text);
+        if (unit == null) {
+            unit = parse(text);
+            byText.putIfAbsent(text, unit);
+        }
+        return unit;
+    }
+
+    private static Unit parse(String text) {
+        String lower = text.trim().toLowerCase();
+        int parenIndex = lower.indexOf('(');
+        String code = parenIndex > 0 ? lower.substring(0, parenIndex).trim() : lower;
+        boolean pricedPerPiece = lower.contains("piece") || lower.contains("egg");
+        Unit parsed = new Unit(code, gramsPerUnit(code), pricedPerPiece);
+        Unit existing = canonical.putIfAbsent(code + (pricedPerPiece ? "#piece" : ""), parsed);
+        return existing != null ? existing : parsed;
+    }
+
+    /**
+     * Gets the standard gram factor for a base unit. Liquids assume 1g/ml, and units
+     * already in standard form (g, 100g, piece, etc.) count as one.
+     */
+    private static double gramsPerUnit(String code) {
+        switch (code) {
+            case "tablespoon":
+                return 15.0; // 1 tablespoon = 15g
+            case "teaspoon":
+                return 5.0;  // 1 teaspoon = 5g
+            case "cup":
+                return 240.0; // 1 cup = 240g
+            case "ml":
+                return 1.0;  // Assume 1ml = 1g for liquids
+            default:
+                return 1.0;  // For units already in standard form (g, piece, etc.)
+        }
+    }
+
+    /**
+     * Gets the base unit code, lower-cased and without any parenthesized detail.
+     *
+     * @return Unit code, for example "tablespoon"
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Gets how many grams one unit weighs.
+     *
+     * @return Gram factor
+     */
+    public double getGramsPerUnit() {
+        return gramsPerUnit;
+    }
+
+    /**
+     * Checks whether prices for this unit are per piece rather than per 100g.
+     *
+     * @return True for pieces and eggs
+     */
+    public boolean isPricedPerPiece() {
+        return pricedPerPiece;
+    }
+
+    /**
+     * Converts a quantity of this unit to grams.
+     *
+     * @param quantity Quantity in this unit
+     * @return Weight in grams
+     */
+    public double toGrams(double quantity) {
+        return quantity * gramsPerUnit;
+    }
+
+    /**
+     * Calculates the price of a quantity. Per-piece prices are multiplied directly;
+     * other prices are per 100g and are converted through the gram factor.
+     *
+     * @param quantity Quantity in this unit
+     * @param pricePerUnit Price per piece, or per 100g
+     * @return Total price
+     */
+    public double priceOf(double quantity, double pricePerUnit) {
+        if (pricedPerPiece) {
+            return pricePerUnit * quantity;
+        }
+        return (pricePerUnit / 100.0) * quantity * gramsPerUnit;
+    }
+
+    /**
+     * Returns the unit code.
+     *
+     * @return Unit code
+     */
+    @Override
+    public String toString() {
+        return code;
+    }
+}
@@ -57,6 +57,25 @@ public class UserCalculator {
         return bmr * multiplier;
     }
 
+    /**
+     * Calculates daily nutrient targets: 1.8g protein per kg of body weight, 30% of
+     * calories from fat and the remaining calories from carbohydrates.
+     *
+     * @param weight The user's weight in kilograms
+     * @param tdee The user's Total Daily Energy Expenditure
+     * @return Targets indexed like {@link NutrientColumns}; nutrients without a target are zero
+     */
+    public double[] calculateNutrientTargets(double weight, double tdee) {
+        double[] targets = new double[NutrientColumns.COLUMN_COUNT];
+        double protein = weight * 1.8; // Middle of the 1.6-2.2g per kg range
+        double fat = (tdee * 0.3) / 9; // 30% of calories, 9 calories per gram
+        targets[NutritionAccumulator.PROTEIN] = protein;
+        targets[NutritionAccumulator.FAT] = fat;
+        targets[NutritionAccumulator.CARBOHYDRATES] = (tdee - protein * 4 - fat * 9) / 4; // Remaining calories, 4 per gram
+        targets[NutrientColumns.CALORIES] = tdee;
+        return targets;
+    }
+
     /**
      * Collects and calculates all user-specific metabolic data.
      * This method serves as a convenience method to calculate both BMR and TDEE
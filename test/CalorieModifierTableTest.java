@@ -0,0 +1,91 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CalorieModifierTable class.
+ */
+class CalorieModifierTableTest {
+
+  private static Map<String, Map<String, Map<String, Double>>> sections(boolean withIngredients) {
+    Map<String, Map<String, Map<String, Double>>> source = new HashMap<>();
+    source.put("default", Map.of("default", Map.of("grilled", 1.2, "fried", 1.5)));
+    source.put("categories", Map.of("meat", Map.of("grilled", 1.3), "dairy", Map.of("melted", 1.0)));
+    source.put("subcategories", Map.of("poultry", Map.of("grilled", 1.25), "vegetable", Map.of("steamed", 0.9)));
+    if (withIngredients) {
+      source.put("ingredients", Map.of("chicken breast", Map.of("grilled", 1.1)));
+    }
+    return source;
+  }
+
+  /**
+   * Tests that an ingredients section takes over all lookups, as it always has.
+   */
+  @Test
+  void testIngredientSectionTakesPrecedence() {
+    CalorieModifierTable table = CalorieModifierTable.compile(sections(true));
+
+    int chicken = table.rowFor("chicken breast", "meat");
+    assertEquals(1.1, table.modifier(chicken, table.methodId("grilled")), 0.0001);
+    assertEquals(1.0, table.modifier(chicken, table.methodId("fried")), 0.0001);
+    assertEquals(CalorieModifierTable.NO_ROW, table.rowFor("beef", "meat"));
+  }
+
+  /**
+   * Tests subcategory and category rows when there is no ingredients section.
+   */
+  @Test
+  void testSubcategoryAndCategoryRows() {
+    CalorieModifierTable table = CalorieModifierTable.compile(sections(false));
+    int grilled = table.methodId("grilled");
+
+    assertEquals(1.25, table.modifier(table.rowFor("turkey mince", "meat"), grilled), 0.0001);
+    assertEquals(1.3, table.modifier(table.rowFor("beef", "meat"), grilled), 0.0001);
+    assertEquals(0.9, table.modifier(table.rowFor("kale", "vegetable"), table.methodId("steamed")), 0.0001);
+    assertEquals(1.0, table.modifier(table.rowFor("beef", "meat"), table.methodId("boiled")), 0.0001);
+    assertEquals(CalorieModifierTable.NO_METHOD, table.methodId("boiled"));
+  }
+
+  /**
+   * Tests that an ingredient's cached modifier follows cooking method changes.
+   */
+  @Test
+  void testIngredientCacheFollowsCookingMethod() {
+    Ingredient chicken = new Ingredient("Chicken Breast", 100, "g", 165, 4.29, "meat", "raw", "Chicken", 4.29);
+    double raw = chicken.getModifiedCaloriesPerUnit();
+
+    chicken.setCookingMethod("fried");
+    assertNotEquals(raw, chicken.getModifiedCaloriesPerUnit());
+    chicken.setCookingMethod("raw");
+    assertEquals(raw, chicken.getModifiedCaloriesPerUnit(), 0.0001);
+  }
+
+  /**
+   * Tests that calculators and ingredients share one table instead of reparsing the file,
+   * and that both apply the same modifier.
+   */
+  @Test
+  void testCalculatorAndIngredientShareOneTable() {
+    CalorieModifierTable table = CalorieModifierTable.getInstance();
+    int loads = CalorieModifierTable.getLoadCount();
+
+    Ingredient chicken = new Ingredient("Chicken Breast", 100, "g", 165, 4.29, "meat", "grilled", "Chicken", 4.29);
+    Map<String, Map<String, NutritionInfo>> nutrition = Map.of("meat",
+        Map.of("chicken breast", new NutritionInfo(31.0, 3.6, 0.0, 0.0, 0.0, 74.0)));
+    for (int i = 0; i < 20; i++) {
+      new NutritionCalculator(nutrition);
+      chicken.getModifiedCaloriesPerUnit();
+    }
+    ResolvedIngredient resolved = new NutritionCalculator(nutrition).resolve(chicken);
+
+    assertEquals(loads, CalorieModifierTable.getLoadCount());
+    assertSame(table, CalorieModifierTable.getInstance());
+    assertEquals(table.modifierFor("Chicken Breast", "meat", "grilled"), resolved.getCookingModifier(), 0.0001);
+    assertEquals(165 * resolved.getCookingModifier(), chicken.getModifiedCaloriesPerUnit(), 0.0001);
+  }
+}
@@ -0,0 +1,82 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CatalogLoader class.
+ */
+class CatalogLoaderTest {
+
+  @TempDir
+  Path tempDir;
+
+  /**
+   * Tests that a concurrent load returns the same data as reading each file directly.
+   */
+  @Test
+  void testLoadMatchesSequentialRead() throws IOException {
+    Path dataDir = Paths.get("src", "ingredientsSource");
+    Catalog catalog = new CatalogLoader(2).load(dataDir);
+
+    List<Recipe> recipes = JSONParser.readRecipesFromFile(dataDir.resolve("recipes.json").toString());
+    assertEquals(recipes.size(), catalog.getRecipes().size());
+    assertEquals(recipes.get(0).getName(), catalog.getRecipes().get(0).getName());
+
+    List<Ingredient> meat = JSONParser.readIngredientsFromFile(dataDir.resolve("meat.json").toString());
+    assertEquals(meat.size(), catalog.getIngredientsByCategory().get("meat").size());
+    assertEquals(5, catalog.getIngredientsByCategory().size());
+    assertFalse(catalog.getNutritionData().isEmpty());
+    assertTrue(catalog.getCalorieModifiers().containsKey("default"));
+  }
+
+  /**
+   * Tests that a single-threaded load completes, with recipe nutrition left for first use.
+   */
+  @Test
+  void testSingleThreadLoadCompletes() throws IOException {
+    Catalog catalog = new CatalogLoader(1).load(Paths.get("src", "ingredientsSource"));
+
+    assertFalse(catalog.getRecipes().isEmpty());
+    assertTrue(catalog.getNutritionDatabase().size() > 0);
+    Recipe recipe = catalog.getRecipes().get(0);
+    assertFalse(recipe.isNutritionCalculated());
+    assertTrue(recipe.getCalories() > 0);
+  }
+
+  /**
+   * Tests that loading the category files alone returns every category.
+   */
+  @Test
+  void testLoadIngredients() throws IOException {
+    Map<String, List<Ingredient>> ingredients =
+        new CatalogLoader().loadIngredients(Paths.get("src", "ingredientsSource"));
+
+    assertEquals(Ingredient.getAllCategories(), List.copyOf(ingredients.keySet()));
+  }
+
+  /**
+   * Tests that a missing file fails the whole load.
+   */
+  @Test
+  void testMissingFileFailsLoad() {
+    Exception exception = assertThrows(IOException.class, () -> new CatalogLoader().load(tempDir));
+    assertNotNull(exception.getMessage());
+  }
+
+  /**
+   * Tests validation of the thread count.
+   */
+  @Test
+  void testInvalidThreadCount() {
+    assertThrows(IllegalArgumentException.class, () -> new CatalogLoader(0));
+  }
+}
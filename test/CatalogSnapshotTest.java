@@ -0,0 +1,143 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CatalogSnapshot class.
+ */
+class CatalogSnapshotTest {
+
+  @TempDir
+  Path tempDir;
+
+  private Catalog catalog;
+
+  @BeforeEach
+  void setUp() {
+    List<Ingredient> ingredients = new ArrayList<>();
+    ingredients.add(new Ingredient("TestChicken", 200, "g", 165, 4.99,
+        "meat", "grilled", "Test chicken", 4.99));
+    ingredients.add(new Ingredient("TestBroccoli", 100, "g", 34, 2.49,
+        "vegetable", "steamed", null, 2.49));
+    Recipe recipe = new Recipe("Test Stir Fry", "savory", List.of("healthy", "quick"),
+        "asian", 25, ingredients, new NutritionInfo(40, 8, 12, 3, 2, 0.5));
+
+    Map<String, List<Ingredient>> categories = new HashMap<>();
+    categories.put("meat", List.of(ingredients.get(0)));
+
+    Map<String, Map<String, NutritionInfo>> nutritionData = new HashMap<>();
+    Map<String, NutritionInfo> meat = new HashMap<>();
+    meat.put("Chicken Breast", new NutritionInfo(31, 3.6, 0, 0, 0, 0.07));
+    nutritionData.put("meat", meat);
+
+    Map<String, Map<String, Map<String, Double>>> modifiers = new HashMap<>();
+    Map<String, Map<String, Double>> defaults = new HashMap<>();
+    defaults.put("default", Map.of("raw", 1.0, "fried", 1.5));
+    modifiers.put("default", defaults);
+
+    catalog = new Catalog(List.of(recipe), categories, nutritionData, modifiers);
+  }
+
+  /**
+   * Tests that a written snapshot reads back with the same contents.
+   */
+  @Test
+  void testRoundTrip() throws IOException {
+    Path file = tempDir.resolve("catalog.snapshot");
+    CatalogSnapshot.write(catalog, file, 1234L);
+
+    assertEquals(1234L, CatalogSnapshot.readSourceTimestamp(file));
+    Catalog restored = CatalogSnapshot.read(file);
+
+    Recipe recipe = restored.getRecipes().get(0);
+    assertEquals("Test Stir Fry", recipe.getName());
+    assertEquals(List.of("healthy", "quick"), recipe.getFlavorTags());
+    assertEquals(2, recipe.getIngredients().size());
+    assertNull(recipe.getIngredients().get(1).getDescription());
+    assertEquals(40, recipe.getNutritionInfo().getProtein(), 0.001);
+    assertEquals(catalog.getRecipes().get(0).getCalories(), recipe.getCalories());
+
+    assertEquals("TestChicken", restored.getIngredientsByCategory().get("meat").get(0).getName());
+    assertEquals(3.6, restored.getNutritionData().get("meat").get("Chicken Breast").getFat(), 0.001);
+    assertEquals(1.5, restored.getCalorieModifiers().get("default").get("default").get("fried"), 0.001);
+  }
+
+  /**
+   * Tests that a corrupted snapshot is rejected.
+   */
+  @Test
+  void testCorruptSnapshotRejected() throws IOException {
+    Path file = tempDir.resolve("catalog.snapshot");
+    CatalogSnapshot.write(catalog, file, 1234L);
+
+    byte[] bytes = Files.readAllBytes(file);
+    bytes[bytes.length - 20] ^= 0x01;
+    Files.write(file, bytes);
+
+    assertThrows(IOException.class, () -> CatalogSnapshot.read(file));
+  }
+
+  /**
+   * Tests that nutrients beyond the macronutrients survive a round trip.
+   */
+  @Test
+  void testExtraNutrientsRoundTrip() throws IOException {
+    Map<String, NutritionInfo> meat = new HashMap<>();
+    meat.put("Chicken Breast", new NutritionInfo(31, 3.6, 0, 0, 0, 0.07));
+    Map<String, Map<String, Double>> meatExtras = new HashMap<>();
+    meatExtras.put("Chicken Breast", Map.of("iron", 1.0, "vitamin_b6", 0.6));
+    NutritionDatabase database = NutritionDatabase.of(Map.of("meat", meat), Map.of("meat", meatExtras));
+    Catalog withExtras = new Catalog(catalog.getRecipes(), catalog.getIngredientsByCategory(),
+        database, catalog.getModifierTable());
+
+    Path file = tempDir.resolve("catalog.snapshot");
+    CatalogSnapshot.write(withExtras, file, 1234L);
+    NutritionDatabase restored = CatalogSnapshot.read(file).getNutritionDatabase();
+
+    assertEquals(database.getSchema().getKeys(), restored.getSchema().getKeys());
+    assertEquals(0.6, restored.getNutrient("chicken breast", "vitamin_b6"), 0.001);
+    assertEquals(31, restored.getNutrient("chicken breast", "protein"), 0.001);
+  }
+
+  /**
+   * Tests that loading reports whether the catalog was rebuilt from its sources.
+   */
+  @Test
+  void testLoadReportsRebuild() throws IOException {
+    Path dataDir = Path.of("src", "ingredientsSource");
+    Path file = tempDir.resolve("catalog.snapshot");
+    CatalogSnapshot.write(catalog, file, Long.MAX_VALUE);
+
+    CatalogSnapshot.Loaded loaded = CatalogSnapshot.load(dataDir, file);
+    assertFalse(loaded.isRebuilt());
+    assertEquals("Test Stir Fry", loaded.getCatalog().getRecipes().get(0).getName());
+
+    Files.write(file, new byte[] {0});
+    loaded = CatalogSnapshot.load(dataDir, file);
+    assertTrue(loaded.isRebuilt());
+    assertFalse(CatalogSnapshot.load(dataDir, file).isRebuilt());
+  }
+
+  /**
+   * Tests that a file without the snapshot header is rejected.
+   */
+  @Test
+  void testNonSnapshotFileRejected() throws IOException {
+    Path file = tempDir.resolve("not_a_snapshot.json");
+    Files.writeString(file, "[]");
+
+    assertThrows(IOException.class, () -> CatalogSnapshot.readSourceTimestamp(file));
+  }
+}
@@ -8,7 +8,10 @@ import filters.IRecipeFilter;
 import filters.TextSearchFilter;
 import filters.CuisineFilter;
 import filters.CalorieRangeFilter;
+import filters.IntRange;
 import filters.PrepTimeFilter;
+import filters.RecipeQuery;
+import filters.RecipeQueryEngine;
 
 /**
  * Integration test class for testing all filter implementations together.
@@ -90,6 +93,8 @@ public class FilterIntegrationTest {
         List<Recipe> filteredRecipes = applyAllFilters(recipes, filters, "", "italian", "All", "All");
         assertEquals(1, filteredRecipes.size(), "Should find only Italian recipes");
         assertEquals("Spaghetti Bolognese", filteredRecipes.get(0).getName());
+        assertTrue(applyAllFilters(recipes, filters, "", "ital", "All", "All").isEmpty(),
+            "Cuisine must match the whole name");
 
         // Test case 2: Only calorie range filter applied
         filteredRecipes = applyAllFilters(recipes, filters, "", "All", "0-300", "All");
@@ -102,6 +107,68 @@ public class FilterIntegrationTest {
         assertEquals("Spaghetti Bolognese", filteredRecipes.get(0).getName());
     }
 
+    @Test
+    public void testQueryEngineMatchesSeparateFilters() {
+        List<Recipe> recipes = createSampleRecipes();
+        List<IRecipeFilter> filters = new ArrayList<>();
+        filters.add(new TextSearchFilter());
+        filters.add(new CuisineFilter());
+        filters.add(new CalorieRangeFilter());
+        filters.add(new PrepTimeFilter());
+        RecipeQueryEngine engine = new RecipeQueryEngine(recipes);
+
+        String[][] criteria = {
+            {"chicken", "chinese", "0-300", "16-30 min"},
+            {"bolognese", "italian", "301-600", "31-45 min"},
+            {"", "All", "All", "All"},
+            {"BEEF", "All", "All", "All"},
+            {"", "italian", "0-300", "All"},
+            {"", "ital", "All", "All"},
+            {"", " Chinese ", "All", "All"},
+            {"ri", "All", "All", "46+ min"},
+            {null, null, "unknown", "16-30 min"}
+        };
+        for (String[] c : criteria) {
+            List<Recipe> expected = applyAllFilters(recipes, filters, c[0], c[1], c[2], c[3]);
+            RecipeQuery query = new RecipeQuery(c[0], c[1], c[2], c[3]);
+            assertEquals(expected, engine.run(query), query.toString());
+            assertEquals(expected, recipes.stream().filter(RecipeQueryEngine.compile(filters, query)).toList(),
+                query.toString());
+        }
+    }
+
+    @Test
+    public void testUnrestrictedCriteriaCompileToNothing() {
+        RecipeQuery query = RecipeQuery.all();
+        assertNull(new TextSearchFilter().compile(query));
+        assertNull(new CuisineFilter().compile(query));
+        assertNull(new CalorieRangeFilter().compile(new RecipeQuery(" ", "All", "All", "")));
+        assertNull(new PrepTimeFilter().compile(query));
+        IRecipeFilter custom = (recipe, value) -> false;
+        assertNull(custom.compile(new RecipeQuery("curry", "thai", "0-300", "16-30 min")));
+        assertEquals(2, new RecipeQueryEngine(createSampleRecipes()).run(query).size());
+    }
+
+    @Test
+    public void testTypedRanges() {
+        List<Recipe> recipes = createSampleRecipes();
+        RecipeQueryEngine engine = new RecipeQueryEngine(recipes);
+        int stirFryCalories = recipes.get(1).getCalories();
+
+        // Bounds outside the dropdown buckets
+        List<Recipe> filteredRecipes = engine.run(new RecipeQuery(null, null,
+            IntRange.of(stirFryCalories - 1, stirFryCalories + 1), IntRange.atMost(30)));
+        assertEquals(1, filteredRecipes.size());
+        assertEquals("Chicken Stir Fry", filteredRecipes.get(0).getName());
+
+        filteredRecipes = engine.run(new RecipeQuery("", "All", "All", "<= 29 min"));
+        assertTrue(filteredRecipes.isEmpty(), "No recipe is ready in under 30 minutes");
+
+        filteredRecipes = engine.run(new RecipeQuery(null, null, IntRange.all(), IntRange.of(31, 45)));
+        assertEquals("Spaghetti Bolognese", filteredRecipes.get(0).getName());
+        assertTrue(new PrepTimeFilter().matches(recipes.get(0), "40-50 min"));
+    }
+
     private List<Recipe> applyAllFilters(List<Recipe> recipes, List<IRecipeFilter> filters,
                                        String searchText, String cuisine, String calorieRange, String prepTimeRange) {
         List<Recipe> filteredRecipes = new ArrayList<>(recipes);
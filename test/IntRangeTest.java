@@ -0,0 +1,72 @@
+package filters;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the IntRange class.
+ */
+class IntRangeTest {
+
+  /**
+   * Tests that the dropdown buckets parse to the bounds the filters used to hard-code.
+   */
+  @Test
+  void testParseBuckets() {
+    assertEquals(IntRange.of(301, 600), IntRange.parse("301-600"));
+    assertEquals(IntRange.atLeast(901), IntRange.parse("901+"));
+    assertEquals(IntRange.of(16, 30), IntRange.parse("16-30 min"));
+    assertEquals(IntRange.atLeast(46), IntRange.parse("46+ min"));
+    assertTrue(IntRange.parse("All").isAll());
+    assertTrue(IntRange.parse("").isAll());
+    assertTrue(IntRange.parse(null).isAll());
+  }
+
+  /**
+   * Tests arbitrary bounds, comparisons and units.
+   */
+  @Test
+  void testParseArbitraryBounds() {
+    assertEquals(IntRange.of(250, 480), IntRange.parse("250 - 480 kcal"));
+    assertEquals(IntRange.of(250, 480), IntRange.parse("250\u2013480"));
+    assertEquals(IntRange.of(250, 480), IntRange.parse("250 to 480 calories"));
+    assertEquals(IntRange.of(250, 480), IntRange.parse("480-250"));
+    assertEquals(IntRange.atMost(20), IntRange.parse("<= 20 min"));
+    assertEquals(IntRange.atMost(20), IntRange.parse("\u2264 20"));
+    assertEquals(IntRange.atMost(19), IntRange.parse("< 20 minutes"));
+    assertEquals(IntRange.atLeast(21), IntRange.parse("> 20"));
+    assertEquals(IntRange.atLeast(20), IntRange.parse(">=20"));
+    assertEquals(IntRange.of(45, 45), IntRange.parse("45"));
+    assertEquals(IntRange.of(0, 0), IntRange.parse("< 1"));
+    assertEquals(IntRange.atLeast(Integer.MAX_VALUE), IntRange.parse("> " + (Integer.MAX_VALUE - 1)));
+  }
+
+  /**
+   * Tests that malformed text is rejected, or treated as every value when lenient.
+   */
+  @Test
+  void testInvalidRanges() {
+    assertThrows(IllegalArgumentException.class, () -> IntRange.parse("cheap"));
+    assertThrows(IllegalArgumentException.class, () -> IntRange.parse("< 0"));
+    assertThrows(IllegalArgumentException.class, () -> IntRange.parse("> " + Integer.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> IntRange.parse("99999999999+"));
+    assertThrows(IllegalArgumentException.class, () -> IntRange.of(5, 1));
+    assertTrue(IntRange.parseOrAll("cheap").isAll());
+  }
+
+  /**
+   * Tests containment and that toString round-trips through parse.
+   */
+  @Test
+  void testContainsAndToString() {
+    IntRange range = IntRange.of(250, 480);
+    assertTrue(range.contains(250));
+    assertTrue(range.contains(480));
+    assertFalse(range.contains(481));
+    assertFalse(IntRange.atMost(20).contains(-1));
+    for (IntRange r : new IntRange[] {range, IntRange.atLeast(901), IntRange.all()}) {
+      assertEquals(r, IntRange.parse(r.toString()));
+    }
+  }
+}
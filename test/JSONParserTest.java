@@ -4,12 +4,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -179,6 +185,26 @@ class JSONParserTest {
     assertNotNull(exception.getMessage());
   }
 
+  /**
+   * Tests that readMicroNutritionData collects nutrients beyond the macronutrients.
+   */
+  @Test
+  void testReadMicroNutritionDataWithExtraNutrients() throws IOException {
+    File file = tempDir.resolve("micro_nutrition.json").toFile();
+    try (FileWriter writer = new FileWriter(file)) {
+      writer.write("{\"fruit\": {\"Orange\": {\"protein\": 0.9, \"fat\": 0.1, "
+          + "\"carbohydrates\": 12, \"fiber\": 2.4, \"sugar\": 9, \"sodium\": 0, "
+          + "\"vitamin_c\": 53.2}}}");
+    }
+
+    Map<String, Map<String, Map<String, Double>>> extras = new HashMap<>();
+    Map<String, Map<String, NutritionInfo>> data =
+        JSONParser.readMicroNutritionData(file.getAbsolutePath(), extras);
+
+    assertEquals(0.9, data.get("fruit").get("Orange").getProtein(), 0.001);
+    assertEquals(Map.of("vitamin_c", 53.2), extras.get("fruit").get("Orange"));
+  }
+
   /**
    * Tests readRecipesFromFile method with valid file.
    */
@@ -293,4 +319,40 @@ class JSONParserTest {
       assertNotNull(e.getMessage());
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests streamRecipesFromFile yields the same recipes as readRecipesFromFile.
+   */
+  @Test
+  void testStreamRecipesFromFile() throws IOException {
+    try (Stream<Recipe> stream = JSONParser.streamRecipesFromFile(recipeFile.getAbsolutePath())) {
+      List<Recipe> recipes = stream.collect(Collectors.toList());
+      assertEquals(1, recipes.size());
+      assertEquals("Test Stir Fry", recipes.get(0).getName());
+    }
+  }
+
+  /**
+   * Tests that a recipe stream can stop early without reading the rest of the input.
+   */
+  @Test
+  void testStreamRecipesStopsEarly() {
+    String json = "[" +
+        "{\"name\": \"Pasta\", \"flavor\": \"savory\", \"flavorTags\": [\"rich\"], " +
+        "\"cuisine\": \"italian\", \"prepTime\": 20, \"ingredients\": []}," +
+        "{\"name\": \"Pizza\", \"flavor\": \"savory\", \"flavorTags\": [], " +
+        "\"cuisine\": \"italian\", \"prepTime\": 30, \"ingredients\": []}," +
+        "{ this part is never read";
+    InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+
+    try (Stream<Recipe> stream = JSONParser.streamRecipes(in)) {
+      List<Recipe> italian = stream
+          .filter(recipe -> recipe.getCuisine().equals("italian"))
+          .limit(2)
+          .collect(Collectors.toList());
+
+      assertEquals(2, italian.size());
+      assertEquals("Pizza", italian.get(1).getName());
+    }
+  }
+}
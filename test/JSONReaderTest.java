@@ -0,0 +1,75 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JSONReader class.
+ */
+class JSONReaderTest {
+
+  /**
+   * Tests the token sequence produced for a nested document.
+   */
+  @Test
+  void testTokenSequence() throws IOException {
+    JSONReader reader = new JSONReader(new StringReader(
+        "{\"name\": \"Tomato\", \"tags\": [1, 2.5, true, null]}"));
+
+    assertEquals(JSONReader.Token.START_OBJECT, reader.next());
+    assertEquals("name", reader.nextKey());
+    assertEquals(JSONReader.Token.STRING, reader.next());
+    assertEquals("Tomato", reader.getText());
+    assertEquals("tags", reader.nextKey());
+    assertEquals(JSONReader.Token.START_ARRAY, reader.next());
+    assertEquals(1.0, reader.nextDouble(), 0.001);
+    assertEquals(2.5, reader.nextDouble(), 0.001);
+    assertEquals("true", reader.nextScalar());
+    assertNull(reader.nextScalar());
+    assertEquals(JSONReader.Token.END_ARRAY, reader.next());
+    assertEquals(JSONReader.Token.END_OBJECT, reader.next());
+    assertEquals(JSONReader.Token.END_DOCUMENT, reader.next());
+  }
+
+  /**
+   * Tests that string escapes are decoded.
+   */
+  @Test
+  void testStringEscapes() throws IOException {
+    JSONReader reader = new JSONReader(new StringReader("[\"a\\\"b\\\\c\\u0041\"]"));
+
+    reader.expect(JSONReader.Token.START_ARRAY);
+    assertEquals("a\"b\\cA", reader.nextScalar());
+  }
+
+  /**
+   * Tests that nested values can be skipped.
+   */
+  @Test
+  void testSkipValue() throws IOException {
+    JSONReader reader = new JSONReader(new StringReader("[{\"a\": [1, {\"b\": 2}]}, 3]"));
+
+    reader.expect(JSONReader.Token.START_ARRAY);
+    reader.skipValue();
+    assertEquals(3.0, reader.nextDouble(), 0.001);
+    assertFalse(reader.hasNext());
+  }
+
+  /**
+   * Tests that a trailing comma is reported as a syntax error.
+   */
+  @Test
+  void testTrailingCommaRejected() throws IOException {
+    JSONReader reader = new JSONReader(new StringReader("{\"raw\": 1.0,}"));
+
+    reader.expect(JSONReader.Token.START_OBJECT);
+    reader.nextKey();
+    reader.nextDouble();
+    Exception exception = assertThrows(IOException.class, reader::next);
+    assertNotNull(exception.getMessage());
+  }
+}
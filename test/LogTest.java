@@ -0,0 +1,94 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Log class.
+ */
+class LogTest {
+  private final Log.Level originalLevel = Log.getLevel();
+  private final PrintStream originalOut = System.out;
+
+  @AfterEach
+  void tearDown() {
+    Log.flush();
+    System.setOut(originalOut);
+    Log.setLevel(originalLevel);
+  }
+
+  /**
+   * Tests that disabled messages are never built.
+   */
+  @Test
+  void testDisabledSupplierIsNotInvoked() {
+    Log.setLevel(Log.Level.INFO);
+    AtomicInteger calls = new AtomicInteger();
+
+    Log.debug(() -> "expensive " + calls.incrementAndGet());
+
+    assertFalse(Log.isEnabled(Log.Level.DEBUG));
+    assertEquals(0, calls.get());
+  }
+
+  /**
+   * Tests that enabled messages are written once flushed.
+   */
+  @Test
+  void testEnabledMessagesAreWritten() {
+    ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    Log.flush();
+    System.setOut(new PrintStream(captured, true));
+    Log.setLevel(Log.Level.DEBUG);
+
+    Log.debug(() -> "debug line");
+    Log.info("info line");
+    Log.flush();
+
+    String output = captured.toString();
+    assertTrue(output.contains("debug line"));
+    assertTrue(output.contains("info line"));
+  }
+
+  /**
+   * Tests that an error's stack trace is written with its message.
+   */
+  @Test
+  void testErrorWithThrowableWritesStackTrace() {
+    ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    PrintStream originalErr = System.err;
+    Log.flush();
+    System.setErr(new PrintStream(captured, true));
+    try {
+      Log.setLevel(Log.Level.ERROR);
+
+      Log.error("read failed", new IllegalStateException("disk gone"));
+      Log.flush();
+    } finally {
+      System.setErr(originalErr);
+    }
+
+    String output = captured.toString();
+    assertTrue(output.contains("read failed"));
+    assertTrue(output.contains("java.lang.IllegalStateException: disk gone"));
+    assertTrue(output.contains("at model.LogTest"));
+  }
+
+  /**
+   * Tests that OFF disables every level.
+   */
+  @Test
+  void testOffDisablesEverything() {
+    Log.setLevel(Log.Level.OFF);
+
+    assertFalse(Log.isEnabled(Log.Level.ERROR));
+    assertFalse(Log.isEnabled(Log.Level.OFF));
+    assertThrows(IllegalArgumentException.class, () -> Log.setLevel(null));
+  }
+}
@@ -0,0 +1,64 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MappedFileReader class.
+ */
+class MappedFileReaderTest {
+
+  @TempDir
+  Path tempDir;
+
+  /**
+   * Tests that a UTF-8 byte order mark is detected and skipped.
+   */
+  @Test
+  void testSkipsUtf8ByteOrderMark() throws IOException {
+    Path file = tempDir.resolve("bom.json");
+    byte[] body = "[\"Crème brûlée\"]".getBytes(StandardCharsets.UTF_8);
+    byte[] bytes = new byte[body.length + 3];
+    bytes[0] = (byte) 0xEF;
+    bytes[1] = (byte) 0xBB;
+    bytes[2] = (byte) 0xBF;
+    System.arraycopy(body, 0, bytes, 3, body.length);
+    Files.write(file, bytes);
+
+    try (Reader reader = new MappedFileReader(file)) {
+      assertEquals("[\"Crème brûlée\"]", readAll(reader));
+    }
+  }
+
+  /**
+   * Tests that multi-byte characters split across mapping windows decode correctly.
+   */
+  @Test
+  void testCharactersSplitAcrossWindows() throws IOException {
+    Path file = tempDir.resolve("windows.json");
+    String content = "{\"name\": \"Jalapeño ñandú €uro\"}";
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+
+    try (Reader reader = new MappedFileReader(file, StandardCharsets.UTF_8, 5)) {
+      assertEquals(content, readAll(reader));
+    }
+  }
+
+  private String readAll(Reader reader) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    char[] chunk = new char[3];
+    int count;
+    while ((count = reader.read(chunk, 0, chunk.length)) != -1) {
+      sb.append(chunk, 0, count);
+    }
+    return sb.toString();
+  }
+}
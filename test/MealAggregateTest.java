@@ -0,0 +1,75 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MealAggregate class.
+ */
+class MealAggregateTest {
+
+  private static Recipe recipe(String name, String ingredient, double grams) {
+    List<Ingredient> ingredients = new ArrayList<>();
+    ingredients.add(new Ingredient(ingredient, grams, "g", 100, 1.0, "meat", "raw", ingredient, 1.0));
+    return new Recipe(name, "savory", List.of("protein"), "American", 20, ingredients);
+  }
+
+  /**
+   * Tests that totals follow adds and removes and match a full recalculation.
+   */
+  @Test
+  void testRunningTotals() {
+    MealAggregate meal = new MealAggregate();
+    Recipe chicken = recipe("Chicken", "Chicken Breast", 150);
+    Recipe salmon = recipe("Salmon", "Atlantic Salmon", 120);
+
+    assertTrue(meal.add(chicken));
+    assertTrue(meal.add(salmon));
+    assertFalse(meal.add(chicken));
+
+    NutritionInfo expected = chicken.getNutritionInfo().add(salmon.getNutritionInfo());
+    assertEquals(expected.getCalories(), meal.getCalories(), 0.0001);
+    assertEquals(expected.getProtein(), meal.get(NutritionAccumulator.PROTEIN), 0.0001);
+
+    assertTrue(meal.remove(chicken));
+    assertFalse(meal.remove(chicken));
+    assertEquals(salmon.getNutritionInfo().getFat(), meal.getTotals().getFat(), 0.0001);
+    assertEquals(List.of(salmon), meal.getRecipes());
+
+    meal.remove(salmon);
+    assertTrue(meal.isEmpty());
+    assertEquals(0.0, meal.getCalories(), 0.0);
+  }
+
+  /**
+   * Tests that listeners receive the changed recipe and its nutrition.
+   */
+  @Test
+  void testListenersReceiveDelta() {
+    MealAggregate meal = new MealAggregate();
+    Recipe chicken = recipe("Chicken", "Chicken Breast", 150);
+    List<String> events = new ArrayList<>();
+    meal.addListener(new MealAggregate.Listener() {
+      @Override
+      public void recipeAdded(Recipe recipe, NutritionInfo delta) {
+        events.add("+" + recipe.getName() + ":" + Math.round(delta.getCalories()));
+      }
+
+      @Override
+      public void recipeRemoved(Recipe recipe, NutritionInfo delta) {
+        events.add("-" + recipe.getName() + ":" + Math.round(delta.getCalories()));
+      }
+    });
+
+    meal.add(chicken);
+    meal.add(chicken);
+    meal.remove(chicken);
+
+    long calories = Math.round(chicken.getNutritionInfo().getCalories());
+    assertEquals(List.of("+Chicken:" + calories, "-Chicken:" + calories), events);
+  }
+}
@@ -0,0 +1,115 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NutrientColumns class.
+ */
+class NutrientColumnsTest {
+
+  private static NutrientColumns columns(int count) {
+    NutritionInfo[] rows = new NutritionInfo[count];
+    for (int i = 0; i < count; i++) {
+      rows[i] = new NutritionInfo(i, i * 0.5, 10, 1, 2, 100 + i);
+    }
+    rows[count - 1] = null;
+    return NutrientColumns.of(rows);
+  }
+
+  /**
+   * Tests plain and weighted sums against a simple loop, including the unrolled tail.
+   */
+  @Test
+  void testSums() {
+    NutrientColumns columns = columns(11);
+    double[] weights = new double[11];
+    double protein = 0.0;
+    double weighted = 0.0;
+    for (int i = 0; i < 10; i++) {
+      weights[i] = i % 3;
+      protein += i;
+      weighted += (100 + i) * weights[i];
+    }
+
+    assertEquals(protein, columns.sum(NutritionAccumulator.PROTEIN), 1e-9);
+    assertEquals(weighted, columns.weightedSum(NutritionAccumulator.SODIUM, weights), 1e-9);
+    assertEquals(0.0, columns.get(NutrientColumns.CALORIES, 10), 0.0);
+    assertThrows(IllegalArgumentException.class,
+        () -> columns.weightedSum(NutritionAccumulator.SODIUM, new double[3]));
+  }
+
+  /**
+   * Tests that selected rows add up like their nutrition records.
+   */
+  @Test
+  void testAccumulate() {
+    NutrientColumns columns = columns(5);
+    NutritionAccumulator totals = columns.accumulate(new int[] {1, 3}, new NutritionAccumulator());
+
+    NutritionInfo expected = new NutritionInfo(1, 0.5, 10, 1, 2, 101).add(new NutritionInfo(3, 1.5, 10, 1, 2, 103));
+    assertEquals(expected.getCalories(), totals.getCalories(), 1e-9);
+    assertEquals(expected.getSodium(), totals.get(NutritionAccumulator.SODIUM), 1e-9);
+  }
+
+  /**
+   * Tests range checks across a word boundary.
+   */
+  @Test
+  void testInRange() {
+    NutrientColumns columns = columns(130);
+    BitSet matches = columns.inRange(NutritionAccumulator.PROTEIN, 60, 70.5);
+
+    assertEquals(11, matches.cardinality());
+    assertEquals(60, matches.nextSetBit(0));
+    assertTrue(matches.get(64));
+    assertFalse(matches.get(71));
+  }
+
+  /**
+   * Tests that ranking puts the row nearest the targets first.
+   */
+  @Test
+  void testRankByDistance() {
+    NutrientColumns columns = columns(20);
+    double[] targets = new double[NutrientColumns.COLUMN_COUNT];
+    double[] weights = new double[NutrientColumns.COLUMN_COUNT];
+    targets[NutritionAccumulator.PROTEIN] = 7;
+    weights[NutritionAccumulator.PROTEIN] = 1;
+
+    int[] ranked = columns.rankByDistance(targets, weights, 3);
+
+    assertArrayEquals(new int[] {7, 6, 8}, ranked);
+    assertEquals(0.0, columns.distanceTo(targets, weights)[7], 0.0);
+  }
+
+  /**
+   * Tests ranking against a full stable sort, with ties kept in row order.
+   */
+  @Test
+  void testRankMatchesStableSort() {
+    NutritionInfo[] rows = new NutritionInfo[200];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = new NutritionInfo((i * 37) % 23, 0, 0, 0, 0, 0);
+    }
+    NutrientColumns columns = NutrientColumns.of(rows);
+    double[] targets = new double[NutrientColumns.COLUMN_COUNT];
+    double[] weights = new double[NutrientColumns.COLUMN_COUNT];
+    targets[NutritionAccumulator.PROTEIN] = 11;
+    weights[NutritionAccumulator.PROTEIN] = 1;
+    double[] scores = columns.distanceTo(targets, weights);
+
+    int[] expected = IntStream.range(0, rows.length).boxed()
+        .sorted(Comparator.comparingDouble(row -> scores[row]))
+        .mapToInt(Integer::intValue).toArray();
+    assertArrayEquals(expected, columns.rankByDistance(targets, weights, rows.length + 5));
+    assertArrayEquals(Arrays.copyOf(expected, 17), columns.rankByDistance(targets, weights, 17));
+    assertEquals(0, columns.rankByDistance(targets, weights, 0).length);
+  }
+}
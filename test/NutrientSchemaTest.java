@@ -0,0 +1,58 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NutrientSchema class and the nutrient columns of NutritionDatabase.
+ */
+class NutrientSchemaTest {
+
+  /**
+   * Tests that macronutrients keep the accumulator indexes and extra keys follow in order.
+   */
+  @Test
+  void testColumnOrder() {
+    NutrientSchema schema = NutrientSchema.of(List.of("vitamin_c", "iron", "protein", "calcium"));
+
+    assertEquals(9, schema.size());
+    assertEquals(NutritionAccumulator.PROTEIN, schema.indexOf("protein"));
+    assertEquals(NutritionAccumulator.SODIUM, schema.indexOf("sodium"));
+    assertEquals(List.of("calcium", "iron", "vitamin_c"), schema.getKeys().subList(6, 9));
+    assertEquals("iron", schema.keyAt(schema.indexOf("iron")));
+    assertEquals(-1, schema.indexOf("vitamin_k"));
+    assertSame(NutrientSchema.macros(), NutrientSchema.of(List.of()));
+    assertTrue(NutrientSchema.isMacronutrient("fiber"));
+    assertFalse(NutrientSchema.isMacronutrient("iron"));
+  }
+
+  /**
+   * Tests that a database answers any nutrient by ingredient name and by column.
+   */
+  @Test
+  void testDatabaseColumns() {
+    Map<String, NutritionInfo> fruit = new HashMap<>();
+    fruit.put("Orange", new NutritionInfo(0.9, 0.1, 12, 2.4, 9, 0));
+    fruit.put("Apple", new NutritionInfo(0.3, 0.2, 14, 2.4, 10, 0.001));
+    Map<String, Map<String, Double>> fruitExtras = new HashMap<>();
+    fruitExtras.put("Orange", Map.of("vitamin_c", 53.2, "calcium", 40.0));
+    NutritionDatabase database = NutritionDatabase.of(Map.of("fruit", fruit), Map.of("fruit", fruitExtras));
+
+    assertEquals(53.2, database.getNutrient("Fresh orange", "vitamin_c"), 0.001);
+    assertEquals(0.9, database.getNutrient("orange", "protein"), 0.001);
+    assertEquals(0.0, database.getNutrient("apple", "vitamin_c"), 0.001);
+    assertEquals(0.0, database.getNutrient("apple", "vitamin_k"), 0.001);
+    assertEquals(0.0, database.getNutrient("durian", "protein"), 0.001);
+
+    int column = database.getSchema().indexOf("calcium");
+    int food = database.foodIdOf("orange");
+    assertTrue(food >= 0);
+    assertEquals(40.0, database.getNutrient(column, food), 0.001);
+    assertEquals(-1, database.foodIdOf("durian"));
+  }
+}
@@ -0,0 +1,49 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NutritionAccumulator class.
+ */
+class NutritionAccumulatorTest {
+
+  /**
+   * Tests that accumulating matches folding with NutritionInfo.add.
+   */
+  @Test
+  void testAddMatchesFold() {
+    NutritionInfo first = new NutritionInfo(10, 5, 20, 2, 3, 100);
+    NutritionInfo second = new NutritionInfo(1.5, 0.5, 7, 1, 0, 40);
+    NutritionInfo folded = first.add(second);
+
+    NutritionInfo accumulated = new NutritionAccumulator().add(first).add(second).add((NutritionInfo) null)
+        .toNutritionInfo();
+
+    assertEquals(folded.getProtein(), accumulated.getProtein(), 0.0);
+    assertEquals(folded.getFat(), accumulated.getFat(), 0.0);
+    assertEquals(folded.getCarbohydrates(), accumulated.getCarbohydrates(), 0.0);
+    assertEquals(folded.getSodium(), accumulated.getSodium(), 0.0);
+    assertEquals(folded.getCalories(), accumulated.getCalories(), 0.0);
+  }
+
+  /**
+   * Tests per-100g accumulation, scaling and reset.
+   */
+  @Test
+  void testPer100gScaleAndReset() {
+    NutritionAccumulator totals = new NutritionAccumulator();
+    totals.addPer100g(new NutritionInfo(20, 10, 0, 0, 0, 50), 150, 1.0);
+
+    assertEquals(30.0, totals.get(NutritionAccumulator.PROTEIN), 0.0001);
+    assertEquals(15.0, totals.get(NutritionAccumulator.FAT), 0.0001);
+    assertEquals(30 * 4 + 15 * 9, totals.getCalories(), 0.0001);
+
+    totals.add(new NutritionAccumulator().add(new NutritionInfo(10, 0, 0, 0, 0, 0))).scale(0.5);
+    assertEquals(20.0, totals.get(NutritionAccumulator.PROTEIN), 0.0001);
+
+    totals.reset();
+    assertEquals(0.0, totals.getCalories(), 0.0);
+  }
+}
@@ -0,0 +1,82 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NutritionCache class.
+ */
+class NutritionCacheTest {
+
+  private static final NutritionDatabase DATABASE = NutritionDatabase.of(Map.of("meat",
+      Map.of("chicken breast", new NutritionInfo(31.0, 3.6, 0.0, 0.0, 0.0, 74.0))));
+
+  private static Recipe recipe(String name, double grams, String cookingMethod) {
+    List<Ingredient> ingredients = new ArrayList<>();
+    ingredients.add(new Ingredient("Chicken Breast", grams, "g", 165, 4.29, "meat", cookingMethod, "Chicken", 4.29));
+    return new Recipe(name, "savory", List.of("protein"), "American", 20, ingredients);
+  }
+
+  /**
+   * Tests that recipes with the same ingredients share one entry, whatever their names.
+   */
+  @Test
+  void testIdenticalIngredientsHit() {
+    NutritionCache cache = new NutritionCache(8);
+    NutritionCalculator calculator = new NutritionCalculator(DATABASE, CalorieModifierTable.getInstance(), cache);
+
+    NutritionInfo first = calculator.calculateNutritionForRecipe(recipe("Lunch", 150, "grilled"));
+    NutritionInfo second = calculator.calculateNutritionForRecipe(recipe("Dinner", 150, "grilled"));
+    calculator.calculateNutritionForRecipe(recipe("Lunch", 150, "fried"));
+    calculator.calculateNutritionForRecipe(recipe("Lunch", 200, "grilled"));
+
+    assertSame(first, second);
+    assertEquals(1, cache.getHits());
+    assertEquals(3, cache.getMisses());
+    assertEquals(3, cache.size());
+  }
+
+  /**
+   * Tests that results from different nutrition data are kept apart.
+   */
+  @Test
+  void testKeyIncludesDatabase() {
+    NutritionCache cache = new NutritionCache(8);
+    NutritionDatabase empty = NutritionDatabase.of(Map.of());
+    CalorieModifierTable table = CalorieModifierTable.getInstance();
+
+    NutritionInfo known = new NutritionCalculator(DATABASE, table, cache)
+        .calculateNutritionForRecipe(recipe("Lunch", 100, "raw"));
+    NutritionInfo unknown = new NutritionCalculator(empty, table, cache)
+        .calculateNutritionForRecipe(recipe("Lunch", 100, "raw"));
+
+    assertTrue(known.getProtein() > 0);
+    assertEquals(0.0, unknown.getProtein(), 0.0001);
+    assertEquals(0, cache.getHits());
+  }
+
+  /**
+   * Tests that the least recently used entry is evicted once the cache is full.
+   */
+  @Test
+  void testEvictsLeastRecentlyUsed() {
+    NutritionCache cache = new NutritionCache(2);
+    NutritionCalculator calculator = new NutritionCalculator(DATABASE, CalorieModifierTable.getInstance(), cache);
+
+    calculator.calculateNutritionForRecipe(recipe("A", 100, "raw"));
+    calculator.calculateNutritionForRecipe(recipe("B", 200, "raw"));
+    calculator.calculateNutritionForRecipe(recipe("A", 100, "raw"));
+    calculator.calculateNutritionForRecipe(recipe("C", 300, "raw"));
+    calculator.calculateNutritionForRecipe(recipe("A", 100, "raw"));
+
+    assertEquals(1, cache.getEvictions());
+    assertEquals(2, cache.getHits());
+    assertEquals(2, cache.size());
+    assertThrows(IllegalArgumentException.class, () -> new NutritionCache(0));
+  }
+}
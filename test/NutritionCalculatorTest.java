@@ -1,13 +1,26 @@
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import model.CalorieModifierTable;
+import model.NutrientColumns;
+import model.NutritionAccumulator;
+import model.NutritionCache;
 import model.NutritionCalculator;
+import model.NutritionDatabase;
 import model.NutritionInfo;
 import model.Recipe;
 import model.Ingredient;
+import model.ResolutionReport;
+import model.ResolvedIngredient;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Test class for NutritionCalculator.
@@ -99,6 +112,67 @@ public class NutritionCalculatorTest {
         assertEquals(0, info.getProtein(), 0.01, "Empty meal should have 0 protein");
     }
 
+    /**
+     * Tests that a meal sums each recipe's own nutrition when the recipe is calculated
+     * over the same data, and resolves recipes against the calculator's data otherwise.
+     */
+    @Test
+    public void testMealUsesThisCalculator() {
+        Map<String, Recipe> meals = new LinkedHashMap<>();
+        List<Ingredient> ingredients = new ArrayList<>();
+        ingredients.add(createIngredient("Chicken", 100, "g", "grilled"));
+        meals.put("Main Course", new Recipe("Main Course", "Savory", List.of("Savory"), "International", 30, ingredients));
+        ingredients = new ArrayList<>();
+        ingredients.add(createIngredient("Rice", 200, "g", "boiled"));
+        meals.put("Side Dish", new Recipe("Side Dish", "Simple", List.of("Simple"), "International", 20, ingredients));
+
+        NutritionInfo expected = new NutritionInfo(0, 0, 0, 0, 0, 0);
+        for (Recipe recipe : meals.values()) {
+            assertTrue(recipe.getCalories() > 0);
+            expected = expected.add(recipe.getNutritionInfo());
+        }
+        NutritionInfo info = calculator.calculateNutritionForMeal(meals);
+        assertEquals(expected.getProtein(), info.getProtein(), 1e-9);
+        assertEquals(expected.getCalories(), info.getCalories(), 1e-9);
+
+        NutritionCalculator withoutData = new NutritionCalculator(new HashMap<>());
+        assertEquals(0, withoutData.calculateNutritionForMeal(meals).getCalories(), 0.0,
+            "A calculator without nutrition data should not reuse the recipes' own results");
+    }
+
+    /**
+     * Tests that a meal adds the recipes' memoized nutrition without resolving them
+     * again or consulting the nutrition cache.
+     */
+    @Test
+    public void testMealFoldsMemoizedNutrition() {
+        List<Recipe> meal = new ArrayList<>();
+        for (String name : new String[] {"Chicken Breast", "Broccoli", "Atlantic Salmon"}) {
+            List<Ingredient> ingredients = new ArrayList<>();
+            ingredients.add(new Ingredient(name, 150, "g", 100, 1.99, "test", "raw", name, 1.99));
+            meal.add(new Recipe(name, "Savory", List.of("Savory"), "International", 20, ingredients));
+        }
+        List<List<ResolvedIngredient>> resolved = new ArrayList<>();
+        for (Recipe recipe : meal) {
+            assertTrue(recipe.getCalories() > 0);
+            resolved.add(recipe.getResolvedIngredients());
+        }
+
+        NutritionCache cache = new NutritionCache(16);
+        NutritionCalculator mealCalculator = new NutritionCalculator(NutritionDatabase.getInstance(),
+            CalorieModifierTable.getInstance(), cache);
+        NutritionAccumulator totals = new NutritionAccumulator();
+        mealCalculator.accumulateMeal(meal, totals);
+        mealCalculator.accumulateMeal(meal, totals.reset());
+
+        assertEquals(0, cache.getHits() + cache.getMisses(), "The meal should not build cache keys");
+        for (int i = 0; i < meal.size(); i++) {
+            assertSame(resolved.get(i), meal.get(i).getResolvedIngredients());
+        }
+        double calories = meal.stream().mapToDouble(recipe -> recipe.getNutritionInfo().getCalories()).sum();
+        assertEquals(calories, totals.getCalories(), 1e-9);
+    }
+
     /**
      * Helper method to create an Ingredient object for testing.
      */
@@ -195,11 +269,11 @@ public class NutritionCalculatorTest {
         Recipe recipe = new Recipe("Grilled Chicken and Steamed Broccoli", "savory", List.of("healthy", "protein"), "American", 30, ingredients);
         NutritionInfo result = calculator.calculateNutritionForRecipe(recipe);
         
-        // Calculate expected values based on actual nutrition calculator output
-        double expectedCalories = 176.55;  // 156.40 (Chicken) + 40.30 (Broccoli) * 0.5
-        double expectedProtein = 32.40;    // 31.00 (Chicken) + 2.80 (Broccoli) * 0.5
-        double expectedFat = 3.75;         // 3.60 (Chicken) + 0.30 (Broccoli) * 0.5
-        double expectedCarbs = 3.30;       // 0.00 (Chicken) + 6.60 (Broccoli) * 0.5
+        // Grilled chicken breast uses a 1.2 modifier and steamed broccoli 0.85 (CalorieModifier.json)
+        double expectedCalories = 204.81;  // (38.39 protein + 2.805 carbs) * 4 + 4.4475 fat * 9
+        double expectedProtein = 38.39;    // 31.00 (Chicken) * 1.2 + 2.80 (Broccoli) * 0.5 * 0.85
+        double expectedFat = 4.45;         // 3.60 (Chicken) * 1.2 + 0.30 (Broccoli) * 0.5 * 0.85
+        double expectedCarbs = 2.81;       // 0.00 (Chicken) * 1.2 + 6.60 (Broccoli) * 0.5 * 0.85
         
         System.out.println("Expected Calories: " + expectedCalories);
         System.out.println("Actual Calories: " + result.getCalories());
@@ -246,4 +320,131 @@ public class NutritionCalculatorTest {
         assertEquals(expectedFat, result.getFat(), 0.01, "Fat calculation is incorrect");
         assertEquals(expectedCarbs, result.getCarbohydrates(), 0.01, "Carbohydrates calculation is incorrect");
     }
-} 
\ No newline at end of file
+
+    /**
+     * Tests that summing resolved ingredients matches the full calculation, and scales linearly.
+     */
+    @Test
+    public void testCalculateNutrition_FromResolvedIngredients() {
+        List<Ingredient> ingredients = new ArrayList<>();
+        ingredients.add(new Ingredient("Chicken Breast", 100, "g", 165, 4.29, "meat", "raw", "Chicken breast", 4.29));
+        ingredients.add(new Ingredient("Olive Oil", 1, "tablespoon", 119, 0.3, "seasoning", "raw", "Olive oil", 0.3));
+        ingredients.add(new Ingredient("Dragon Scale", 10, "g", 1, 1.0, "test", "raw", "Unknown", 1.0));
+        Recipe recipe = new Recipe("Resolved Chicken", "savory", List.of("protein"), "American", 20, ingredients);
+
+        List<ResolvedIngredient> resolved = calculator.resolve(recipe);
+        assertEquals(3, resolved.size());
+        assertEquals(15.0, resolved.get(1).getGrams(), 0.0001);
+        assertFalse(resolved.get(2).isResolved());
+
+        NutritionInfo full = calculator.calculateNutritionForRecipe(recipe);
+        NutritionInfo summed = calculator.calculateNutrition(resolved);
+        NutritionInfo doubled = calculator.calculateNutrition(resolved, 2.0);
+        assertEquals(full.getCalories(), summed.getCalories(), 0.0001);
+        assertEquals(full.getCalories(), recipe.getNutritionInfo().getCalories(), 0.0001);
+        assertEquals(full.getProtein() * 2, doubled.getProtein(), 0.0001);
+    }
+
+    /**
+     * Tests that the resolution report lists names without a nutrition entry.
+     */
+    @Test
+    public void testBuildResolutionReport() {
+        List<Ingredient> ingredients = new ArrayList<>();
+        ingredients.add(new Ingredient("Chicken Breast", 100, "g", 165, 4.29, "meat", "raw", "Chicken breast", 4.29));
+        ingredients.add(new Ingredient("Dragon Scale", 10, "g", 1, 1.0, "test", "raw", "Unknown", 1.0));
+        Recipe recipe = new Recipe("Dragon Stew", "savory", List.of("fantasy"), "Mythical", 60, ingredients);
+
+        ResolutionReport report = calculator.buildResolutionReport(List.of(recipe));
+
+        assertEquals(List.of("Dragon Scale"), report.getUnresolvedNames());
+        assertFalse(report.isEmpty());
+        assertTrue(report.toString().contains("Dragon Scale (used in: Dragon Stew)"));
+    }
+
+    private List<Recipe> sampleRecipes(int count) {
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<Ingredient> ingredients = new ArrayList<>();
+            ingredients.add(new Ingredient("Chicken Breast", 50 + i, "g", 165, 4.29, "meat", i % 2 == 0 ? "grilled" : "raw", "Chicken breast", 4.29));
+            ingredients.add(new Ingredient("Broccoli", 100, "g", 34, 2.49, "vegetable", "steamed", "Broccoli", 2.49));
+            recipes.add(new Recipe("Recipe " + i, "savory", List.of("healthy"), "American", 20, ingredients));
+        }
+        return recipes;
+    }
+
+    /**
+     * Tests that the parallel batch matches per-recipe results, in order.
+     */
+    @Test
+    public void testCalculateAll() {
+        List<Recipe> recipes = sampleRecipes(100);
+        recipes.add(null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            NutrientColumns results = calculator.calculateAll(recipes, pool);
+
+            assertEquals(recipes.size(), results.size());
+            for (int i = 0; i < 100; i++) {
+                NutritionInfo expected = recipes.get(i).getNutritionInfo();
+                assertEquals(expected.getCalories(), results.get(NutrientColumns.CALORIES, i), 0.0001);
+                assertEquals(expected.getSodium(), results.get(NutritionAccumulator.SODIUM, i), 0.0001);
+            }
+            assertEquals(0.0, results.get(NutrientColumns.CALORIES, 100), 0.0001);
+
+            // Calculated recipes contribute their memoized nutrition without a cache lookup
+            NutritionCache cache = new NutritionCache(16);
+            NutritionCalculator batchCalculator = new NutritionCalculator(NutritionDatabase.getInstance(),
+                CalorieModifierTable.getInstance(), cache);
+            NutrientColumns again = batchCalculator.calculateAll(recipes.subList(0, 100), pool);
+            assertEquals(0, cache.getHits() + cache.getMisses());
+            assertEquals(results.sum(NutrientColumns.CALORIES), again.sum(NutrientColumns.CALORIES), 0.0001);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that the publisher streams every recipe, in order, then completes.
+     */
+    @Test
+    public void testPublishAll() throws InterruptedException {
+        List<Recipe> recipes = sampleRecipes(40);
+        List<Map.Entry<Recipe, NutritionInfo>> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        calculator.publishAll(recipes).subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Map.Entry<Recipe, NutritionInfo> item) {
+                received.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(40, received.size());
+        for (int i = 0; i < 40; i++) {
+            assertSame(recipes.get(i), received.get(i).getKey());
+            assertEquals(recipes.get(i).getNutritionInfo().getCalories(),
+                received.get(i).getValue().getCalories(), 0.0001);
+        }
+    }
+}
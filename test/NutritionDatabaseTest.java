@@ -0,0 +1,70 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NutritionDatabase class.
+ */
+class NutritionDatabaseTest {
+
+  /**
+   * Tests that loading a file counts as one load and exposes immutable tables.
+   */
+  @Test
+  void testLoadCountsAndIsImmutable() throws IOException {
+    Path file = Paths.get("src", "ingredientsSource", "micro_nutrition.json");
+    int before = NutritionDatabase.getLoadCount();
+    NutritionDatabase database = NutritionDatabase.load(file);
+
+    assertEquals(before + 1, NutritionDatabase.getLoadCount());
+    assertTrue(database.size() > 0);
+    Map<String, Map<String, NutritionInfo>> data = database.getNutritionData();
+    assertThrows(UnsupportedOperationException.class, () -> data.clear());
+    String category = data.keySet().iterator().next();
+    assertThrows(UnsupportedOperationException.class, () -> data.get(category).clear());
+  }
+
+  /**
+   * Tests that creating many recipes does not reload the nutrition file.
+   */
+  @Test
+  void testRecipesShareOneDatabase() {
+    NutritionDatabase.getInstance();
+    int loads = NutritionDatabase.getLoadCount();
+
+    List<Recipe> recipes = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      List<Ingredient> ingredients = new ArrayList<>();
+      ingredients.add(new Ingredient("Chicken Breast", 100, "g", 165, 4.99,
+          "meat", "grilled", null, 4.99));
+      recipes.add(new Recipe("Recipe " + i, "savory", Collections.singletonList("savory"),
+          "American", 10, ingredients));
+    }
+
+    assertEquals(50, recipes.size());
+    assertEquals(loads, NutritionDatabase.getLoadCount());
+  }
+
+  /**
+   * Tests that wrapping already loaded data does not count as a load.
+   */
+  @Test
+  void testOfDoesNotCountAsLoad() {
+    int loads = NutritionDatabase.getLoadCount();
+    NutritionDatabase database = NutritionDatabase.of(Collections.emptyMap());
+
+    assertEquals(0, database.size());
+    assertEquals(loads, NutritionDatabase.getLoadCount());
+    assertThrows(IllegalArgumentException.class, () -> NutritionDatabase.of(null));
+  }
+}
@@ -0,0 +1,68 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NutritionIndex class.
+ */
+class NutritionIndexTest {
+  private NutritionInfo chicken;
+  private NutritionInfo chickenBreast;
+  private NutritionInfo rice;
+  private NutritionIndex index;
+
+  @BeforeEach
+  void setUp() {
+    chicken = new NutritionInfo(27, 14, 0, 0, 0, 82);
+    chickenBreast = new NutritionInfo(31, 3.6, 0, 0, 0, 74);
+    rice = new NutritionInfo(2.7, 0.3, 28, 0.4, 0.1, 1);
+
+    Map<String, NutritionInfo> meat = new LinkedHashMap<>();
+    meat.put("Chicken", chicken);
+    meat.put("Chicken Breast", chickenBreast);
+    Map<String, NutritionInfo> grains = new LinkedHashMap<>();
+    grains.put("White Rice", rice);
+    Map<String, Map<String, NutritionInfo>> data = new LinkedHashMap<>();
+    data.put("meat", meat);
+    data.put("grains", grains);
+    index = new NutritionIndex(data);
+  }
+
+  /**
+   * Tests that an exact match wins over an earlier substring match.
+   */
+  @Test
+  void testExactMatch() {
+    assertSame(chickenBreast, index.lookup("  CHICKEN breast "));
+    assertSame(chicken, index.lookup("chicken"));
+  }
+
+  /**
+   * Tests that names contained in a key, and keys contained in a name, both match.
+   */
+  @Test
+  void testSubstringMatchInBothDirections() {
+    assertSame(rice, index.lookup("rice"));
+    assertSame(rice, index.lookup("Steamed White Rice"));
+    assertSame(chicken, index.lookup("Grilled Chicken Thigh"));
+    assertSame(chickenBreast, index.lookup("breast"));
+  }
+
+  /**
+   * Tests that misses return null consistently and blank names are ignored.
+   */
+  @Test
+  void testMisses() {
+    assertNull(index.lookup("Tofu"));
+    assertNull(index.lookup("Tofu"));
+    assertNull(index.lookup(" "));
+    assertNull(index.lookup(null));
+    assertEquals(3, index.size());
+  }
+}
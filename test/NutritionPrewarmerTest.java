@@ -0,0 +1,116 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NutritionPrewarmer class and lazy recipe nutrition.
+ */
+class NutritionPrewarmerTest {
+
+  private static Recipe recipe(String name, double grams) {
+    List<Ingredient> ingredients = new ArrayList<>();
+    ingredients.add(new Ingredient("Chicken Breast", grams, "g", 165, 4.29, "meat", "grilled", "Chicken", 4.29));
+    return new Recipe(name, "savory", List.of("protein"), "American", 20, ingredients);
+  }
+
+  /**
+   * Tests that nutrition is calculated on first use rather than in the constructor.
+   */
+  @Test
+  void testNutritionIsLazy() {
+    Recipe recipe = recipe("Lazy Chicken", 120);
+
+    assertFalse(recipe.isNutritionCalculated());
+    assertTrue(recipe.getCalories() > 0);
+    assertTrue(recipe.isNutritionCalculated());
+  }
+
+  /**
+   * Tests that concurrent first calls all see the same calculated nutrition.
+   */
+  @Test
+  void testConcurrentFirstUseCalculatesOnce() throws Exception {
+    Recipe recipe = recipe("Shared Chicken", 130);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<NutritionInfo>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(recipe::getNutritionInfo));
+      }
+      for (Future<NutritionInfo> result : results) {
+        assertSame(recipe.getNutritionInfo(), result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that the latest request is calculated first, each request in list order.
+   */
+  @Test
+  void testLatestRequestRunsFirst() {
+    List<Runnable> submitted = new ArrayList<>();
+    List<String> calculated = new ArrayList<>();
+    NutritionPrewarmer prewarmer = new NutritionPrewarmer(submitted::add);
+    List<Recipe> first = List.of(recording("A", calculated), recording("B", calculated));
+    List<Recipe> second = List.of(recording("C", calculated), recording("D", calculated));
+
+    prewarmer.prewarm(first);
+    prewarmer.prewarm(second);
+    assertEquals(4, prewarmer.getPending());
+    assertEquals(1, submitted.size());
+
+    submitted.get(0).run();
+    assertEquals(List.of("C", "D", "A", "B"), calculated);
+    assertEquals(0, prewarmer.getPending());
+
+    prewarmer.prewarm(first);
+    assertEquals(0, prewarmer.getPending());
+  }
+
+  /**
+   * Tests that a recipe requested again is moved to its new place, not queued twice.
+   */
+  @Test
+  void testRequeuedRecipeIsCalculatedOnce() {
+    List<Runnable> submitted = new ArrayList<>();
+    List<String> calculated = new ArrayList<>();
+    NutritionPrewarmer prewarmer = new NutritionPrewarmer(submitted::add);
+    Recipe a = recording("A", calculated);
+    Recipe b = recording("B", calculated);
+    Recipe c = recording("C", calculated);
+
+    for (int i = 0; i < 10; i++) {
+      prewarmer.prewarm(List.of(a, b));
+    }
+    prewarmer.prewarm(List.of(b, c));
+    assertEquals(3, prewarmer.getPending());
+
+    submitted.get(0).run();
+    assertEquals(List.of("B", "C", "A"), calculated);
+    assertEquals(0, prewarmer.getPending());
+  }
+
+  private static Recipe recording(String name, List<String> calculated) {
+    List<Ingredient> ingredients = new ArrayList<>();
+    ingredients.add(new Ingredient("Broccoli", 100, "g", 34, 2.49, "vegetable", "steamed", "Broccoli", 2.49));
+    return new Recipe(name, "savory", List.of("healthy"), "American", 20, ingredients) {
+      @Override
+      public NutritionInfo getNutritionInfo() {
+        if (!isNutritionCalculated()) {
+          calculated.add(getName());
+        }
+        return super.getNutritionInfo();
+      }
+    };
+  }
+}
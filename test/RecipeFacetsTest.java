@@ -0,0 +1,127 @@
+package filters;
+
+import model.Ingredient;
+import model.Recipe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RecipeFacets class.
+ */
+class RecipeFacetsTest {
+  private List<Recipe> recipes;
+  private RecipeFacets facets;
+
+  @BeforeEach
+  void setUp() {
+    recipes = new ArrayList<>();
+    recipes.add(recipe("Pasta", "Italian", 20, List.of("rich", "savory")));
+    recipes.add(recipe("Pizza", "italian ", 40, List.of("savory")));
+    recipes.add(recipe("Fried Rice", "Chinese", 15, List.of("savory", "quick")));
+    recipes.add(recipe("Dumplings", "Chinese", 50, List.of("rich")));
+    recipes.add(recipe("Tacos", "Mexican", 25, List.of("spicy", "quick")));
+    facets = RecipeFacets.of(RecipeRangeIndex.of(recipes));
+  }
+
+  /**
+   * Tests that values within a facet are ORed and facets are ANDed.
+   */
+  @Test
+  void testQueryCombinesFacets() {
+    RecipeFacets.Result result = facets.query(Map.of(
+        RecipeFacets.Facet.CUISINE, List.of("Italian", "Mexican"),
+        RecipeFacets.Facet.FLAVOR_TAG, List.of("savory", "spicy")));
+    assertEquals(bits(0, 1, 4), result.getMatches());
+    assertEquals(3, result.getCount());
+
+    result = facets.query(Map.of(RecipeFacets.Facet.PREP_TIME, List.of("16-30 min")));
+    assertEquals(bits(0, 4), result.getMatches());
+
+    result = facets.query(Map.of(RecipeFacets.Facet.CUISINE, List.of("thai")));
+    assertEquals(0, result.getCount());
+  }
+
+  /**
+   * Tests that each facet is counted against the other facets' selections only.
+   */
+  @Test
+  void testCountsExcludeOwnSelection() {
+    RecipeFacets.Result result = facets.query(Map.of(
+        RecipeFacets.Facet.CUISINE, List.of("chinese"),
+        RecipeFacets.Facet.FLAVOR_TAG, List.of("quick")));
+    assertEquals(bits(2), result.getMatches());
+
+    Map<String, Integer> cuisines = result.getCounts(RecipeFacets.Facet.CUISINE);
+    assertEquals(List.of("chinese", "italian", "mexican"), List.copyOf(cuisines.keySet()));
+    assertEquals(Map.of("chinese", 1, "italian", 0, "mexican", 1), cuisines);
+    assertEquals(1, result.getCounts(RecipeFacets.Facet.FLAVOR_TAG).get("quick"));
+    assertEquals(1, result.getCounts(RecipeFacets.Facet.FLAVOR_TAG).get("rich"));
+    assertEquals(0, result.getCounts(RecipeFacets.Facet.FLAVOR_TAG).get("spicy"));
+    assertEquals(1, result.getCounts(RecipeFacets.Facet.PREP_TIME).get("0-15"));
+  }
+
+  /**
+   * Tests counting within a subset, such as text search matches, and bucket names.
+   */
+  @Test
+  void testCountWithin() {
+    assertEquals(List.of("0-15", "16-30", "31-45", "46+"), facets.getValues(RecipeFacets.Facet.PREP_TIME));
+    assertEquals(Map.of("chinese", 2, "italian", 2, "mexican", 1), facets.count(RecipeFacets.Facet.CUISINE, null));
+    assertEquals(1, facets.count(RecipeFacets.Facet.CUISINE, bits(0, 3)).get("italian"));
+    assertEquals("46+", RecipeFacets.keyOf(RecipeFacets.Facet.PREP_TIME, "46+ min"));
+    assertEquals(bits(3), facets.get(RecipeFacets.Facet.PREP_TIME, "46+ min"));
+  }
+
+  /**
+   * Tests that the engine's facet counts follow its query criteria.
+   */
+  @Test
+  void testEngineFacetCounts() {
+    RecipeQueryEngine engine = new RecipeQueryEngine(recipes);
+    Map<RecipeFacets.Facet, Map<String, Integer>> counts =
+        engine.facetCounts(new RecipeQuery("", "Chinese", "All", "0-15 min"));
+    assertEquals(1, counts.get(RecipeFacets.Facet.CUISINE).get("chinese"));
+    assertEquals(0, counts.get(RecipeFacets.Facet.CUISINE).get("italian"));
+    assertEquals(1, counts.get(RecipeFacets.Facet.PREP_TIME).get("46+"));
+    assertEquals(bits(2), engine.matching(new RecipeQuery("", "Chinese", "All", "0-15 min")));
+  }
+
+  /**
+   * Tests that engine counts take the text search and any range, and that the
+   * cuisine selection matches whole cuisines like the cuisine facet.
+   */
+  @Test
+  void testEngineCountsWithinTextAndTypedRanges() {
+    RecipeQueryEngine engine = new RecipeQueryEngine(recipes);
+    RecipeQuery query = new RecipeQuery("ta", "italian", IntRange.all(), IntRange.of(10, 45));
+    Map<RecipeFacets.Facet, Map<String, Integer>> counts = engine.facetCounts(query);
+    assertEquals(bits(0, 1), engine.matching(query));
+    assertEquals(Map.of("chinese", 0, "italian", 2, "mexican", 1), counts.get(RecipeFacets.Facet.CUISINE));
+    assertEquals(1, counts.get(RecipeFacets.Facet.PREP_TIME).get("31-45"));
+    assertEquals(1, counts.get(RecipeFacets.Facet.FLAVOR_TAG).get("rich"));
+
+    assertEquals(0, engine.matching(new RecipeQuery("", "ital", "All", "All")).cardinality());
+    assertEquals(bits(2, 3), facets.queryIds(Map.of(RecipeFacets.Facet.CUISINE, bits(2, 3)), null).getMatches());
+  }
+
+  private static BitSet bits(int... ids) {
+    BitSet bits = new BitSet();
+    for (int id : ids) {
+      bits.set(id);
+    }
+    return bits;
+  }
+
+  private static Recipe recipe(String name, String cuisine, int prepTime, List<String> tags) {
+    List<Ingredient> ingredients = new ArrayList<>();
+    ingredients.add(new Ingredient("Broccoli", 100, "g", 34, 1.0, "vegetable", null, 1.0));
+    return new Recipe(name, "savory", tags, cuisine, prepTime, ingredients);
+  }
+}
@@ -0,0 +1,128 @@
+package filters;
+
+import model.Ingredient;
+import model.Recipe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RecipeRangeIndex class.
+ */
+class RecipeRangeIndexTest {
+  private List<Recipe> recipes;
+
+  @BeforeEach
+  void setUp() {
+    recipes = new ArrayList<>();
+    String[] names = {"Chicken Breast", "Broccoli", "Ground Beef (80/20)", "Apple", "Cheddar Cheese"};
+    for (int i = 0; i < 20; i++) {
+      List<Ingredient> ingredients = new ArrayList<>();
+      ingredients.add(new Ingredient(names[i % names.length], 50 + 25 * (i % 7), "g", 100 + 20 * (i % 5),
+          1.0 + (i % 3), "meat", null, 1.0 + (i % 3)));
+      recipes.add(new Recipe("Recipe " + i, "savory", List.of("quick"), "test", 5 + 5 * (i % 9), ingredients));
+    }
+  }
+
+  /**
+   * Tests that every attribute answers range queries exactly as a scan would.
+   */
+  @Test
+  void testRangesAgreeWithScan() {
+    RecipeRangeIndex index = RecipeRangeIndex.of(recipes);
+    assertEquals(recipes.size(), index.size());
+    for (RecipeRangeIndex.Attribute attribute : RecipeRangeIndex.Attribute.values()) {
+      double[] sorted = recipes.stream().mapToDouble(attribute::valueOf).sorted().toArray();
+      double min = sorted[4];
+      double max = sorted[13];
+      assertRangeMatchesScan(index, attribute, min, max);
+      assertRangeMatchesScan(index, attribute, max, min);
+      assertRangeMatchesScan(index, attribute, sorted[0], sorted[sorted.length - 1]);
+    }
+  }
+
+  /**
+   * Tests that ids come back in ascending order of the attribute.
+   */
+  @Test
+  void testIdsSortedByValue() {
+    RecipeRangeIndex index = RecipeRangeIndex.of(recipes);
+    int[] ids = index.idsInRange(RecipeRangeIndex.Attribute.PREP_TIME, 10, 30);
+    for (int i = 1; i < ids.length; i++) {
+      assertTrue(index.get(ids[i - 1]).getPrepTime() <= index.get(ids[i]).getPrepTime());
+      if (index.get(ids[i - 1]).getPrepTime() == index.get(ids[i]).getPrepTime()) {
+        assertTrue(ids[i - 1] < ids[i], "Equal values keep id order");
+      }
+    }
+    assertEquals(index.count(RecipeRangeIndex.Attribute.PREP_TIME, 10, 30), ids.length);
+    assertEquals(ids.length, index.matching(RecipeRangeIndex.Attribute.PREP_TIME, IntRange.of(10, 30)).cardinality());
+  }
+
+  /**
+   * Tests that incremental additions and removals give the same index as a rebuild.
+   */
+  @Test
+  void testIncrementalChanges() {
+    RecipeRangeIndex index = RecipeRangeIndex.of(recipes.subList(0, 12)).withAdded(recipes.subList(12, 20));
+    assertSameIndex(RecipeRangeIndex.of(recipes), index);
+
+    Set<Recipe> removed = Set.of(recipes.get(0), recipes.get(7), recipes.get(19));
+    List<Recipe> remaining = new ArrayList<>(recipes);
+    remaining.removeAll(removed);
+    RecipeRangeIndex smaller = index.without(removed);
+    assertSameIndex(RecipeRangeIndex.of(remaining), smaller);
+    assertEquals(-1, smaller.idOf(recipes.get(0)));
+    assertEquals(0, smaller.idOf(recipes.get(1)));
+    assertSame(smaller, smaller.without(removed));
+  }
+
+  /**
+   * Tests that attributes are read on first query, and that built attributes are
+   * merged and dropped incrementally while the others are built from scratch.
+   */
+  @Test
+  void testAttributesBuiltOnFirstUse() {
+    RecipeRangeIndex index = RecipeRangeIndex.of(recipes.subList(0, 12));
+    index.matching(RecipeRangeIndex.Attribute.PREP_TIME, 0, 30);
+    assertTrue(recipes.stream().noneMatch(Recipe::isNutritionCalculated));
+
+    index.matching(RecipeRangeIndex.Attribute.CALORIES, 0, 300);
+    assertTrue(recipes.subList(0, 12).stream().allMatch(Recipe::isNutritionCalculated));
+    assertFalse(recipes.get(12).isNutritionCalculated());
+
+    RecipeRangeIndex larger = index.withAdded(recipes.subList(12, 20));
+    assertSameIndex(RecipeRangeIndex.of(recipes), larger);
+    assertSameIndex(RecipeRangeIndex.of(recipes.subList(5, 20)), larger.without(recipes.subList(0, 5)));
+  }
+
+  private static void assertRangeMatchesScan(RecipeRangeIndex index, RecipeRangeIndex.Attribute attribute,
+                                             double min, double max) {
+    BitSet expected = new BitSet();
+    for (int id = 0; id < index.size(); id++) {
+      double value = attribute.valueOf(index.get(id));
+      if (value >= min && value <= max) {
+        expected.set(id);
+      }
+    }
+    assertEquals(expected, index.matching(attribute, min, max), attribute.name());
+    assertEquals(expected.cardinality(), index.count(attribute, min, max), attribute.name());
+    assertEquals(expected.cardinality(), index.inRange(attribute, min, max).size(), attribute.name());
+  }
+
+  private static void assertSameIndex(RecipeRangeIndex expected, RecipeRangeIndex actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int id = 0; id < expected.size(); id++) {
+      assertSame(expected.get(id), actual.get(id));
+    }
+    for (RecipeRangeIndex.Attribute attribute : RecipeRangeIndex.Attribute.values()) {
+      assertArrayEquals(expected.idsInRange(attribute, -1, Double.MAX_VALUE),
+          actual.idsInRange(attribute, -1, Double.MAX_VALUE), attribute.name());
+    }
+  }
+}
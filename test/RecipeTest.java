@@ -216,4 +216,51 @@ class RecipeTest {
     assertTrue(text.contains("asian"));
     assertTrue(text.contains("2"));
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests that a scaled view multiplies the base recipe's nutrition and price.
+   */
+  @Test
+  void testScaledTo() {
+    List<Ingredient> real = new ArrayList<>();
+    real.add(new Ingredient("Chicken Breast", 150, "g", 165, 4.29, "meat", "grilled", "Chicken", 4.29));
+    real.add(new Ingredient("Broccoli", 80, "g", 34, 2.49, "vegetable", "steamed", "Broccoli", 2.49));
+    Recipe recipe = new Recipe("Chicken Plate", "savory", flavorTags, "American", 25, real);
+
+    ScaledRecipe scaled = recipe.scaledTo(4);
+
+    assertSame(recipe, scaled.getRecipe());
+    assertEquals(4.0, scaled.getScaleFactor(), 0.0001);
+    assertEquals(600.0, scaled.getQuantity(0), 0.0001);
+    assertEquals(recipe.getNutritionInfo().getProtein() * 4, scaled.getNutritionInfo().getProtein(), 0.0001);
+    assertEquals(Math.round(recipe.getNutritionInfo().getCalories() * 4), scaled.getCalories());
+    assertEquals(new PriceCalculator().calculateRecipePrice(recipe) * 4, scaled.getTotalPrice(), 0.0001);
+    assertEquals(150.0, recipe.getIngredients().get(0).getQuantity(), 0.0001);
+    assertThrows(IllegalArgumentException.class, () -> recipe.scaledTo(0));
+  }
+
+  /**
+   * Tests that ingredients are resolved once and only the modifier of an ingredient
+   * whose cooking method changed is looked up again.
+   */
+  @Test
+  void testResolvedIngredientsFollowCookingMethod() {
+    Ingredient chicken = new Ingredient("Chicken Breast", 150, "g", 165, 4.29, "meat", "raw", "Chicken", 4.29);
+    Ingredient broccoli = new Ingredient("Broccoli", 80, "g", 34, 2.49, "vegetable", "steamed", "Broccoli", 2.49);
+    Recipe recipe = new Recipe("Chicken Plate", "savory", flavorTags, "American", 25,
+        new ArrayList<>(List.of(chicken, broccoli)));
+
+    List<ResolvedIngredient> resolved = recipe.getResolvedIngredients();
+    assertSame(resolved, recipe.getResolvedIngredients());
+
+    chicken.setCookingMethod("fried");
+    List<ResolvedIngredient> refreshed = recipe.getResolvedIngredients();
+    assertNotSame(resolved, refreshed);
+    assertTrue(refreshed.get(0).isCurrent());
+    assertSame(resolved.get(0).getNutritionPer100g(), refreshed.get(0).getNutritionPer100g());
+    assertEquals(CalorieModifierTable.getInstance().modifierFor("Chicken Breast", "meat", "fried"),
+        refreshed.get(0).getCookingModifier(), 0.0001);
+    assertSame(resolved.get(1), refreshed.get(1));
+    assertSame(refreshed, recipe.getResolvedIngredients());
+  }
+}
@@ -0,0 +1,80 @@
+package filters;
+
+import model.Ingredient;
+import model.Recipe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RecipeTextIndex class.
+ */
+class RecipeTextIndexTest {
+  private List<Recipe> recipes;
+  private RecipeTextIndex index;
+
+  @BeforeEach
+  void setUp() {
+    recipes = new ArrayList<>();
+    recipes.add(recipe("Spaghetti Bolognese", "savory", List.of("rich", "meaty"), "italian", "Ground Beef"));
+    recipes.add(recipe("Chicken Stir Fry", "savory", List.of("light", "crisp"), "chinese", "Chicken Breast"));
+    recipes.add(recipe("Fruit Salad", "sweet", List.of("fresh"), "american", "Apple"));
+    recipes.add(recipe("Beef Tacos", "spicy", List.of("bold"), "mexican", "Ground Beef"));
+    index = RecipeTextIndex.of(recipes);
+  }
+
+  /**
+   * Tests that searches hit every field and agree with a full scan.
+   */
+  @Test
+  void testSearchAgreesWithScan() {
+    TextSearchFilter scan = new TextSearchFilter();
+    String[] queries = {"chicken", "BEEF", "ica", "sweet", "ri", "r", "crisp", "beef tacos",
+        "ground beef", "gh", "ghetti bol", "xyz", "tacosz", "ti fr", " Salad "};
+    for (String query : queries) {
+      List<Recipe> expected = new ArrayList<>();
+      for (Recipe recipe : recipes) {
+        if (scan.matches(recipe, query)) {
+          expected.add(recipe);
+        }
+      }
+      assertEquals(expected, index.filter(query), query);
+    }
+  }
+
+  /**
+   * Tests that grams found apart in a field do not count as a match.
+   */
+  @Test
+  void testScatteredGramsDoNotMatch() {
+    // "spa" and "ese" both occur in "spaghetti bolognese", but "spaese" does not
+    assertArrayEquals(new int[0], index.search("spaese"));
+    assertArrayEquals(new int[] {0, 3}, index.search("beef"));
+    assertArrayEquals(new int[] {0, 1, 2, 3}, index.search("  "));
+  }
+
+  /**
+   * Tests that an indexed filter answers by id and still scans recipes outside the index.
+   */
+  @Test
+  void testIndexedFilter() {
+    TextSearchFilter filter = new TextSearchFilter(index);
+    assertTrue(filter.matches(recipes.get(1), "Stir"));
+    assertFalse(filter.matches(recipes.get(0), "Stir"));
+    assertEquals(1, index.idOf(recipes.get(1)));
+
+    Recipe outside = recipe("Stir Fried Rice", "savory", List.of(), "chinese", "Rice");
+    assertEquals(-1, index.idOf(outside));
+    assertTrue(filter.matches(outside, "stir"));
+  }
+
+  private static Recipe recipe(String name, String flavor, List<String> tags, String cuisine, String ingredient) {
+    List<Ingredient> ingredients = new ArrayList<>();
+    ingredients.add(new Ingredient(ingredient, 100, "g", 100, 1.0, "meat", null, 1.0));
+    return new Recipe(name, flavor, tags, cuisine, 20, ingredients);
+  }
+}
@@ -0,0 +1,46 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Unit class.
+ */
+class UnitTest {
+
+  /**
+   * Tests gram factors for standard and compound unit strings.
+   */
+  @Test
+  void testGramFactors() {
+    assertEquals(15.0, Unit.of("tablespoon (15g)").getGramsPerUnit());
+    assertEquals(5.0, Unit.of("Teaspoon").getGramsPerUnit());
+    assertEquals(240.0, Unit.of("cup (148g)").getGramsPerUnit());
+    assertEquals(1.0, Unit.of("100g").getGramsPerUnit());
+    assertEquals(1.0, Unit.of("ml").getGramsPerUnit());
+    assertEquals("tablespoon", Unit.of(" Tablespoon (12g) ").getCode());
+  }
+
+  /**
+   * Tests that strings with the same meaning share one instance.
+   */
+  @Test
+  void testInterning() {
+    assertSame(Unit.of("tablespoon"), Unit.of("tablespoon (15g)"));
+    assertSame(Unit.of("cup"), Unit.of("CUP"));
+    assertNotSame(Unit.of("g"), Unit.of("piece"));
+  }
+
+  /**
+   * Tests per-piece and per-100g pricing.
+   */
+  @Test
+  void testPricing() {
+    assertTrue(Unit.of("large egg").isPricedPerPiece());
+    assertEquals(1.5, Unit.of("piece").priceOf(3, 0.5), 0.0001);
+    assertEquals(0.05, Unit.of("100g").priceOf(2, 2.5), 0.0001);
+    assertEquals(0.75, Unit.of("tablespoon").priceOf(1, 5.0), 0.0001);
+    assertThrows(IllegalArgumentException.class, () -> Unit.of(" "));
+  }
+}
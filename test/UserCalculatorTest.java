@@ -1,6 +1,8 @@
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import model.UserCalculator;
+import model.NutrientColumns;
+import model.NutritionAccumulator;
 import java.util.Map;
 
 /**
@@ -109,4 +111,16 @@ public class UserCalculatorTest {
         assertEquals(1780.0, bmr, 0.01, "BMR in all user data is incorrect");
         assertEquals(2759.0, tdee, 0.01, "TDEE in all user data is incorrect");
     }
-} 
\ No newline at end of file
+
+    /**
+     * Tests daily nutrient targets derived from weight and TDEE.
+     */
+    @Test
+    public void testCalculateNutrientTargets() {
+        double[] targets = calculator.calculateNutrientTargets(70, 2000);
+        assertEquals(126.0, targets[NutritionAccumulator.PROTEIN], 0.01);
+        assertEquals(66.67, targets[NutritionAccumulator.FAT], 0.01);
+        assertEquals(224.0, targets[NutritionAccumulator.CARBOHYDRATES], 0.01);
+        assertEquals(2000.0, targets[NutrientColumns.CALORIES], 0.01);
+    }
+}